@@ -0,0 +1,350 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 성능 측정용 마이크로벤치마크 모음
+ * 외부 라이브러리 없이 워밍업 후 일정 시간 반복 실행하여 연산당 시간(ns/op)을 출력함
+ * 측정 대상 코드의 콘솔 로그는 버리고(출력 비용은 포함) 결과만 출력함
+ * 저장소, 서버 스냅샷, 알림, 팬아웃, 전송 형식, 일정 줄 파서 벤치마크는 JMH 모듈(jmh/, gradle :jmh:jmh)에 있음
+ * (두 파서의 결과 비교는 퍼즈 테스트 test/TodoLineParserFuzzTest 로 gradle test 에서 실행됨)
+ * 
+ * 사용법: java Benchmark [이름 필터] (보통 run-bench.sh / run-bench.bat 으로 실행)
+ * 
+ * 설정 (시스템 속성)
+ * - calendar.bench.warmupMs / measureMs : 워밍업/측정 시간
+ * - calendar.bench.csv : 결과를 덧붙일 CSV 파일 (릴리스 간 비교용)
+ */
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+public class Benchmark {
+    private static final long WARMUP_NANOS = Long.getLong("calendar.bench.warmupMs", 1000) * 1_000_000L; // 워밍업 시간
+    private static final long MEASURE_NANOS = Long.getLong("calendar.bench.measureMs", 2000) * 1_000_000L; // 측정 시간
+    private static final String CSV_FILE = System.getProperty("calendar.bench.csv"); // 결과 CSV 파일 (없으면 기록 안 함)
+
+    private static final PrintStream console = System.out; // 결과 출력용 (System.out은 측정 중 버림)
+
+    private static volatile long sink; // JIT가 결과를 제거하지 못하도록 누적
+    private static String filter = ""; // 실행할 벤치마크 이름 필터
+    private static PrintWriter csv; // 결과 CSV 기록기
+
+    /**
+     * 측정 대상 연산
+     */
+    interface Case {
+        /**
+         * 연산 1회 실행
+         * 
+         * @return 제거 방지용 임의 값
+         */
+        long run() throws Exception;
+    }
+
+    /**
+     * 벤치마크 실행
+     * 
+     * @param args 명령행 인자 - [이름 필터]
+     */
+    public static void main(String[] args) throws Exception {
+        filter = args.length > 0 ? args[0] : "";
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        if (CSV_FILE != null) {
+            File file = new File(CSV_FILE);
+            boolean header = !file.exists();
+            csv = new PrintWriter(new FileWriter(file, true), true);
+            if (header) {
+                csv.println("date,java,benchmark,ns_per_op,ns_per_unit");
+            }
+        }
+
+        try {
+            benchCalendarLookup();
+            benchCalendarRange();
+            benchCalendarOverlap();
+            benchRecurrence();
+        } finally {
+            if (csv != null) {
+                csv.close();
+            }
+        }
+    }
+
+    /**
+     * 달력 화면 갱신(OurCalendar.updateCal)의 날짜별 조회 - 문자열 날짜 키 + HashMap(기존) vs DayKey + CalendarStore(현재)
+     * (Swing 컴포넌트 갱신은 제외하고, 한 달 동안 날짜마다 키를 만들어 개인/공유 일정을 찾는 부분만 측정)
+     */
+    private static void benchCalendarLookup() throws Exception {
+        int year = 2025;
+        int month = 4;
+        int lastDay = LocalDate.of(year, month + 1, 1).lengthOfMonth();
+        CalendarStore<ToDo> tasks = sampleTasks(300, year, month);
+        CalendarStore<ToDo> sharedTasks = sampleTasks(100, year, month);
+
+        HashMap<String, List<ToDo>> legacyTasks = new HashMap<>();
+        HashMap<String, List<ToDo>> legacySharedTasks = new HashMap<>();
+        for (int key : tasks.keys()) {
+            legacyTasks.put(String.format("%04d-%02d-%02d", DayKey.year(key), DayKey.month(key) + 1, DayKey.day(key)),
+                    tasks.get(key));
+        }
+        for (int key : sharedTasks.keys()) {
+            legacySharedTasks.put(
+                    String.format("%04d-%02d-%02d", DayKey.year(key), DayKey.month(key) + 1, DayKey.day(key)),
+                    sharedTasks.get(key));
+        }
+
+        measure("calendar.monthLookup.stringKeys", lastDay, () -> {
+            long found = 0;
+            for (int day = 1; day <= lastDay; day++) {
+                String key = String.format("%04d-%02d-%02d", year, month + 1, day);
+                List<ToDo> todos = legacyTasks.get(key);
+                List<ToDo> shared = legacySharedTasks.get(key);
+                found += (todos == null ? 0 : todos.size()) + (shared == null ? 0 : shared.size());
+            }
+            return found;
+        });
+        measure("calendar.monthLookup.dayKeys", lastDay, () -> {
+            long found = 0;
+            for (int day = 1; day <= lastDay; day++) {
+                int key = OurCalendar.getDateKey(year, month, day);
+                List<ToDo> todos = tasks.get(key);
+                List<ToDo> shared = sharedTasks.get(key);
+                found += (todos == null ? 0 : todos.size()) + (shared == null ? 0 : shared.size());
+            }
+            return found;
+        });
+    }
+
+    /**
+     * 기간 조회 - 여러 해에 걸친 일정 중 한 달치 찾기, 전체 날짜 훑기(기존) vs 날짜 순 색인 범위 조회(현재)
+     */
+    private static void benchCalendarRange() throws Exception {
+        for (int count : new int[] { 10000, 100000 }) {
+            String scanName = "calendar.range.scan/" + count;
+            String storeName = "calendar.range.store/" + count;
+            if (!scanName.contains(filter) && !storeName.contains(filter))
+                continue;
+
+            // 10년치 일정 (달마다 count / 120개)
+            CalendarStore<ToDo> tasks = new CalendarStore<>();
+            for (int year = 2020; year < 2030; year++) {
+                for (int month = 0; month < 12; month++) {
+                    CalendarStore<ToDo> monthTasks = sampleTasks(count / 120, year, month);
+                    for (int key : monthTasks.keys()) {
+                        tasks.put(key, monthTasks.get(key));
+                    }
+                }
+            }
+            LocalDateTime from = LocalDateTime.of(2025, 5, 1, 0, 0);
+            LocalDateTime to = from.plusMonths(1);
+
+            measure(scanName, 1, () -> {
+                long found = 0;
+                for (List<ToDo> list : tasks.values()) {
+                    for (ToDo todo : list) {
+                        LocalDateTime start = LocalDateTime.of(todo.getStartYear(), todo.getStartMonth() + 1,
+                                todo.getStartDay(), todo.getStartHour(), todo.getStartMinute());
+                        if (!start.isBefore(from) && start.isBefore(to)) {
+                            found++;
+                        }
+                    }
+                }
+                return found;
+            });
+            measure(storeName, 1, () -> tasks.between(from, to).size());
+        }
+    }
+
+    /**
+     * 겹침 조회 - 여러 날에 걸친 일정 중 하루와 겹치는 일정 찾기와 저장 전 충돌 확인,
+     * 전체 일정 훑기(기존) vs 구간 색인(현재), 그리고 구간 색인을 포함한 저장소 구성 비용
+     */
+    private static void benchCalendarOverlap() throws Exception {
+        int count = 100000;
+        String[] names = { "calendar.overlap.build/" + count, "calendar.overlap.scan/" + count,
+                "calendar.overlap.index/" + count, "calendar.conflict.index/" + count };
+        boolean any = false;
+        for (String name : names) {
+            any |= name.contains(filter);
+        }
+        if (!any)
+            return;
+
+        // 10년에 걸쳐 0~3일 동안 이어지는 일정
+        Random random = new Random(Long.getLong("calendar.bench.seed", 20250507L));
+        List<ToDo> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(random.nextInt(10 * 365 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(30 + random.nextInt(3 * 24 * 60));
+            todos.add(new ToDo("일정 " + i, "", false,
+                    start.getYear(), start.getMonthValue() - 1, start.getDayOfMonth(), start.getHour(), start.getMinute(),
+                    end.getYear(), end.getMonthValue() - 1, end.getDayOfMonth(), end.getHour(), end.getMinute(),
+                    "없음", "없음", ""));
+        }
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+        for (ToDo todo : todos) {
+            tasks.computeIfAbsent(DayKey.of(todo), k -> new ArrayList<>()).add(todo);
+        }
+        int day = DayKey.of(2025, 4, 15);
+        ToDo candidate = new ToDo("새 일정", "", false, 2025, 4, 15, 14, 0, 2025, 4, 15, 15, 0, "없음", "없음", "");
+
+        measure(names[0], count, () -> {
+            CalendarStore<ToDo> store = new CalendarStore<>();
+            for (ToDo todo : todos) {
+                store.computeIfAbsent(DayKey.of(todo), k -> new ArrayList<>()).add(todo);
+            }
+            return store.size();
+        });
+        measure(names[1], 1, () -> {
+            long from = IntervalIndex.dayStart(day);
+            long to = IntervalIndex.dayEnd(day);
+            long found = 0;
+            for (List<ToDo> list : tasks.values()) {
+                for (ToDo todo : list) {
+                    if (IntervalIndex.startOf(todo) < to && IntervalIndex.endOf(todo) > from) {
+                        found++;
+                    }
+                }
+            }
+            return found;
+        });
+        measure(names[2], 1, () -> tasks.overlappingDay(day).size());
+        measure(names[3], 1, () -> tasks.conflicts(candidate, null).size());
+    }
+
+    /**
+     * 반복 일정 펼침 - 2020년에 만든 반복 일정(매일/매주/매달/매년)을 2030년의 한 달에 펼치는 비용,
+     * 처음 펼칠 때(cold)와 캐시된 달을 다시 그릴 때(cached), 그리고 다음 알림 시각 계산
+     */
+    private static void benchRecurrence() throws Exception {
+        int count = 1000;
+        String[] names = { "recurrence.month.cold/" + count, "recurrence.month.cached/" + count,
+                "recurrence.nextNotify/" + count };
+        boolean any = false;
+        for (String name : names) {
+            any |= name.contains(filter);
+        }
+        if (!any)
+            return;
+
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+        for (int i = 0; i < count; i++) {
+            int month = i % 12;
+            int day = 1 + i % 28;
+            ToDo todo = new ToDo("반복 " + i, "", false, 2020, month, day, 9 + i % 8, (i * 5) % 60,
+                    2020, month, day, 10 + i % 8, (i * 5) % 60,
+                    "10분 전", ToDo.REPEAT_OPTIONS[1 + i % 4], "");
+            tasks.computeIfAbsent(DayKey.of(todo), k -> new ArrayList<>()).add(todo);
+        }
+        int year = 2030;
+        int month = 4;
+        int lastDay = LocalDate.of(year, month + 1, 1).lengthOfMonth();
+        RecurrenceCache<ToDo> cached = new RecurrenceCache<>(tasks, Collections.emptyList());
+        cached.month(year, month);
+        LocalDateTime now = LocalDateTime.of(2030, 5, 15, 12, 0);
+
+        measure(names[0], count, () -> {
+            RecurrenceCache<ToDo> cache = new RecurrenceCache<>(tasks, Collections.emptyList());
+            return cache.month(year, month).size();
+        });
+        measure(names[1], lastDay, () -> {
+            long found = 0;
+            for (int day = 1; day <= lastDay; day++) {
+                found += cached.on(DayKey.of(year, month, day)).size();
+            }
+            return found;
+        });
+        measure(names[2], count, () -> {
+            long sum = 0;
+            for (ToDo todo : tasks.repeating()) {
+                sum += Recurrence.nextNotifyTime(todo, now).getMinute();
+            }
+            return sum;
+        });
+    }
+
+    /**
+     * 벤치마크용 공유 일정 생성
+     * 
+     * @param i 일련번호
+     * @return 샘플 공유 일정
+     */
+    static SharedToDo sampleTodo(int i) {
+        return new SharedToDo("회의 " + i, "회의실 " + (i % 10), i % 7 == 0,
+                2025, i % 12, 1 + i % 28, 9 + i % 8, (i * 5) % 60,
+                2025, i % 12, 1 + i % 28, 10 + i % 8, (i * 5) % 60,
+                "10분 전", "없음", "메모 " + i, "user" + (i % 50), "user" + (i % 50) + "_" + i);
+    }
+
+    /**
+     * 한 달에 고르게 퍼진 개인 일정 생성
+     * 
+     * @param count 일정 수
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 날짜 키별 일정 목록
+     */
+    static CalendarStore<ToDo> sampleTasks(int count, int year, int month) {
+        int days = LocalDate.of(year, month + 1, 1).lengthOfMonth();
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+        for (int i = 0; i < count; i++) {
+            int day = 1 + i % days;
+            ToDo todo = new ToDo("할 일 " + i, "장소 " + (i % 10), i % 7 == 0,
+                    year, month, day, 9 + i % 8, (i * 5) % 60,
+                    year, month, day, 10 + i % 8, (i * 5) % 60,
+                    ToDo.ALARM_OPTIONS[i % ToDo.ALARM_OPTIONS.length], "없음", "메모 " + i);
+            tasks.computeIfAbsent(OurCalendar.getDateKey(year, month, day), k -> new ArrayList<>()).add(todo);
+        }
+        return tasks;
+    }
+
+    /**
+     * 워밍업 후 측정하여 결과 출력
+     * 
+     * @param name       벤치마크 이름
+     * @param unitsPerOp 연산 1회에 포함된 단위 작업 수 (단위당 시간 출력용)
+     * @param benchCase  측정 대상 연산
+     */
+    static void measure(String name, int unitsPerOp, Case benchCase) throws Exception {
+        if (!name.contains(filter))
+            return;
+
+        long result = 0;
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        while (System.nanoTime() < warmupEnd) {
+            result += benchCase.run();
+        }
+
+        long ops = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            result += benchCase.run();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MEASURE_NANOS);
+        sink += result;
+
+        double nsPerOp = elapsed / (double) ops;
+        if (unitsPerOp > 1) {
+            console.printf("%-45s %14.1f ns/op %12.1f ns/unit%n", name, nsPerOp, nsPerOp / unitsPerOp);
+        } else {
+            console.printf("%-45s %14.1f ns/op%n", name, nsPerOp);
+        }
+        if (csv != null) {
+            csv.printf(java.util.Locale.ROOT, "%s,%s,%s,%.1f,%.1f%n", LocalDate.now(), System.getProperty("java.version"),
+                    name, nsPerOp, nsPerOp / unitsPerOp);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버와 클라이언트가 닉네임 핸드셰이크 뒤에 전환할 수 있는 바이너리 프로토콜 클래스
+ * 
+ * 협상: 클라이언트가 PROTOCOL|binary1 을 보내면 서버는 같은 줄(수락) 또는 PROTOCOL|text(거절)로 답하며,
+ * 수락 응답 직후부터 양방향 모두 아래 프레임을 사용함
+ * 
+ * 프레임: [길이 varint][종류 1바이트][내용]
+ * - TEXT        : 텍스트 프로토콜 메시지 한 줄 (UTF-8) - 제어 메시지용
+ * - 일정 메시지 : [리비전 varint (없으면 0)][일정]
+ * 일정: 제목, 장소 (문자열) / 하루종일 (1바이트) / 시작·종료 연월일시분 (varint 10개) /
+ *       알림, 반복 (자주 쓰는 값은 1바이트 코드) / 메모, 생성자, ID (문자열)
+ * 문자열은 [바이트 길이 varint][UTF-8], 정수는 zigzag varint로 기록함
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class BinaryProtocol {
+    static final String NEGOTIATION = "PROTOCOL|binary1"; // 전환 요청 및 수락 응답
+    static final String DECLINE = "PROTOCOL|text"; // 전환 거절 응답
+    static final int MAX_FRAME_LENGTH = 64 * 1024; // 최대 프레임 길이 (텍스트 한 줄 제한과 같음)
+
+    // 프레임 종류
+    static final int TEXT = 0; // 텍스트 메시지
+    static final int NEW_TODO = 1; // 새 공유 일정 (서버 -> 클라이언트)
+    static final int UPDATE_TODO = 2; // 공유 일정 수정 (양방향)
+    static final int EXISTING_TODO = 3; // 전체 동기화 일정
+    static final int SYNC_TODO = 4; // 증분 동기화 일정
+    static final int SHARE_TODO = 5; // 공유 일정 추가 요청 (클라이언트 -> 서버)
+
+    private static final String[] TEXT_COMMANDS = { null, "NEW_TODO", "UPDATE_TODO", "EXISTING_TODO",
+            "SYNC_TODO", "SHARE_TODO" }; // 프레임 종류별 텍스트 명령
+
+    // 알림/반복 설정은 ToDoForm의 선택지이므로 1바이트 코드로 전송 (그 외 값은 문자열로)
+    private static final String[] ALARMS = ToDo.ALARM_OPTIONS;
+    private static final String[] REPEATS = ToDo.REPEAT_OPTIONS;
+    private static final int CUSTOM_VALUE = 0xFF; // 목록에 없는 값 표시
+
+    /**
+     * 수신한 프레임 하나
+     */
+    static class Frame {
+        final int type; // 프레임 종류
+        final String text; // TEXT 프레임의 메시지
+        final SharedToDo todo; // 일정 프레임의 일정
+        final long revision; // 일정 프레임의 리비전 (없으면 0)
+
+        Frame(int type, String text, SharedToDo todo, long revision) {
+            this.type = type;
+            this.text = text;
+            this.todo = todo;
+            this.revision = revision;
+        }
+    }
+
+    /**
+     * 텍스트 메시지를 TEXT 프레임으로 인코딩
+     * 
+     * @param message 텍스트 메시지 (줄바꿈 제외)
+     * @return 인코딩된 프레임
+     */
+    static byte[] encodeText(String message) {
+        FrameWriter writer = new FrameWriter();
+        writer.writeByte(TEXT);
+        writer.writeBytes(message.getBytes(StandardCharsets.UTF_8));
+        return writer.toFrame();
+    }
+
+    /**
+     * 일정 메시지를 프레임으로 인코딩
+     * 
+     * @param type     프레임 종류 (NEW_TODO 등)
+     * @param todo     일정
+     * @param creator  생성자 닉네임 (서버가 정하게 하려면 빈 문자열)
+     * @param id       일정 ID (서버가 정하게 하려면 빈 문자열)
+     * @param revision 리비전 (없으면 0)
+     * @return 인코딩된 프레임
+     */
+    static byte[] encodeTodo(int type, ToDo todo, String creator, String id, long revision) {
+        FrameWriter writer = new FrameWriter();
+        writer.writeByte(type);
+        writer.writeVarLong(revision);
+        writer.writeString(todo.getTaskName());
+        writer.writeString(todo.getLocation());
+        writer.writeByte(todo.isAllDay() ? 1 : 0);
+        writer.writeVarInt(todo.getStartYear());
+        writer.writeVarInt(todo.getStartMonth());
+        writer.writeVarInt(todo.getStartDay());
+        writer.writeVarInt(todo.getStartHour());
+        writer.writeVarInt(todo.getStartMinute());
+        writer.writeVarInt(todo.getEndYear());
+        writer.writeVarInt(todo.getEndMonth());
+        writer.writeVarInt(todo.getEndDay());
+        writer.writeVarInt(todo.getEndHour());
+        writer.writeVarInt(todo.getEndMinute());
+        writer.writeEnum(ALARMS, todo.getAlarm());
+        writer.writeEnum(REPEATS, todo.getRepeat());
+        writer.writeString(todo.getMemo());
+        writer.writeString(creator);
+        writer.writeString(id);
+        return writer.toFrame();
+    }
+
+    /**
+     * 공유 일정 메시지를 프레임으로 인코딩
+     * 
+     * @param type     프레임 종류
+     * @param todo     공유 일정
+     * @param revision 리비전 (없으면 0)
+     * @return 인코딩된 프레임
+     */
+    static byte[] encodeTodo(int type, SharedToDo todo, long revision) {
+        return encodeTodo(type, todo, todo.getCreator(), todo.getId(), revision);
+    }
+
+    /**
+     * 프레임 종류에 해당하는 텍스트 명령 반환
+     * 
+     * @param type 일정 프레임 종류
+     * @return 텍스트 명령 (NEW_TODO 등)
+     */
+    static String textCommand(int type) {
+        return TEXT_COMMANDS[type];
+    }
+
+    /**
+     * 스트림에서 프레임 하나를 읽음
+     * 
+     * @param in 입력 스트림
+     * @return 프레임 내용 (길이 제외), 스트림이 끝났으면 null
+     * @throws IOException 읽기 실패 또는 잘못된 길이
+     */
+    static byte[] readFrame(InputStream in) throws IOException {
+        int length = 0;
+        for (int shift = 0;; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0)
+                    return null;
+                throw new EOFException("프레임 길이 도중 연결 종료");
+            }
+            if (shift > 28)
+                throw new IOException("잘못된 프레임 길이");
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                break;
+        }
+        if (length <= 0 || length > MAX_FRAME_LENGTH)
+            throw new IOException("잘못된 프레임 길이: " + length);
+
+        byte[] payload = in.readNBytes(length);
+        if (payload.length < length)
+            throw new EOFException("프레임 도중 연결 종료");
+        return payload;
+    }
+
+    /**
+     * 버퍼 앞부분에 완성된 프레임이 있으면 그 전체 길이를 반환 (NIO 수신용)
+     * 
+     * @param buffer 수신 버퍼
+     * @param length 버퍼에 채워진 길이
+     * @return 길이 접두사를 포함한 프레임 전체 길이, 아직 길이를 알 수 없으면 -1
+     * @throws IOException 잘못된 길이
+     */
+    static int frameLength(byte[] buffer, int length) throws IOException {
+        int payloadLength = 0;
+        for (int i = 0; i < length && i < 5; i++) {
+            int b = buffer[i] & 0xFF;
+            payloadLength |= (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                if (payloadLength <= 0 || payloadLength > MAX_FRAME_LENGTH)
+                    throw new IOException("잘못된 프레임 길이: " + payloadLength);
+                return i + 1 + payloadLength;
+            }
+        }
+        if (length >= 5)
+            throw new IOException("잘못된 프레임 길이");
+        return -1;
+    }
+
+    /**
+     * 프레임 내용 해석
+     * 
+     * @param payload        프레임 내용 (길이 제외)
+     * @param offset         시작 위치
+     * @param length         내용 길이
+     * @param defaultCreator ID 없는 일정(SHARE_TODO)에 붙일 생성자, 받는 쪽이 클라이언트면 null
+     * @return 해석된 프레임
+     * @throws IOException 형식이 잘못된 경우
+     */
+    static Frame decode(byte[] payload, int offset, int length, String defaultCreator) throws IOException {
+        FrameReader reader = new FrameReader(payload, offset, offset + length);
+        int type = reader.readByte();
+        if (type == TEXT) {
+            return new Frame(TEXT, reader.readRemainingString(), null, 0);
+        }
+        if (type >= TEXT_COMMANDS.length) {
+            throw new IOException("알 수 없는 프레임 종류: " + type);
+        }
+
+        long revision = reader.readVarLong();
+        String taskName = reader.readString();
+        String location = reader.readString();
+        boolean allDay = reader.readByte() != 0;
+        int startYear = reader.readVarInt();
+        int startMonth = reader.readVarInt();
+        int startDay = reader.readVarInt();
+        int startHour = reader.readVarInt();
+        int startMinute = reader.readVarInt();
+        int endYear = reader.readVarInt();
+        int endMonth = reader.readVarInt();
+        int endDay = reader.readVarInt();
+        int endHour = reader.readVarInt();
+        int endMinute = reader.readVarInt();
+        String alarm = reader.readEnum(ALARMS);
+        String repeat = reader.readEnum(REPEATS);
+        String memo = reader.readString();
+        String creator = reader.readString();
+        String id = reader.readString();
+
+        SharedToDo todo;
+        if (id.isEmpty() && defaultCreator != null) {
+            // 기본 ToDo 공유 - 서버가 생성자와 새 ID를 정함
+            todo = new SharedToDo(taskName, location, allDay, startYear, startMonth, startDay, startHour,
+                    startMinute, endYear, endMonth, endDay, endHour, endMinute, alarm, repeat, memo, defaultCreator);
+        } else {
+            todo = new SharedToDo(taskName, location, allDay, startYear, startMonth, startDay, startHour,
+                    startMinute, endYear, endMonth, endDay, endHour, endMinute, alarm, repeat, memo, creator, id);
+        }
+        return new Frame(type, null, todo, revision);
+    }
+
+    /**
+     * 길이 접두사를 포함한 프레임 해석 (NIO 수신용)
+     * 
+     * @param frame          프레임이 앞부분에 담긴 버퍼
+     * @param length         frameLength가 반환한 프레임 전체 길이
+     * @param defaultCreator ID 없는 일정에 붙일 생성자, 받는 쪽이 클라이언트면 null
+     * @return 해석된 프레임
+     * @throws IOException 형식이 잘못된 경우
+     */
+    static Frame decodeFrame(byte[] frame, int length, String defaultCreator) throws IOException {
+        int header = 1;
+        while ((frame[header - 1] & 0x80) != 0) {
+            header++;
+        }
+        return decode(frame, header, length - header, defaultCreator);
+    }
+
+    /**
+     * 프레임 내용 해석 (배열 전체)
+     * 
+     * @param payload        프레임 내용
+     * @param defaultCreator ID 없는 일정에 붙일 생성자, 받는 쪽이 클라이언트면 null
+     * @return 해석된 프레임
+     * @throws IOException 형식이 잘못된 경우
+     */
+    static Frame decode(byte[] payload, String defaultCreator) throws IOException {
+        return decode(payload, 0, payload.length, defaultCreator);
+    }
+
+    /**
+     * 스트림에서 텍스트 한 줄을 읽음 (끝의 \r 제거)
+     * 필요한 바이트만 소비하므로 같은 스트림에서 이어서 바이너리 프레임을 읽을 수 있음
+     * 
+     * @param in      입력 스트림 (BufferedInputStream 권장)
+     * @param charset 텍스트 문자셋
+     * @return 읽은 줄, 스트림이 끝났으면 null
+     * @throws IOException 읽기 실패 또는 줄이 너무 긴 경우
+     */
+    static String readLine(InputStream in, Charset charset) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                return line.size() == 0 ? null : line.toString(charset);
+            }
+            if (line.size() >= MAX_FRAME_LENGTH)
+                throw new IOException("메시지가 너무 김");
+            line.write(b);
+        }
+        byte[] bytes = line.toByteArray();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * 프레임 작성기 - 내용을 모은 뒤 길이 접두사를 붙여 반환
+     */
+    private static class FrameWriter {
+        private byte[] buffer = new byte[128]; // 내용 버퍼 (앞 5바이트는 길이 접두사 자리)
+        private int position = 5; // 다음 기록 위치
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL); // zigzag - 음수도 짧게
+        }
+
+        void writeString(String value) {
+            byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeEnum(String[] values, String value) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].equals(value)) {
+                    writeByte(i);
+                    return;
+                }
+            }
+            writeByte(CUSTOM_VALUE);
+            writeString(value);
+        }
+
+        /**
+         * 길이 접두사를 붙인 프레임 반환
+         * 
+         * @return 완성된 프레임
+         */
+        byte[] toFrame() {
+            int length = position - 5;
+            int headerSize = 1;
+            for (int v = length >>> 7; v != 0; v >>>= 7) {
+                headerSize++;
+            }
+            int start = 5 - headerSize;
+            int v = length;
+            for (int i = start; i < 5; i++) {
+                buffer[i] = (byte) (i == 4 ? v & 0x7F : (v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            return Arrays.copyOfRange(buffer, start, position);
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    /**
+     * 프레임 내용 해석기
+     */
+    private static class FrameReader {
+        private final byte[] buffer; // 프레임 내용
+        private int position; // 다음 읽기 위치
+        private final int end; // 내용 끝 위치
+
+        FrameReader(byte[] buffer, int position, int end) {
+            this.buffer = buffer;
+            this.position = position;
+            this.end = end;
+        }
+
+        int readByte() throws IOException {
+            if (position >= end)
+                throw new EOFException("프레임 내용 부족");
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return value;
+            }
+            throw new IOException("잘못된 varint");
+        }
+
+        int readVarInt() throws IOException {
+            int zigzag = (int) readVarLong();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > end - position)
+                throw new IOException("잘못된 문자열 길이: " + length);
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        String readRemainingString() {
+            String value = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+            position = end;
+            return value;
+        }
+
+        String readEnum(String[] values) throws IOException {
+            int code = readByte();
+            if (code == CUSTOM_VALUE)
+                return readString();
+            if (code >= values.length)
+                throw new IOException("알 수 없는 설정 코드: " + code);
+            return values[code];
+        }
+    }
+}
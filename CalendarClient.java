@@ -6,21 +6,32 @@
  * 
  * 캘린더 서버와 통신하는 클라이언트 클래스
  * 공유 일정의 생성, 수정, 삭제를 서버와 실시간 동기화함
+ * 연결 시 마지막 동기화 지점(서버실행ID|리비전)을 보내 그 이후의 변경만 받음
+ * 수신한 공유 일정 변경은 OurCalendar가 짧은 시간 창 단위로 묶어 캐시 저장과 화면 갱신을 한 번씩만 함
+ * connect는 응답을 기다리므로 OurCalendar가 별도 스레드에서 호출함 (연결하는 동안에도 화면은 동작)
  */
 
 import java.io.*;
 import java.net.*;
+import java.nio.charset.Charset;
 
 public class CalendarClient {
     private static final String SERVER_HOST = "localhost"; // 서버 호스트
     private static final int SERVER_PORT = 12345; // 서버 포트
+    private static final int NEGOTIATION_TIMEOUT_MS = 3000; // 바이너리 전환 응답 대기 시간
+    // 바이너리 프로토콜 사용 여부 (calendar.protocol=text 로 실행하면 텍스트 프로토콜 유지)
+    private static final boolean BINARY_ENABLED = !"text".equalsIgnoreCase(System.getProperty("calendar.protocol"));
 
     private Socket socket; // 서버 연결 소켓
-    private BufferedReader in; // 입력 스트림
-    private PrintWriter out; // 출력 스트림
+    private InputStream in; // 입력 스트림 (텍스트 줄과 바이너리 프레임을 모두 읽으므로 바이트 단위)
+    private PrintWriter out; // 출력 스트림 (텍스트 프로토콜)
+    private OutputStream rawOut; // 출력 스트림 (바이너리 프로토콜)
+    private boolean binary = false; // 바이너리 프로토콜 전환 여부
     private String nickname; // 사용자 닉네임
     private OurCalendar calendar; // 캘린더 객체 참조
     private boolean connected = false; // 연결 상태
+    private String syncEpoch; // 동기화한 서버 실행 ID
+    private boolean synced = false; // 연결 후 첫 동기화 완료 여부 (수신 스레드 전용)
 
     /**
      * CalendarClient 생성자
@@ -32,28 +43,45 @@ public class CalendarClient {
     }
 
     /**
-     * 서버에 연결 시도
+     * 서버에 연결 시도 (공유 일정 전체 동기화)
      * 
      * @param nickname 사용자 닉네임
      * @return 연결 성공 여부
      */
     public boolean connect(String nickname) {
+        return connect(nickname, "0|0");
+    }
+
+    /**
+     * 서버에 연결 시도
+     * 
+     * @param nickname  사용자 닉네임
+     * @param syncPoint 로컬 공유 일정 캐시의 동기화 지점 ("서버실행ID|리비전")
+     * @return 연결 성공 여부
+     */
+    public boolean connect(String nickname, String syncPoint) {
         try {
             // 서버에 소켓 연결
             socket = new Socket(SERVER_HOST, SERVER_PORT);
-            in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            out = new PrintWriter(socket.getOutputStream(), true);
+            in = new BufferedInputStream(socket.getInputStream());
+            rawOut = new BufferedOutputStream(socket.getOutputStream());
+            out = new PrintWriter(rawOut, true);
 
             this.nickname = nickname;
             // 서버에 닉네임 전송
             out.println(nickname);
 
             // 서버 응답 확인
-            String response = in.readLine();
+            String response = readLine();
             if (response != null && response.startsWith("CONNECTED")) {
                 connected = true;
+                if (BINARY_ENABLED) {
+                    negotiateBinary();
+                }
+                // 마지막 동기화 이후의 변경만 요청
+                send("SYNC_SINCE|" + syncPoint);
                 startMessageListener(); // 메시지 수신 스레드 시작
-                System.out.println("서버 연결 성공: " + nickname);
+                System.out.println("서버 연결 성공: " + nickname + (binary ? " (바이너리 프로토콜)" : ""));
                 return true;
             }
         } catch (IOException e) {
@@ -63,28 +91,104 @@ public class CalendarClient {
         return false;
     }
 
+    /**
+     * 바이너리 프로토콜 전환 요청 - 응답 전에 도착한 브로드캐스트는 텍스트로 처리
+     * 응답이 없는 이전 버전 서버와는 텍스트 프로토콜을 유지함
+     */
+    private void negotiateBinary() throws IOException {
+        out.println(BinaryProtocol.NEGOTIATION);
+        socket.setSoTimeout(NEGOTIATION_TIMEOUT_MS);
+        try {
+            String line;
+            while ((line = readLine()) != null) {
+                if (line.startsWith("PROTOCOL|")) {
+                    binary = line.equals(BinaryProtocol.NEGOTIATION);
+                    break;
+                }
+                handleServerMessageSafely(line);
+            }
+        } catch (SocketTimeoutException e) {
+            System.out.println("바이너리 프로토콜 응답 없음 - 텍스트 프로토콜 사용");
+        } finally {
+            socket.setSoTimeout(0);
+        }
+    }
+
+    /**
+     * 텍스트 한 줄 수신
+     * 
+     * @return 수신한 줄, 연결이 끊겼으면 null
+     */
+    private String readLine() throws IOException {
+        return BinaryProtocol.readLine(in, Charset.defaultCharset());
+    }
+
     /**
      * 서버로부터 메시지를 수신하는 백그라운드 스레드 시작
      */
     private void startMessageListener() {
         Thread listener = new Thread(() -> {
             try {
-                String message;
                 // 연결이 유지되는 동안 메시지 수신
-                while (connected && (message = in.readLine()) != null) {
-                    handleServerMessage(message);
+                while (connected) {
+                    if (binary) {
+                        byte[] payload = BinaryProtocol.readFrame(in);
+                        if (payload == null)
+                            break;
+                        // 잘못된 메시지 하나 때문에 수신 스레드가 끝나지 않도록 메시지마다 예외 처리
+                        try {
+                            handleFrame(BinaryProtocol.decode(payload, null));
+                        } catch (RuntimeException e) {
+                            System.err.println("서버 프레임 처리 실패 (" + payload.length + "바이트): " + e);
+                        }
+                    } else {
+                        String message = readLine();
+                        if (message == null)
+                            break;
+                        handleServerMessageSafely(message);
+                    }
                 }
             } catch (IOException e) {
                 if (connected) {
                     System.err.println("서버 연결 끊어짐: " + e.getMessage());
-                    connected = false;
                 }
             }
+            // 서버 쪽에서 연결이 끊겼으면 화면에 알림 (disconnect로 직접 끊은 경우 제외)
+            if (connected) {
+                connected = false;
+                calendar.connectionLost();
+            }
         });
         listener.setDaemon(true); // 데몬 스레드로 설정
         listener.start();
     }
 
+    /**
+     * 바이너리 프로토콜로 받은 프레임 처리
+     * 
+     * @param frame 해석된 프레임
+     */
+    private void handleFrame(BinaryProtocol.Frame frame) {
+        if (frame.type == BinaryProtocol.TEXT) {
+            handleServerMessage(frame.text);
+        } else {
+            handleTodo(frame.type, frame.todo, frame.revision);
+        }
+    }
+
+    /**
+     * 서버로부터 받은 메시지 처리 - 잘못된 메시지는 기록만 하고 건너뜀
+     * 
+     * @param message 서버 메시지
+     */
+    private void handleServerMessageSafely(String message) {
+        try {
+            handleServerMessage(message);
+        } catch (RuntimeException e) {
+            System.err.println("서버 메시지 처리 실패: " + message + " (" + e + ")");
+        }
+    }
+
     /**
      * 서버로부터 받은 메시지 처리
      * 
@@ -100,44 +204,127 @@ public class CalendarClient {
 
         switch (command) {
             case "CLEAR_SHARED_CACHE":
-                // 공유 캐시 초기화 명령
+                // 공유 캐시 초기화 명령 (전체 동기화 시작)
                 calendar.clearSharedCache();
-                System.out.println("공유 일정 캐시 초기화됨");
+                System.out.println("공유 일정 캐시 초기화됨 (" + data + ")");
+                break;
+            case "SYNC_DELETE":
+                // 마지막 동기화 이후 삭제된 공유 일정
+                calendar.deleteSharedTodo(data, false);
+                break;
+            case "SYNC_DONE":
+                // 동기화 완료 - 이후 브로드캐스트의 리비전을 기록
+                syncEpoch = data.substring(0, data.lastIndexOf('|'));
+                synced = true;
+                calendar.recordSyncPoint(data);
+                System.out.println("공유 일정 동기화 완료: " + data);
                 break;
             case "NEW_TODO":
-                // 새 공유 일정 수신
-                SharedToDo newTodo = SharedToDo.fromCompleteNetworkString(data);
-                if (newTodo != null && !newTodo.getCreator().equals(nickname)) {
-                    calendar.addSharedTodo(newTodo, true);
+            case "UPDATE_TODO":
+                // 브로드캐스트 (일정|리비전)
+                SharedToDo todo = SharedToDo.fromCompleteNetworkString(data);
+                if (todo != null) {
+                    int type = command.equals("NEW_TODO") ? BinaryProtocol.NEW_TODO : BinaryProtocol.UPDATE_TODO;
+                    handleTodo(type, todo, Long.parseLong(data.substring(data.lastIndexOf('|') + 1)));
                 }
                 break;
             case "EXISTING_TODO":
-                // 기존 공유 일정 수신 (연결 시 서버에서 전송)
-                SharedToDo existingTodo = SharedToDo.fromCompleteNetworkString(data);
-                if (existingTodo != null) {
-                    calendar.addSharedTodo(existingTodo, false);
-                    System.out
-                            .println("기존 공유 일정 로드: " + existingTodo.getTaskName() + " by " + existingTodo.getCreator());
-                }
-                break;
-            case "UPDATE_TODO":
-                // 공유 일정 업데이트 수신
-                SharedToDo updatedTodo = SharedToDo.fromCompleteNetworkString(data);
-                if (updatedTodo != null) {
-                    calendar.updateSharedTodo(updatedTodo);
-                    System.out.println("공유 일정 업데이트 수신: " + updatedTodo.getTaskName() + " by " + updatedTodo.getCreator()
-                            + " (ID: " + updatedTodo.getId() + ")");
+            case "SYNC_TODO":
+                // 동기화 응답 일정
+                SharedToDo syncedTodo = SharedToDo.fromCompleteNetworkString(data);
+                if (syncedTodo != null) {
+                    handleTodo(command.equals("EXISTING_TODO") ? BinaryProtocol.EXISTING_TODO : BinaryProtocol.SYNC_TODO,
+                            syncedTodo, 0);
                 }
                 break;
             case "DELETE_TODO":
-                // 공유 일정 삭제 수신
-                String todoId = data;
+                // 공유 일정 삭제 수신 (ID|리비전)
+                String todoId = data.substring(0, data.lastIndexOf('|'));
                 calendar.deleteSharedTodo(todoId);
                 System.out.println("공유 일정 삭제 수신: " + todoId);
+                recordRevision(Long.parseLong(data.substring(data.lastIndexOf('|') + 1)));
+                break;
+            case "REMIND":
+                // 서버가 알림 시각에 보낸 공유 일정 알림 (ID)
+                calendar.remindSharedTodo(data);
                 break;
         }
     }
 
+    /**
+     * 일정이 담긴 메시지 처리 (텍스트/바이너리 공통)
+     * 
+     * @param type     메시지 종류 (BinaryProtocol.NEW_TODO 등)
+     * @param todo     수신한 일정
+     * @param revision 브로드캐스트 리비전 (동기화 응답이면 0)
+     */
+    private void handleTodo(int type, SharedToDo todo, long revision) {
+        switch (type) {
+            case BinaryProtocol.NEW_TODO:
+                // 새 공유 일정 수신
+                if (!todo.getCreator().equals(nickname)) {
+                    calendar.addSharedTodo(todo, true);
+                }
+                recordRevision(revision);
+                break;
+            case BinaryProtocol.UPDATE_TODO:
+                // 공유 일정 업데이트 수신
+                calendar.updateSharedTodo(todo);
+                System.out.println("공유 일정 업데이트 수신: " + todo.getTaskName() + " by " + todo.getCreator()
+                        + " (ID: " + todo.getId() + ")");
+                recordRevision(revision);
+                break;
+            case BinaryProtocol.EXISTING_TODO:
+                // 기존 공유 일정 수신 (전체 동기화)
+                calendar.addSharedTodo(todo, false);
+                System.out.println("기존 공유 일정 로드: " + todo.getTaskName() + " by " + todo.getCreator());
+                break;
+            case BinaryProtocol.SYNC_TODO:
+                // 마지막 동기화 이후 추가/수정된 공유 일정
+                calendar.upsertSharedTodo(todo);
+                break;
+        }
+    }
+
+    /**
+     * 브로드캐스트 리비전을 동기화 지점으로 기록
+     * 첫 동기화가 끝나기 전의 브로드캐스트는 동기화 응답보다 앞설 수 있으므로 기록하지 않음
+     * 
+     * @param revision 브로드캐스트 리비전
+     */
+    private void recordRevision(long revision) {
+        if (!synced)
+            return;
+        calendar.recordSyncPoint(syncEpoch + "|" + revision);
+    }
+
+    /**
+     * 텍스트 명령을 현재 프로토콜로 전송 (바이너리면 TEXT 프레임)
+     * 
+     * @param message 텍스트 명령
+     */
+    private synchronized void send(String message) {
+        if (binary) {
+            sendFrame(BinaryProtocol.encodeText(message));
+        } else {
+            out.println(message);
+        }
+    }
+
+    /**
+     * 바이너리 프레임 전송
+     * 
+     * @param frame 인코딩된 프레임
+     */
+    private synchronized void sendFrame(byte[] frame) {
+        try {
+            rawOut.write(frame);
+            rawOut.flush();
+        } catch (IOException e) {
+            System.err.println("메시지 전송 실패: " + e.getMessage());
+        }
+    }
+
     /**
      * SharedToDo 객체를 서버에 공유
      * 
@@ -149,8 +336,11 @@ public class CalendarClient {
             return;
         }
 
-        String message = "SHARE_TODO|" + sharedTodo.toNetworkString();
-        out.println(message);
+        if (binary) {
+            sendFrame(BinaryProtocol.encodeTodo(BinaryProtocol.SHARE_TODO, sharedTodo, 0));
+        } else {
+            send("SHARE_TODO|" + sharedTodo.toNetworkString());
+        }
         System.out.println("공유 일정 전송 (ID 포함): " + sharedTodo.getTaskName() + " (ID: " + sharedTodo.getId() + ")");
     }
 
@@ -165,16 +355,19 @@ public class CalendarClient {
             return;
         }
 
-        // ToDo 객체의 속성을 문자열로 직렬화
-        String message = "SHARE_TODO|" + String.format("%s|%s|%b|%d|%d|%d|%d|%d|%d|%d|%d|%d|%d|%s|%s|%s",
-                todo.getTaskName(), todo.getLocation(), todo.isAllDay(),
-                todo.getStartYear(), todo.getStartMonth(), todo.getStartDay(),
-                todo.getStartHour(), todo.getStartMinute(),
-                todo.getEndYear(), todo.getEndMonth(), todo.getEndDay(),
-                todo.getEndHour(), todo.getEndMinute(),
-                todo.getAlarm(), todo.getRepeat(), todo.getMemo());
-
-        out.println(message);
+        if (binary) {
+            // 생성자와 ID는 서버가 정함
+            sendFrame(BinaryProtocol.encodeTodo(BinaryProtocol.SHARE_TODO, todo, "", "", 0));
+        } else {
+            // ToDo 객체의 속성을 문자열로 직렬화
+            send("SHARE_TODO|" + String.format("%s|%s|%b|%d|%d|%d|%d|%d|%d|%d|%d|%d|%d|%s|%s|%s",
+                    todo.getTaskName(), todo.getLocation(), todo.isAllDay(),
+                    todo.getStartYear(), todo.getStartMonth(), todo.getStartDay(),
+                    todo.getStartHour(), todo.getStartMinute(),
+                    todo.getEndYear(), todo.getEndMonth(), todo.getEndDay(),
+                    todo.getEndHour(), todo.getEndMinute(),
+                    todo.getAlarm(), todo.getRepeat(), todo.getMemo()));
+        }
         System.out.println("공유 일정 전송: " + todo.getTaskName());
     }
 
@@ -189,8 +382,11 @@ public class CalendarClient {
             return;
         }
 
-        String message = "UPDATE_TODO|" + sharedTodo.toNetworkString();
-        out.println(message);
+        if (binary) {
+            sendFrame(BinaryProtocol.encodeTodo(BinaryProtocol.UPDATE_TODO, sharedTodo, 0));
+        } else {
+            send("UPDATE_TODO|" + sharedTodo.toNetworkString());
+        }
         System.out.println("공유 일정 업데이트 전송: " + sharedTodo.getTaskName());
     }
 
@@ -205,8 +401,7 @@ public class CalendarClient {
             return;
         }
 
-        String message = "DELETE_TODO|" + todoId;
-        out.println(message);
+        send("DELETE_TODO|" + todoId);
         System.out.println("공유 일정 삭제 전송: " + todoId);
     }
 
@@ -11,49 +11,165 @@
 import java.io.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class CalendarServer {
     private static final int PORT = 12345; // 서버 포트
-    private static Map<String, ClientHandler> clients = new ConcurrentHashMap<>(); // 연결된 클라이언트들
-    private static List<SharedToDo> sharedTodos = Collections.synchronizedList(new ArrayList<>()); // 공유 일정 목록
+    private static Map<String, ClientSession> clients = new ConcurrentHashMap<>(); // 연결된 클라이언트들
+    private static final SharedTodoStore sharedTodos = new SharedTodoStore(); // ID로 색인된 공유 일정 저장소
+    // 공유 일정 알림 스케줄러 (알림 시각에 REMIND|ID 전송)
+    private static final SharedReminderScheduler reminders = new SharedReminderScheduler(
+            CalendarServer::dispatchReminder);
+    private static ExecutorService virtualExecutor; // 가상 스레드 모드 실행기 (스레드 모드이면 null)
+    // 송신 대기열 지표 출력 주기 (초, 0이면 출력 안 함)
+    private static final int METRICS_INTERVAL = Integer.getInteger("calendar.metrics.interval", 60);
 
     /**
      * 서버 메인 실행 메서드
      * 
-     * @param args 명령행 인자
+     * @param args 명령행 인자 - [실행 모드(thread|virtual|nio)] [NIO I/O 스레드 수]
      */
     public static void main(String[] args) {
-        System.out.println("📅 캘린더 서버 시작 - 포트: " + PORT);
+        String mode = args.length > 0 ? args[0] : "thread";
+        System.out.println("📅 캘린더 서버 시작 - 포트: " + PORT + ", 모드: " + mode);
 
         // 서버 데이터 로드
-        sharedTodos = Collections.synchronizedList(ServerDataManager.loadSharedTodos());
+        for (SharedToDo todo : ServerDataManager.loadSharedTodos()) {
+            sharedTodos.restore(todo);
+            reminders.schedule(todo);
+        }
+        ServerDataManager.openJournal(CalendarServer::getSharedTodos);
+        reminders.start();
 
-        // 종료 훅 등록 - 서버 종료 시 데이터 저장
+        // 종료 훅 등록 - 서버 종료 시 남은 기록을 쓰고 스냅샷으로 압축
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println("서버 종료 중... 데이터 저장");
-            ServerDataManager.saveSharedTodos(sharedTodos);
+            ServerDataManager.closeJournal();
         }));
 
+        startMetricsLogger();
+
+        if (mode.equalsIgnoreCase("nio")) {
+            // 논블로킹 모드 - 소수의 I/O 스레드가 모든 연결을 처리
+            int ioThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            try {
+                new NioCalendarServer(PORT, ioThreads).start();
+            } catch (IOException e) {
+                System.err.println("서버 오류: " + e.getMessage());
+            }
+            return;
+        }
+
+        // 가상 스레드 모드 - 클라이언트마다 가상 스레드 하나 (Java 21 이상)
+        if (mode.equalsIgnoreCase("virtual")) {
+            virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor == null) {
+                System.err.println("가상 스레드를 지원하지 않는 JDK입니다 (Java 21 이상 필요) - 스레드 모드로 실행");
+            }
+        }
+
         try (ServerSocket serverSocket = new ServerSocket(PORT)) {
             // 클라이언트 연결 대기 루프
             while (true) {
                 Socket clientSocket = serverSocket.accept();
                 ClientHandler handler = new ClientHandler(clientSocket);
-                new Thread(handler).start(); // 각 클라이언트를 별도 스레드에서 처리
+                startClientThread(handler); // 각 클라이언트를 별도 스레드에서 처리
             }
         } catch (IOException e) {
             System.err.println("서버 오류: " + e.getMessage());
         }
     }
 
+    /**
+     * 가상 스레드 실행기 생성 - Executors.newVirtualThreadPerTaskExecutor를 리플렉션으로 호출
+     * (Java 17에서도 컴파일되도록 직접 참조하지 않음)
+     * 
+     * @return 가상 스레드 실행기, 지원하지 않는 JDK이면 null
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 클라이언트 처리용 스레드 시작 - 가상 스레드 모드이면 가상 스레드, 아니면 플랫폼 스레드
+     * 
+     * @param task 실행할 작업
+     */
+    static void startClientThread(Runnable task) {
+        if (virtualExecutor != null) {
+            virtualExecutor.execute(task);
+        } else {
+            new Thread(task).start();
+        }
+    }
+
+    /**
+     * 송신 대기열 지표를 주기적으로 출력하는 데몬 스레드 시작
+     */
+    private static void startMetricsLogger() {
+        if (METRICS_INTERVAL <= 0)
+            return;
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbound-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            if (!clients.isEmpty()) {
+                System.out.println(getOutboundMetrics());
+            }
+        }, METRICS_INTERVAL, METRICS_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 연결된 클라이언트들의 송신 대기열 지표 요약
+     * 
+     * @return 지표 요약 문자열
+     */
+    public static String getOutboundMetrics() {
+        int totalDepth = 0;
+        int maxDepth = 0;
+        String maxClient = "-";
+        int highWatermark = 0;
+        long dropped = 0;
+        long overflows = 0;
+
+        for (Map.Entry<String, ClientSession> entry : clients.entrySet()) {
+            OutboundQueue queue = entry.getValue().getOutboundQueue();
+            int depth = queue.getDepth();
+            totalDepth += depth;
+            if (depth > maxDepth) {
+                maxDepth = depth;
+                maxClient = entry.getKey();
+            }
+            highWatermark = Math.max(highWatermark, queue.getHighWatermark());
+            dropped += queue.getDroppedCount();
+            overflows += queue.getOverflowCount();
+        }
+
+        return String.format("송신 대기열 - 클라이언트 %d명, 대기 합계 %d, 최대 %d (%s), 최고 기록 %d/%d, 드롭 %d, 넘침 %d",
+                clients.size(), totalDepth, maxDepth, maxClient, highWatermark, OutboundQueue.CAPACITY,
+                dropped, overflows);
+    }
+
     /**
      * 새 클라이언트를 서버에 등록
      * 
      * @param nickname 클라이언트 닉네임
-     * @param handler  클라이언트 핸들러
+     * @param handler  클라이언트 세션
      */
-    public static void addClient(String nickname, ClientHandler handler) {
+    public static void addClient(String nickname, ClientSession handler) {
         clients.put(nickname, handler);
         System.out.println("클라이언트 연결: " + nickname + " (총 " + clients.size() + "명)");
     }
@@ -74,21 +190,63 @@ public class CalendarServer {
      * @param todo 추가할 공유 일정
      */
     public static void addSharedTodo(SharedToDo todo) {
-        sharedTodos.add(todo);
-        ServerDataManager.saveSharedTodos(sharedTodos); // 즉시 저장
-        broadcastNewTodo(todo);
+        // 같은 일정에 대한 변경/기록 순서를 맞추기 위해 ID별 락 안에서 변경을 예약하고 저널 기록을 요청
+        // (synchronized 대신 ReentrantLock 사용 - 가상 스레드가 캐리어 스레드에 고정되지 않도록 함)
+        ReentrantLock lock = sharedTodos.lockFor(todo.getId());
+        lock.lock();
+        try {
+            // 클라이언트가 보낸 ID가 이미 있으면 거절 (덮어쓰면 생성자 확인 없이 다른 사용자의 일정을 바꿀 수 있음)
+            SharedTodoStore.Change change = sharedTodos.putIfAbsent(todo);
+            if (change == null) {
+                System.err.println("이미 있는 공유 일정 ID - 추가 거절: " + todo.getId() + " by " + todo.getCreator());
+                return;
+            }
+            whenDurable(change, ServerDataManager.appendAdd(todo, () -> {
+                sharedTodos.publish(change, revision -> broadcastNewTodo(todo, revision));
+                reminders.schedule(todo);
+            }));
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * 새 공유 일정을 모든 클라이언트에게 브로드캐스트
+     * 저널 기록에 실패한 변경의 예약 취소 (호출 스레드는 fsync를 기다리지 않음)
+     * 변경은 기록이 디스크에 반영된 뒤에야 저장소에 반영되고 전송되므로(ServerDataManager가 기록 순서대로 실행),
+     * 기록하지 못한 변경은 동기화나 스냅샷에 보인 적이 없어 예약만 지우면 됨
+     * NIO 모드에서도 I/O 스레드가 디스크 기록을 기다리며 멈추지 않음
+     * 
+     * @param change    예약된 변경
+     * @param published 기록 후 반영·전송까지 끝나면 완료되는 Future
+     */
+    private static void whenDurable(SharedTodoStore.Change change, CompletableFuture<Void> published) {
+        published.exceptionally(e -> {
+            sharedTodos.discard(change);
+            System.err.println("공유 일정 변경 반영 실패: " + change.id + " - " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 메시지를 모든 클라이언트에게 전송
+     * 같은 메시지 객체를 모든 클라이언트 대기열에 공유하므로 이벤트마다 방식(텍스트/바이너리)별 인코딩은 한 번뿐임
      * 
-     * @param todo 브로드캐스트할 일정
+     * @param message 전송할 메시지
      */
-    public static void broadcastNewTodo(SharedToDo todo) {
-        String message = "NEW_TODO|" + todo.toNetworkString();
-        for (ClientHandler client : clients.values()) {
-            client.sendMessage(message);
+    private static void broadcast(WireMessage message) {
+        for (ClientSession client : clients.values()) {
+            client.send(message);
         }
+    }
+
+    /**
+     * 새 공유 일정을 모든 클라이언트에게 브로드캐스트
+     * 
+     * @param todo     브로드캐스트할 일정
+     * @param revision 변경 리비전
+     */
+    public static void broadcastNewTodo(SharedToDo todo, long revision) {
+        broadcast(WireMessage.todo(BinaryProtocol.NEW_TODO, todo, revision));
         System.out.println("공유 일정 전송: " + todo.getTaskName() + " by " + todo.getCreator());
     }
 
@@ -101,35 +259,34 @@ public class CalendarServer {
         System.out.println("공유 일정 업데이트 요청: " + updatedTodo.getId() + " - " + updatedTodo.getTaskName());
 
         // ID로 기존 일정 찾아서 교체
-        for (int i = 0; i < sharedTodos.size(); i++) {
-            if (sharedTodos.get(i).getId().equals(updatedTodo.getId())) {
-                System.out.println("기존 일정 찾음: " + sharedTodos.get(i).getId() + " -> " + updatedTodo.getId());
-                sharedTodos.set(i, updatedTodo);
-                ServerDataManager.saveSharedTodos(sharedTodos);
-                broadcastUpdatedTodo(updatedTodo);
-                System.out.println("공유 일정 업데이트 완료: " + updatedTodo.getTaskName() + " by " + updatedTodo.getCreator());
+        ReentrantLock lock = sharedTodos.lockFor(updatedTodo.getId());
+        lock.lock();
+        try {
+            SharedTodoStore.Change change = sharedTodos.replace(updatedTodo);
+            if (change == null) {
+                System.err.println("업데이트할 공유 일정을 찾을 수 없음: " + updatedTodo.getId()
+                        + " (현재 공유 일정 " + sharedTodos.size() + "개)");
                 return;
             }
-        }
-
-        // 업데이트할 일정을 찾지 못한 경우 디버그 정보 출력
-        System.err.println("업데이트할 공유 일정을 찾을 수 없음: " + updatedTodo.getId());
-        System.out.println("현재 공유 일정 목록:");
-        for (SharedToDo todo : sharedTodos) {
-            System.out.println("  - ID: " + todo.getId() + ", 제목: " + todo.getTaskName());
+            System.out.println("기존 일정 찾음: " + updatedTodo.getId());
+            whenDurable(change, ServerDataManager.appendUpdate(updatedTodo, () -> {
+                sharedTodos.publish(change, revision -> broadcastUpdatedTodo(updatedTodo, revision));
+                reminders.schedule(updatedTodo);
+                System.out.println("공유 일정 업데이트 완료: " + updatedTodo.getTaskName() + " by " + updatedTodo.getCreator());
+            }));
+        } finally {
+            lock.unlock();
         }
     }
 
     /**
      * 업데이트된 공유 일정을 모든 클라이언트에게 브로드캐스트
      * 
-     * @param todo 업데이트된 일정
+     * @param todo     업데이트된 일정
+     * @param revision 변경 리비전
      */
-    public static void broadcastUpdatedTodo(SharedToDo todo) {
-        String message = "UPDATE_TODO|" + todo.toNetworkString();
-        for (ClientHandler client : clients.values()) {
-            client.sendMessage(message);
-        }
+    public static void broadcastUpdatedTodo(SharedToDo todo, long revision) {
+        broadcast(WireMessage.todo(BinaryProtocol.UPDATE_TODO, todo, revision));
         System.out.println("공유 일정 업데이트 전송: " + todo.getTaskName() + " by " + todo.getCreator());
     }
 
@@ -140,39 +297,67 @@ public class CalendarServer {
      * @param requesterNickname 삭제 요청자 닉네임 (권한 확인용)
      */
     public static void deleteSharedTodo(String todoId, String requesterNickname) {
-        for (int i = 0; i < sharedTodos.size(); i++) {
-            SharedToDo todo = sharedTodos.get(i);
+        ReentrantLock lock = sharedTodos.lockFor(todoId);
+        lock.lock();
+        try {
+            SharedToDo todo = sharedTodos.current(todoId);
             // ID와 생성자가 일치하는 경우에만 삭제 (권한 확인)
-            if (todo.getId().equals(todoId) && todo.getCreator().equals(requesterNickname)) {
-                sharedTodos.remove(i);
-                ServerDataManager.saveSharedTodos(sharedTodos);
-                broadcastDeletedTodo(todoId);
-                System.out.println("공유 일정 삭제: " + todo.getTaskName() + " by " + todo.getCreator());
+            if (todo == null || !todo.getCreator().equals(requesterNickname)) {
+                System.out.println("삭제할 공유 일정을 찾을 수 없음: " + todoId + " by " + requesterNickname);
                 return;
             }
+            SharedTodoStore.Change change = sharedTodos.remove(todoId);
+            whenDurable(change, ServerDataManager.appendDelete(todoId, () -> {
+                sharedTodos.publish(change, revision -> broadcastDeletedTodo(todoId, revision));
+                reminders.cancel(todoId);
+                System.out.println("공유 일정 삭제: " + todo.getTaskName() + " by " + todo.getCreator());
+            }));
+        } finally {
+            lock.unlock();
         }
-        System.out.println("삭제할 공유 일정을 찾을 수 없음: " + todoId + " by " + requesterNickname);
     }
 
     /**
      * 삭제된 공유 일정을 모든 클라이언트에게 브로드캐스트
      * 
-     * @param todoId 삭제된 일정 ID
+     * @param todoId   삭제된 일정 ID
+     * @param revision 변경 리비전
      */
-    public static void broadcastDeletedTodo(String todoId) {
-        String message = "DELETE_TODO|" + todoId;
-        for (ClientHandler client : clients.values()) {
-            client.sendMessage(message);
-        }
+    public static void broadcastDeletedTodo(String todoId, long revision) {
+        broadcast(WireMessage.text("DELETE_TODO|" + todoId + "|" + revision));
         System.out.println("공유 일정 삭제 전송: " + todoId);
     }
 
+    /**
+     * 알림 시각이 된 공유 일정을 연결된 모든 클라이언트에게 알림 (REMIND|ID)
+     * 알림 스케줄러 스레드에서 호출됨
+     * 
+     * @param todoId 알림 시각이 된 공유 일정 ID
+     */
+    private static void dispatchReminder(String todoId) {
+        SharedToDo todo = sharedTodos.get(todoId);
+        if (todo == null)
+            return; // 예약 직후 삭제된 경우
+
+        broadcast(WireMessage.text("REMIND|" + todoId));
+        System.out.println("공유 일정 알림 전송: " + todo.getTaskName() + " (" + clients.size() + "명)");
+    }
+
     /**
      * 현재 서버의 모든 공유 일정 목록 반환
      * 
      * @return 공유 일정 목록 복사본
      */
     public static List<SharedToDo> getSharedTodos() {
-        return new ArrayList<>(sharedTodos);
+        return new ArrayList<>(sharedTodos.values());
+    }
+
+    /**
+     * 공유 일정 저장소 반환 (복사 없이 순회하거나 변경 기록을 조회할 때 사용)
+     * 
+     * @return 공유 일정 저장소
+     */
+    static SharedTodoStore getSharedTodoStore() {
+        return sharedTodos;
     }
 }
\ No newline at end of file
@@ -0,0 +1,414 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 날짜별 일정 저장소 클래스 - 개인/공유 일정 목록을 날짜 키(DayKey)별로 보관
+ * 날짜 하나의 조회는 DayMap으로 O(1)에 처리하고, 같은 목록을 날짜 순 색인(TreeMap)에도 걸어 두어
+ * 한 달치나 두 시각 사이의 일정을 전체 날짜를 훑지 않고 O(log n + k)에 찾음
+ * 날짜 키는 같은 달끼리 연속 구간을 이루므로 월 단위 조회도 색인의 부분 구간 하나로 처리됨
+ * 여러 날에 걸친 일정은 시작 날짜에만 저장되므로, 특정 날짜와 겹치는 일정은 구간 색인(IntervalIndex)으로 찾음
+ * 반복 설정이 있는 일정은 따로 모아 두어 반복 펼침(RecurrenceCache)이 전체 일정을 훑지 않게 함
+ * 
+ * get/computeIfAbsent가 돌려주는 목록은 그대로 수정해도 되며(변경이 구간 색인에 반영됨), 빈 목록도 키로 남음
+ * 목록에 든 일정의 날짜/시간을 직접 바꾼 경우에는 reindex를 호출해야 함
+ * 스레드 안전하지 않음 (OurCalendar의 저장소는 EDT에서만 변경)
+ * 
+ * @param <T> 일정 타입
+ */
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+class CalendarStore<T extends ToDo> {
+    private static final int MINUTE_BITS = 11; // 하루 안의 분 (0~1439)
+
+    private final DayMap<List<T>> days = new DayMap<>(); // 날짜 키 -> 일정 목록 (날짜 하나 조회용)
+    private final TreeMap<Integer, List<T>> ordered = new TreeMap<>(); // 날짜 순 색인 (범위 조회용, 같은 목록 공유)
+    private final IntervalIndex<T> intervals = new IntervalIndex<>(); // (시작, 끝) 구간 색인 (겹침 조회용)
+    private final Set<T> repeating = Collections.newSetFromMap(new IdentityHashMap<>()); // 반복 설정이 있는 일정
+    private int repeatVersion = 0; // 반복 일정 목록이나 내용이 바뀔 때마다 증가 (반복 펼침 캐시 무효화용)
+    private int version = 0; // 저장소 내용이 바뀔 때마다 증가 (달력 화면 갱신과 월 캐시 저장 판단용)
+
+    /**
+     * 날짜 하나의 일정 목록 - 추가/삭제/교체가 구간 색인과 반복 일정 목록에 반영됨
+     * (AbstractList의 나머지 변경 메서드와 반복자 삭제도 모두 아래 세 메서드를 거침)
+     */
+    private final class DayList extends AbstractList<T> implements RandomAccess {
+        private final ArrayList<T> items; // 일정 목록
+
+        DayList(Collection<? extends T> initial) {
+            items = new ArrayList<>(initial);
+            for (T todo : items) {
+                track(todo);
+            }
+        }
+
+        @Override
+        public T get(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public T set(int index, T todo) {
+            T previous = items.set(index, todo);
+            untrack(previous);
+            track(todo);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, T todo) {
+            items.add(index, todo);
+            track(todo);
+            modCount++;
+        }
+
+        @Override
+        public T remove(int index) {
+            T removed = items.remove(index);
+            untrack(removed);
+            modCount++;
+            return removed;
+        }
+
+        /**
+         * 목록의 모든 일정을 구간 색인에서 제거 (목록이 저장소에서 빠질 때)
+         */
+        void unindex() {
+            for (T todo : items) {
+                untrack(todo);
+            }
+        }
+    }
+
+    /**
+     * 날짜의 일정 목록 반환
+     * 
+     * @param key 날짜 키
+     * @return 일정 목록, 없으면 null
+     */
+    List<T> get(int key) {
+        return days.get(key);
+    }
+
+    /**
+     * 날짜의 일정 목록 반환, 없으면 새로 만들어 저장한 뒤 반환
+     * 
+     * @param key     날짜 키
+     * @param factory 목록 생성 함수
+     * @return 기존 목록 또는 새 목록
+     */
+    List<T> computeIfAbsent(int key, IntFunction<List<T>> factory) {
+        List<T> list = days.get(key);
+        if (list == null) {
+            put(key, factory.apply(key));
+            list = days.get(key);
+        }
+        return list;
+    }
+
+    /**
+     * 날짜의 일정 목록 저장 (저장소 전용 목록으로 복사되므로 이후 변경은 get으로 받은 목록에 해야 함)
+     * 
+     * @param key  날짜 키
+     * @param list 일정 목록
+     * @return 이전 목록, 없으면 null
+     */
+    List<T> put(int key, List<T> list) {
+        DayList stored = new DayList(list);
+        List<T> previous = days.put(key, stored);
+        ordered.put(key, stored);
+        version++;
+        if (previous != null) {
+            ((DayList) previous).unindex();
+        }
+        return previous;
+    }
+
+    /**
+     * 날짜에 목록이 없을 때만 저장
+     * 
+     * @param key  날짜 키
+     * @param list 일정 목록
+     * @return 기존 목록, 없었으면 null
+     */
+    List<T> putIfAbsent(int key, List<T> list) {
+        List<T> existing = days.get(key);
+        if (existing == null) {
+            put(key, list);
+        }
+        return existing;
+    }
+
+    /**
+     * 날짜의 일정 목록 삭제
+     * 
+     * @param key 날짜 키
+     * @return 삭제된 목록, 없으면 null
+     */
+    List<T> remove(int key) {
+        ordered.remove(key);
+        List<T> removed = days.remove(key);
+        if (removed != null) {
+            ((DayList) removed).unindex();
+            version++;
+        }
+        return removed;
+    }
+
+    /**
+     * 날짜 키 존재 여부 확인
+     * 
+     * @param key 날짜 키
+     * @return 있으면 true
+     */
+    boolean containsKey(int key) {
+        return days.containsKey(key);
+    }
+
+    /**
+     * 저장된 날짜 수 반환
+     * 
+     * @return 날짜 수
+     */
+    int size() {
+        return days.size();
+    }
+
+    /**
+     * 비어 있는지 확인
+     * 
+     * @return 비어 있으면 true
+     */
+    boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    /**
+     * 모든 일정 삭제
+     */
+    void clear() {
+        days.clear();
+        ordered.clear();
+        intervals.clear();
+        repeating.clear();
+        repeatVersion++;
+        version++;
+    }
+
+    /**
+     * 저장된 날짜 키 목록 반환 (날짜 순 복사본이므로 순회 중 저장소를 변경해도 됨)
+     * 
+     * @return 날짜 키 배열
+     */
+    int[] keys() {
+        int[] result = new int[ordered.size()];
+        int count = 0;
+        for (int key : ordered.keySet()) {
+            result[count++] = key;
+        }
+        return result;
+    }
+
+    /**
+     * 일정 목록 보기 반환 (날짜 순, 복사 없이 순회)
+     * 
+     * @return 일정 목록 컬렉션
+     */
+    Collection<List<T>> values() {
+        return Collections.unmodifiableCollection(ordered.values());
+    }
+
+    /**
+     * 한 달치 일정 목록 보기 반환 (날짜 순)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 날짜 키 -> 일정 목록 (읽기 전용)
+     */
+    NavigableMap<Integer, List<T>> month(int year, int month) {
+        return range(DayKey.of(year, month, 0), DayKey.of(year, month, 31));
+    }
+
+    /**
+     * 두 날짜 사이의 일정 목록 보기 반환 (날짜 순, 양 끝 포함)
+     * 
+     * @param fromKey 시작 날짜 키
+     * @param toKey   끝 날짜 키
+     * @return 날짜 키 -> 일정 목록 (읽기 전용)
+     */
+    NavigableMap<Integer, List<T>> range(int fromKey, int toKey) {
+        if (fromKey > toKey) {
+            return Collections.emptyNavigableMap();
+        }
+        return Collections.unmodifiableNavigableMap(ordered.subMap(fromKey, true, toKey, true));
+    }
+
+    /**
+     * 시작 시각이 [from, to) 구간에 있는 일정 반환 (시작 시각 순)
+     * 
+     * @param from 구간 시작 (포함)
+     * @param to   구간 끝 (제외)
+     * @return 일정 목록
+     */
+    List<T> between(LocalDateTime from, LocalDateTime to) {
+        long fromStamp = IntervalIndex.valueOf(from);
+        long toStamp = IntervalIndex.valueOf(to);
+        List<T> result = new ArrayList<>();
+        for (List<T> list : range(IntervalIndex.dayKeyOf(from), IntervalIndex.dayKeyOf(to)).values()) {
+            for (T todo : list) {
+                long start = stamp(todo);
+                if (start >= fromStamp && start < toStamp) {
+                    result.add(todo);
+                }
+            }
+        }
+        // 날짜 목록 안의 순서는 입력 순서이고, 수정으로 날짜가 바뀐 일정이 다른 목록에 남아 있을 수 있으므로 정렬함
+        result.sort((a, b) -> Long.compare(stamp(a), stamp(b)));
+        return result;
+    }
+
+    /**
+     * 시작 시각이 from 이후인 모든 일정 반환 (시작 시각 순)
+     * 
+     * @param from 구간 시작 (포함)
+     * @return 일정 목록
+     */
+    List<T> startingFrom(LocalDateTime from) {
+        return between(from, LocalDateTime.MAX);
+    }
+
+    /**
+     * 날짜와 겹치는 일정 반환 - 그날 시작한 일정과 이전에 시작해 그날까지 이어지는 일정 (시작 시각 순)
+     * 
+     * @param key 날짜 키
+     * @return 일정 목록
+     */
+    List<T> overlappingDay(int key) {
+        return intervals.overlapping(IntervalIndex.dayStart(key), IntervalIndex.dayEnd(key));
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 일정 반환 (시작 시각 순)
+     * 
+     * @param from 구간 시작 (포함)
+     * @param to   구간 끝 (제외)
+     * @return 일정 목록
+     */
+    List<T> overlapping(LocalDateTime from, LocalDateTime to) {
+        return intervals.overlapping(IntervalIndex.valueOf(from), IntervalIndex.valueOf(to));
+    }
+
+    /**
+     * 일정과 시간이 겹치는 저장된 일정 반환 (저장 전 충돌 확인용)
+     * 
+     * @param candidate 확인할 일정
+     * @param ignore    결과에서 뺄 일정 (편집 중인 원래 일정, 없으면 null)
+     * @return 겹치는 일정 목록 (시작 시각 순)
+     */
+    List<T> conflicts(ToDo candidate, ToDo ignore) {
+        long start = IntervalIndex.startOf(candidate);
+        long end = Math.max(IntervalIndex.endOf(candidate), start + 1);
+        List<T> result = intervals.overlapping(start, end);
+        result.removeIf(todo -> todo == candidate || todo == ignore);
+        return result;
+    }
+
+    /**
+     * 날짜/시간을 직접 바꾼 일정을 구간 색인에 다시 반영
+     * 
+     * @param todo 내용이 바뀐 일정
+     */
+    void reindex(T todo) {
+        version++; // 일정 이름 등 날짜 외의 내용만 바뀌었어도 화면은 다시 그려야 함
+        if (intervals.update(todo)) {
+            // 반복 설정이 바뀌었거나 반복 일정의 날짜가 바뀌었을 수 있음
+            if (repeating.remove(todo) || Recurrence.isRepeating(todo)) {
+                repeatVersion++;
+            }
+            if (Recurrence.isRepeating(todo)) {
+                repeating.add(todo);
+            }
+        }
+    }
+
+    /**
+     * 반복 설정이 있는 일정 보기 반환
+     * 
+     * @return 반복 일정 (읽기 전용)
+     */
+    Collection<T> repeating() {
+        return Collections.unmodifiableSet(repeating);
+    }
+
+    /**
+     * 반복 일정 변경 횟수 반환 - 값이 같으면 반복 일정 목록과 내용이 그대로임
+     * 
+     * @return 변경 횟수
+     */
+    int getRepeatVersion() {
+        return repeatVersion;
+    }
+
+    /**
+     * 저장소 변경 횟수 반환 - 값이 같으면 저장된 일정과 그 내용이 그대로임 (reindex 없이 일정을 직접 바꾼 경우 제외)
+     * 
+     * @return 변경 횟수
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * 저장소에 들어온 일정을 색인 (DayList에서 호출)
+     * 
+     * @param todo 일정
+     */
+    private void track(T todo) {
+        version++;
+        intervals.add(todo);
+        if (Recurrence.isRepeating(todo)) {
+            repeating.add(todo);
+            repeatVersion++;
+        }
+    }
+
+    /**
+     * 저장소에서 빠진 일정을 색인에서 제거 (DayList에서 호출)
+     * 
+     * @param todo 일정
+     */
+    private void untrack(T todo) {
+        version++;
+        intervals.remove(todo);
+        if (repeating.remove(todo)) {
+            repeatVersion++;
+        }
+    }
+
+    /**
+     * 일정의 시작 시각 값 (IntervalIndex.startOf와 달리 종일 일정도 입력된 시작 시간을 그대로 씀 - 알림 시각 기준)
+     * 
+     * @param todo 일정
+     * @return 정렬용 값
+     */
+    private static long stamp(ToDo todo) {
+        return ((long) DayKey.of(todo) << MINUTE_BITS) | (todo.getStartHour() * 60 + todo.getStartMinute());
+    }
+}
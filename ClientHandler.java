@@ -1,4 +1,3 @@
-
 /**
  * @author 자바 프로그래밍 5조
  * @version 1.0
@@ -6,20 +5,30 @@
  * 
  * 서버에서 개별 클라이언트 연결을 처리하는 핸들러 클래스
  * 각 클라이언트의 요청을 처리하고 서버의 공유 일정 관리 기능을 호출함
+ * 송신은 클라이언트 전용 writer 스레드가 송신 대기열(OutboundQueue)을 비우며 수행함
  */
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.Socket;
+import java.util.concurrent.Semaphore;
+
+class ClientHandler implements Runnable, ClientSession {
+    private static final int WRITE_BATCH_BYTES = 8 * 1024; // 한 번에 소켓에 쓰는 최대 바이트 수
 
-class ClientHandler implements Runnable {
     private Socket socket; // 클라이언트 소켓
-    private BufferedReader in; // 입력 스트림
-    private PrintWriter out; // 출력 스트림
+    private InputStream in; // 입력 스트림 (텍스트 줄과 바이너리 프레임을 모두 읽으므로 바이트 단위)
+    private OutputStream out; // 출력 스트림
     private String nickname; // 클라이언트 닉네임
 
+    // synchronized 대신 Semaphore로 writer를 깨움 - 가상 스레드 pinning 방지
+    private final Semaphore writeSignal = new Semaphore(0);
+    private final OutboundQueue outbound = new OutboundQueue(writeSignal::release); // 송신 대기열
+    private volatile boolean closed = false; // 연결 종료 여부
+    private boolean binaryInput = false; // 바이너리 프로토콜 수신 여부 (수신 스레드 전용)
+
     /**
      * ClientHandler 생성자
      * 
@@ -29,8 +38,8 @@ class ClientHandler implements Runnable {
         this.socket = socket;
         try {
             // 입출력 스트림 초기화
-            in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            out = new PrintWriter(socket.getOutputStream(), true);
+            in = new BufferedInputStream(socket.getInputStream());
+            out = socket.getOutputStream();
         } catch (IOException e) {
             System.err.println("클라이언트 핸들러 생성 오류: " + e.getMessage());
         }
@@ -41,24 +50,27 @@ class ClientHandler implements Runnable {
      */
     @Override
     public void run() {
+        // 송신 전용 writer 시작 (핸들러와 같은 종류의 스레드)
+        CalendarServer.startClientThread(this::writeLoop);
+
         try {
-            // 첫 번째 메시지로 닉네임 수신
-            nickname = in.readLine();
-            if (nickname != null && !nickname.trim().isEmpty()) {
-                // 서버에 클라이언트 등록
-                CalendarServer.addClient(nickname, this);
-                out.println("CONNECTED|" + nickname);
-
-                // 기존 공유 일정을 새 클라이언트에게 전송
-                for (SharedToDo todo : CalendarServer.getSharedTodos()) {
-                    out.println("EXISTING_TODO|" + todo.toNetworkString());
-                }
-            }
+            // 첫 번째 메시지로 닉네임 수신 후 핸드셰이크 처리
+            nickname = BinaryProtocol.readLine(in, ServerProtocol.CHARSET);
+            ServerProtocol.handleHandshake(this, nickname);
 
-            // 클라이언트 메시지 처리 루프
-            String message;
-            while ((message = in.readLine()) != null) {
-                handleMessage(message);
+            // 클라이언트 메시지 처리 루프 (전환 요청 이후에는 바이너리 프레임)
+            while (true) {
+                if (binaryInput) {
+                    byte[] payload = BinaryProtocol.readFrame(in);
+                    if (payload == null)
+                        break;
+                    ServerProtocol.handleFrame(this, BinaryProtocol.decode(payload, nickname));
+                } else {
+                    String message = BinaryProtocol.readLine(in, ServerProtocol.CHARSET);
+                    if (message == null)
+                        break;
+                    ServerProtocol.handleMessage(this, message);
+                }
             }
         } catch (IOException e) {
             System.err.println("클라이언트 처리 오류: " + e.getMessage());
@@ -67,76 +79,129 @@ class ClientHandler implements Runnable {
             if (nickname != null) {
                 CalendarServer.removeClient(nickname);
             }
-            try {
-                socket.close();
-            } catch (IOException e) {
-                System.err.println("소켓 종료 오류: " + e.getMessage());
-            }
+            close();
         }
     }
 
     /**
-     * 클라이언트로부터 받은 메시지 처리
-     * 
-     * @param message 클라이언트 메시지
+     * 송신 루프 - 대기열의 인코딩된 메시지를 모아서 소켓에 기록
      */
-    private void handleMessage(String message) {
-        String[] parts = message.split("\\|", 2);
-        if (parts.length < 2)
-            return;
-
-        String command = parts[0];
-        String data = parts[1];
-
-        switch (command) {
-            case "SHARE_TODO":
-                // 공유 일정 추가 처리
-                SharedToDo todo = null;
-                String[] dataParts = data.split("\\|");
-
-                if (dataParts.length >= 18) {
-                    // 완전한 SharedToDo 데이터 (ID 포함)
-                    todo = SharedToDo.fromCompleteNetworkString(data);
-                    System.out.println("완전한 공유 일정 수신: " + (todo != null ? todo.getId() : "null"));
-                } else {
-                    // 기본 ToDo 데이터를 SharedToDo로 변환
-                    todo = SharedToDo.fromNetworkString(data, nickname);
-                    System.out.println("기본 공유 일정 생성: " + (todo != null ? todo.getId() : "null"));
-                }
-
-                if (todo != null) {
-                    CalendarServer.addSharedTodo(todo);
+    private void writeLoop() {
+        byte[] batch = new byte[WRITE_BATCH_BYTES]; // 작은 메시지를 모으는 버퍼 (writer 전용)
+        int length = 0;
+        try {
+            while (!closed) {
+                byte[] line;
+                while ((line = outbound.poll()) != null) {
+                    if (length + line.length > batch.length) {
+                        out.write(batch, 0, length);
+                        length = 0;
+                    }
+                    if (line.length > batch.length) {
+                        // 큰 메시지는 복사하지 않고 바로 기록
+                        out.write(line);
+                    } else {
+                        System.arraycopy(line, 0, batch, length, line.length);
+                        length += line.length;
+                    }
                 }
-                break;
-            case "UPDATE_TODO":
-                // 공유 일정 업데이트 처리
-                SharedToDo updatedTodo = SharedToDo.fromCompleteNetworkString(data);
-                if (updatedTodo != null && updatedTodo.getCreator().equals(nickname)) {
-                    // 생성자 본인만 수정 가능
-                    System.out.println("공유 일정 업데이트 요청: " + updatedTodo.getId() + " by " + nickname);
-                    CalendarServer.updateSharedTodo(updatedTodo);
-                } else if (updatedTodo == null) {
-                    System.err.println("공유 일정 업데이트 파싱 실패: " + data);
-                } else {
-                    System.err.println("권한 없음 - 요청자: " + nickname + ", 생성자: " + updatedTodo.getCreator());
+                if (length > 0) {
+                    out.write(batch, 0, length);
+                    length = 0;
                 }
-                break;
-            case "DELETE_TODO":
-                // 공유 일정 삭제 처리
-                String todoId = data;
-                CalendarServer.deleteSharedTodo(todoId, nickname);
-                break;
+                out.flush();
+
+                // 새 메시지가 들어올 때까지 대기
+                writeSignal.acquire();
+                writeSignal.drainPermits();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("메시지 전송 실패 (" + nickname + "): " + e.getMessage());
+                close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 소켓을 닫고 writer를 종료시킴
+     */
+    private void close() {
+        closed = true;
+        writeSignal.release();
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("소켓 종료 오류: " + e.getMessage());
         }
     }
 
     /**
-     * 클라이언트에게 메시지 전송
+     * 클라이언트 닉네임 반환
+     * 
+     * @return 닉네임
+     */
+    @Override
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     * 클라이언트에게 메시지 전송 (송신 대기열에 추가)
      * 
      * @param message 전송할 메시지
      */
+    @Override
     public void sendMessage(String message) {
-        if (out != null) {
-            out.println(message);
+        send(WireMessage.text(message));
+    }
+
+    /**
+     * 메시지 전송 (송신 대기열에 추가)
+     * 
+     * @param message 전송할 메시지
+     */
+    @Override
+    public void send(WireMessage message) {
+        if (closed)
+            return;
+
+        if (!outbound.offer(message)) {
+            // 느린 클라이언트 - 연결 종료 정책
+            System.err.println("송신 대기열 초과로 연결 종료: " + nickname);
+            close();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 바이너리 프로토콜로 전환 (수신 스레드에서 호출)
+     */
+    @Override
+    public void switchToBinary() {
+        binaryInput = true;
+        outbound.offerBinarySwitch();
+    }
+
+    /**
+     * 동기화 응답 전송 예약
+     * 
+     * @param epoch 클라이언트가 마지막으로 동기화한 서버 실행 ID
+     * @param since 클라이언트가 마지막으로 반영한 리비전
+     */
+    @Override
+    public void sendSync(String epoch, long since) {
+        outbound.offerSync(epoch, since);
+    }
+
+    /**
+     * 송신 대기열 반환
+     * 
+     * @return 송신 대기열
+     */
+    @Override
+    public OutboundQueue getOutboundQueue() {
+        return outbound;
+    }
+}
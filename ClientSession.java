@@ -0,0 +1,52 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버에 연결된 클라이언트 한 명을 나타내는 인터페이스
+ * 블로킹 스레드 방식(ClientHandler)과 NIO 방식(NioCalendarServer) 연결을 동일하게 다룰 수 있게 함
+ */
+
+interface ClientSession {
+    /**
+     * 클라이언트 닉네임 반환
+     * 
+     * @return 닉네임 (핸드셰이크 전이면 null)
+     */
+    String getNickname();
+
+    /**
+     * 클라이언트에게 한 줄 메시지 전송 - 송신 대기열에 넣고 바로 반환함
+     * 
+     * @param message 전송할 메시지 (줄바꿈 제외)
+     */
+    void sendMessage(String message);
+
+    /**
+     * 메시지 전송 - 브로드캐스트 시 모든 클라이언트가 같은 메시지 객체(와 그 인코딩)를 공유함
+     * 
+     * @param message 전송할 메시지
+     */
+    void send(WireMessage message);
+
+    /**
+     * 바이너리 프로토콜로 전환 - 수락 응답 뒤의 송신과 이후의 수신을 BinaryProtocol 프레임으로 처리
+     * 수신 처리 스레드(전환 요청을 읽은 스레드)에서 호출해야 함
+     */
+    void switchToBinary();
+
+    /**
+     * 동기화 응답 전송 예약 - 메시지는 송신 시점에 생성됨
+     * 
+     * @param epoch 클라이언트가 마지막으로 동기화한 서버 실행 ID
+     * @param since 클라이언트가 마지막으로 반영한 리비전
+     */
+    void sendSync(String epoch, long since);
+
+    /**
+     * 송신 대기열 반환 (지표 조회용)
+     * 
+     * @return 송신 대기열
+     */
+    OutboundQueue getOutboundQueue();
+}
@@ -0,0 +1,135 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 날짜 키 유틸리티 클래스 - 연/월/일을 하나의 int로 묶어 일정 저장소의 키로 사용
+ * 형식: (연도 << 9) | (월 << 5) | 일 (월은 0부터 시작)
+ * 키의 크기 순서가 날짜 순서와 같고, 키 >> 5 는 같은 달의 날짜끼리 같은 월 키가 됨
+ * 문자열 키("yyyy-MM-dd")는 파일 저장과 화면 표시에만 사용함
+ */
+
+final class DayKey {
+    private static final int DAY_BITS = 5; // 일 (1~31)
+    private static final int MONTH_BITS = 4; // 월 (0~11)
+
+    private DayKey() {
+    }
+
+    /**
+     * 연/월/일을 날짜 키로 변환
+     * 
+     * @param year  연도 (0 이상)
+     * @param month 월 (0부터 시작)
+     * @param day   일
+     * @return 날짜 키
+     */
+    static int of(int year, int month, int day) {
+        return (year << (MONTH_BITS + DAY_BITS)) | (month << DAY_BITS) | day;
+    }
+
+    /**
+     * 일정의 시작 날짜 키 반환
+     * 
+     * @param todo 일정
+     * @return 시작 날짜 키
+     */
+    static int of(ToDo todo) {
+        return of(todo.getStartYear(), todo.getStartMonth(), todo.getStartDay());
+    }
+
+    /**
+     * 연/월을 월 키로 변환 (날짜 키의 monthOf 결과와 같음)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 월 키
+     */
+    static int monthKey(int year, int month) {
+        return (year << MONTH_BITS) | month;
+    }
+
+    /**
+     * 날짜 키가 속한 달의 월 키 반환
+     * 
+     * @param key 날짜 키
+     * @return 월 키
+     */
+    static int monthOf(int key) {
+        return key >>> DAY_BITS;
+    }
+
+    /**
+     * 날짜 키의 연도 반환
+     * 
+     * @param key 날짜 키
+     * @return 연도
+     */
+    static int year(int key) {
+        return key >>> (MONTH_BITS + DAY_BITS);
+    }
+
+    /**
+     * 날짜 키의 월 반환
+     * 
+     * @param key 날짜 키
+     * @return 월 (0부터 시작)
+     */
+    static int month(int key) {
+        return (key >>> DAY_BITS) & ((1 << MONTH_BITS) - 1);
+    }
+
+    /**
+     * 날짜 키의 일 반환
+     * 
+     * @param key 날짜 키
+     * @return 일
+     */
+    static int day(int key) {
+        return key & ((1 << DAY_BITS) - 1);
+    }
+
+    /**
+     * 날짜 키를 "yyyy-MM-dd" 문자열로 변환 (파일 저장, 화면 표시용)
+     * 
+     * @param key 날짜 키
+     * @return 날짜 문자열
+     */
+    static String format(int key) {
+        int month = month(key) + 1;
+        int day = day(key);
+        StringBuilder text = new StringBuilder(10);
+        String year = Integer.toString(year(key));
+        for (int i = year.length(); i < 4; i++) {
+            text.append('0');
+        }
+        text.append(year).append('-');
+        if (month < 10) {
+            text.append('0');
+        }
+        text.append(month).append('-');
+        if (day < 10) {
+            text.append('0');
+        }
+        return text.append(day).toString();
+    }
+
+    /**
+     * "yyyy-MM-dd" 문자열을 날짜 키로 변환
+     * 
+     * @param text 날짜 문자열
+     * @return 날짜 키
+     * @throws NumberFormatException 형식이 올바르지 않은 경우
+     */
+    static int parse(String text) {
+        int first = text.indexOf('-');
+        int second = text.indexOf('-', first + 1);
+        if (first < 0 || second < 0) {
+            throw new NumberFormatException("날짜 형식 오류: " + text);
+        }
+        int year = Integer.parseInt(text, 0, first, 10);
+        int month = Integer.parseInt(text, first + 1, second, 10);
+        int day = Integer.parseInt(text, second + 1, text.length(), 10);
+        return of(year, month - 1, day);
+    }
+}
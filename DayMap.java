@@ -0,0 +1,300 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 날짜 키(DayKey)를 키로 쓰는 해시 맵 클래스 - 개인/공유 일정 저장소에 사용
+ * int 키를 배열에 그대로 저장하는 개방 주소법(선형 탐사) 구현으로,
+ * 조회할 때 키 문자열 생성이나 박싱 없이 곱셈 해시 한 번과 배열 탐색만 수행함
+ * 스레드 안전하지 않음 (OurCalendar의 저장소는 EDT에서만 변경)
+ * 
+ * @param <V> 값 타입 (보통 일정 목록)
+ */
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+class DayMap<V> {
+    private static final int EMPTY = -1; // 빈 칸 표시 (날짜 키는 음수가 아님)
+    private static final int INITIAL_CAPACITY = 64; // 초기 칸 수 (2의 거듭제곱)
+
+    private int[] keys; // 날짜 키 (빈 칸은 EMPTY)
+    private Object[] values; // 키에 대응하는 값
+    private int size = 0; // 저장된 항목 수
+    private int mask; // 칸 수 - 1
+
+    /**
+     * DayMap 생성자
+     */
+    DayMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 키의 값 반환
+     * 
+     * @param key 날짜 키
+     * @return 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int slot = indexOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * 키의 값 반환, 없으면 새로 만들어 저장한 뒤 반환
+     * 
+     * @param key     날짜 키
+     * @param factory 값 생성 함수
+     * @return 기존 값 또는 새 값
+     */
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(int key, IntFunction<V> factory) {
+        int slot = indexOf(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = factory.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 키에 값 저장
+     * 
+     * @param key   날짜 키 (0 이상)
+     * @param value 값
+     * @return 이전 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("날짜 키는 음수일 수 없음: " + key);
+        }
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * 키가 없을 때만 값 저장
+     * 
+     * @param key   날짜 키
+     * @param value 값
+     * @return 기존 값, 없었으면 null
+     */
+    V putIfAbsent(int key, V value) {
+        V existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    /**
+     * 키 삭제 (뒤따르는 항목을 당겨 탐사 사슬을 유지)
+     * 
+     * @param key 날짜 키
+     * @return 삭제된 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V removed = (V) values[slot];
+
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // next 항목의 원래 자리가 (hole, next] 구간 밖이면 hole로 옮김
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * 키 존재 여부 확인
+     * 
+     * @param key 날짜 키
+     * @return 있으면 true
+     */
+    boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 저장된 항목 수 반환
+     * 
+     * @return 항목 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 비어 있는지 확인
+     * 
+     * @return 비어 있으면 true
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 모든 항목 삭제
+     */
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 저장된 날짜 키 목록 반환 (복사본이므로 순회 중 맵을 변경해도 됨, 순서 없음)
+     * 
+     * @return 날짜 키 배열
+     */
+    int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int key : keys) {
+            if (key != EMPTY) {
+                result[count++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값 보기 반환 (복사 없이 순회, 순서 없음)
+     * 
+     * @return 값 컬렉션
+     */
+    Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private int slot = advance(0); // 다음 항목 위치
+
+                    private int advance(int from) {
+                        while (from < keys.length && keys[from] == EMPTY) {
+                            from++;
+                        }
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot < keys.length;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public V next() {
+                        if (slot >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        V value = (V) values[slot];
+                        slot = advance(slot + 1);
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 키가 저장된 칸 위치 반환
+     * 
+     * @param key 날짜 키
+     * @return 칸 위치, 없으면 -1
+     */
+    private int indexOf(int key) {
+        int slot = hash(key) & mask;
+        int stored;
+        while ((stored = keys[slot]) != EMPTY) {
+            if (stored == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 날짜 키 해시 - 연속된 날짜가 고르게 퍼지도록 곱셈 해시 사용
+     * 
+     * @param key 날짜 키
+     * @return 해시 값
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 칸 배열 할당
+     * 
+     * @param capacity 칸 수 (2의 거듭제곱)
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * 칸 수를 늘리고 모든 항목을 다시 배치
+     * 
+     * @param capacity 새 칸 수
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+}
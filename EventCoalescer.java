@@ -0,0 +1,124 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 이벤트 묶음 처리 클래스 - 여러 스레드에서 들어오는 이벤트를 짧은 시간 창 동안 모아 EDT에서 한 번에 반영
+ * 창의 첫 이벤트가 들어온 뒤 windowMillis가 지나면 그동안 쌓인 이벤트를 들어온 순서대로 applier에 넘김
+ * (창은 첫 이벤트 기준으로 고정되므로 이벤트가 계속 들어와도 창마다 한 번씩은 반영됨)
+ * 서버 접속 직후 수백 개의 공유 일정을 받을 때 캐시 저장과 화면 갱신을 묶음마다 한 번만 하도록 OurCalendar에서 사용
+ * 
+ * @param <E> 이벤트 타입
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+class EventCoalescer<E> {
+    // 기본 묶음 시간 창 (calendar.client.batchMs, 0이면 창 없이 다음 EDT 차례에 반영)
+    static final int DEFAULT_WINDOW_MS = Integer.getInteger("calendar.client.batchMs", 30);
+
+    private final Object lock = new Object(); // pending 보호용 잠금
+    private final Consumer<List<E>> applier; // 묶음 반영 함수 (EDT에서 호출)
+    private final Timer timer; // 시간 창 타이머 (창이 0이면 null)
+    private List<E> pending = new ArrayList<>(); // 아직 반영하지 않은 이벤트
+    private long batchCount = 0; // 반영한 묶음 수 (EDT 전용)
+    private long eventCount = 0; // 반영한 이벤트 수 (EDT 전용)
+    private int largestBatch = 0; // 가장 큰 묶음의 이벤트 수 (EDT 전용)
+
+    /**
+     * EventCoalescer 생성자
+     * 
+     * @param windowMillis 묶음 시간 창 (밀리초, 0이면 다음 EDT 차례에 반영)
+     * @param applier      묶음 반영 함수 (EDT에서 호출)
+     */
+    EventCoalescer(int windowMillis, Consumer<List<E>> applier) {
+        this.applier = applier;
+        if (windowMillis > 0) {
+            timer = new Timer(windowMillis, e -> flush());
+            timer.setRepeats(false);
+        } else {
+            timer = null;
+        }
+    }
+
+    /**
+     * 이벤트 추가 (아무 스레드에서나 호출 가능)
+     * 
+     * @param event 이벤트
+     */
+    void submit(E event) {
+        boolean first;
+        synchronized (lock) {
+            first = pending.isEmpty();
+            pending.add(event);
+        }
+        // 창의 첫 이벤트일 때만 반영을 예약 (나머지는 같은 묶음에 합류)
+        if (first) {
+            if (timer != null) {
+                timer.start();
+            } else {
+                SwingUtilities.invokeLater(this::flush);
+            }
+        }
+    }
+
+    /**
+     * 쌓인 이벤트를 지금 반영 (EDT에서 호출, 쌓인 이벤트가 없으면 아무것도 하지 않음)
+     */
+    void flush() {
+        List<E> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        batchCount++;
+        eventCount += batch.size();
+        largestBatch = Math.max(largestBatch, batch.size());
+        applier.accept(batch);
+    }
+
+    /**
+     * 반영을 기다리는 이벤트 수 반환
+     * 
+     * @return 이벤트 수
+     */
+    int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 반영한 묶음 수 반환
+     * 
+     * @return 묶음 수
+     */
+    long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * 반영한 이벤트 수 반환
+     * 
+     * @return 이벤트 수
+     */
+    long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * 가장 큰 묶음의 이벤트 수 반환
+     * 
+     * @return 이벤트 수
+     */
+    int getLargestBatch() {
+        return largestBatch;
+    }
+}
@@ -6,15 +6,52 @@
  * 
  * 사용자별 개인 일정과 공유 일정 캐시를 파일로 저장/로드하는 데이터 관리 클래스
  * 각 사용자마다 별도의 폴더를 생성하여 데이터를 분리 관리함
+ * 개인 일정 저장 방식은 사용자별로 선택 (storage.txt, 없으면 calendar.storage 속성, 기본 text)
+ * - text : 월별 텍스트 파일 (YYYY-M.txt)
+ * - record : 월별 고정 길이 레코드 파일 (YYYY-M.dat, RecordTaskStore, 이전 이름 mapped 도 읽음)
+ * - kv : 모든 달을 날짜 순 키로 담은 로그 파일 하나 (tasks.kv, KeyValueTaskStore - 바뀐 일정만 기록하고 여러 달 구간 조회가 빠름)
+ * 저장 방식을 바꿀 때는 기존 파일을 변환하는 StorageMigration을 사용
+ * 
+ * ...Async 메서드는 파일 입출력을 전용 스레드(file-io) 하나에서 차례로 처리하고 CompletableFuture로 결과를 돌려줌
+ * (EDT가 디스크를 기다리지 않게 하며, 요청 순서대로 처리되므로 같은 달의 저장 뒤에 요청한 로드는 저장된 내용을 읽음)
+ * 실행되기 전에 취소한 요청은 파일을 읽거나 쓰지 않고 건너뜀
  */
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class FileManager {
+    static final String TEXT_STORAGE = "text"; // 월별 텍스트 파일 저장 방식
+    static final String RECORD_STORAGE = "record"; // 월별 고정 길이 레코드 파일 저장 방식
+    private static final String LEGACY_RECORD_STORAGE = "mapped"; // record 저장 방식의 이전 이름 (storage.txt 호환)
+    static final String KV_STORAGE = "kv"; // 날짜 순 키-값 로그 저장 방식
+    // 저장 방식을 정하지 않은 사용자의 기본 저장 방식
+    private static final String DEFAULT_STORAGE = System.getProperty("calendar.storage", TEXT_STORAGE);
+    // 비동기 파일 입출력 스레드 (요청 순서대로 하나씩 처리)
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-io");
+        thread.setDaemon(true);
+        return thread;
+    });
     private String nickname; // 사용자 닉네임
     private String userDataDir; // 사용자별 데이터 디렉터리
     private String sharedCacheFile; // 공유 일정 캐시 파일 경로
+    private String syncStateFile; // 공유 일정 캐시의 동기화 지점 파일 경로
+    private String storageFile; // 개인 일정 저장 방식 설정 파일 경로
+    private String storage; // 개인 일정 저장 방식 (TEXT_STORAGE, RECORD_STORAGE 또는 KV_STORAGE)
+    private Map<String, TaskStorage> storages = new HashMap<>(); // 저장 방식 이름 -> 저장소 (처음 사용할 때 생성)
+    private final Object repeatingLock = new Object(); // 반복 일정 색인 보호용 잠금 (EDT와 file-io 스레드가 함께 사용)
+    private DayMap<List<ToDo>> repeatingByMonth; // 월 키 -> 그 달 파일의 반복 일정 (처음 필요할 때 모든 월 파일에서 수집)
+    private final DayMap<List<ToDo>> repeatingUpdates = new DayMap<>(); // 수집이 끝나기 전에 갱신된 달의 반복 일정 (수집 결과보다 우선)
 
     /**
      * UserDataManager 생성자
@@ -26,6 +63,8 @@ public class FileManager {
         // 특수문자를 언더스코어로 변환하여 안전한 폴더명 생성
         this.userDataDir = "data_" + nickname.replaceAll("[^a-zA-Z0-9가-힣]", "_");
         this.sharedCacheFile = userDataDir + "/shared_cache.txt";
+        this.syncStateFile = userDataDir + "/shared_sync.txt";
+        this.storageFile = userDataDir + "/storage.txt";
 
         // 사용자 데이터 폴더가 없으면 생성
         File dir = new File(userDataDir);
@@ -33,6 +72,92 @@ public class FileManager {
             dir.mkdir();
             System.out.println("사용자 데이터 폴더 생성: " + userDataDir);
         }
+        this.storage = loadStorage();
+    }
+
+    /**
+     * 사용자의 개인 일정 저장 방식 로드
+     * 
+     * @return 저장 방식 (설정이 없거나 잘못되었으면 기본 저장 방식)
+     */
+    private String loadStorage() {
+        File file = new File(storageFile);
+        if (file.exists()) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line = reader.readLine();
+                if (line != null && LEGACY_RECORD_STORAGE.equals(line.trim())) {
+                    return RECORD_STORAGE; // 파일 형식은 같음
+                }
+                if (line != null && isStorage(line.trim())) {
+                    return line.trim();
+                }
+            } catch (IOException e) {
+                System.err.println("저장 방식 설정 로드 실패: " + e.getMessage());
+            }
+        }
+        return isStorage(DEFAULT_STORAGE) ? DEFAULT_STORAGE : TEXT_STORAGE;
+    }
+
+    /**
+     * 지원하는 저장 방식인지 확인
+     * 
+     * @param storage 저장 방식 이름
+     * @return 지원하면 true
+     */
+    static boolean isStorage(String storage) {
+        return TEXT_STORAGE.equals(storage) || RECORD_STORAGE.equals(storage) || KV_STORAGE.equals(storage);
+    }
+
+    /**
+     * 저장 방식의 저장소 반환 (처음 사용할 때 생성)
+     * 
+     * @param storage 저장 방식
+     * @return 저장소
+     */
+    private synchronized TaskStorage storageFor(String storage) {
+        TaskStorage store = storages.get(storage);
+        if (store == null) {
+            if (RECORD_STORAGE.equals(storage)) {
+                store = new RecordTaskStore(userDataDir);
+            } else if (KV_STORAGE.equals(storage)) {
+                store = new KeyValueTaskStore(userDataDir);
+            } else {
+                store = new TextTaskStore(userDataDir);
+            }
+            storages.put(storage, store);
+        }
+        return store;
+    }
+
+    /**
+     * 현재 개인 일정 저장 방식 반환
+     * 
+     * @return 저장 방식
+     */
+    public String getStorage() {
+        return storage;
+    }
+
+    /**
+     * 개인 일정 저장 방식 변경 및 설정 저장 (기존 파일은 변환하지 않음 - StorageMigration 사용)
+     * 
+     * @param storage 저장 방식 (TEXT_STORAGE, RECORD_STORAGE 또는 KV_STORAGE)
+     */
+    public void setStorage(String storage) {
+        if (!isStorage(storage)) {
+            throw new IllegalArgumentException("지원하지 않는 저장 방식: " + storage);
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(storageFile))) {
+            writer.println(storage);
+        } catch (IOException e) {
+            System.err.println("저장 방식 설정 저장 실패: " + e.getMessage());
+        }
+        this.storage = storage;
+        synchronized (repeatingLock) {
+            // 반복 일정은 새 저장 방식의 파일에서 다시 수집
+            this.repeatingByMonth = null;
+            this.repeatingUpdates.clear();
+        }
     }
 
     /**
@@ -42,33 +167,62 @@ public class FileManager {
      * @param month 월 (0부터 시작)
      * @param tasks 저장할 일정 데이터
      */
-    public void saveLocalTasks(int year, int month, HashMap<String, List<ToDo>> tasks) {
-        String fileName = String.format("%s/%d-%d.txt", userDataDir, year, month + 1);
-
-        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
-            String targetMonth = String.format("%04d-%02d", year, month + 1);
+    public void saveLocalTasks(int year, int month, CalendarStore<ToDo> tasks) {
+        saveLocalTasks(year, month, tasks, storage);
+        updateRepeating(year, month, tasks);
+    }
 
-            // 해당 월의 일정만 필터링하여 저장
-            for (String dateKey : tasks.keySet()) {
-                if (!dateKey.startsWith(targetMonth))
-                    continue;
+    /**
+     * 달의 반복 일정 갱신 - 아직 파일에 쓰지 않은 달(MonthCache)의 반복 일정도 다른 달 화면에 보이게 함
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 해당 달의 일정 데이터
+     */
+    void updateRepeating(int year, int month, CalendarStore<ToDo> tasks) {
+        List<ToDo> repeating = repeatingOf(tasks, year, month);
+        synchronized (repeatingLock) {
+            if (repeatingByMonth != null) {
+                repeatingByMonth.put(DayKey.monthKey(year, month), repeating);
+            } else {
+                repeatingUpdates.put(DayKey.monthKey(year, month), repeating);
+            }
+        }
+    }
 
-                List<ToDo> todoList = tasks.get(dateKey);
-                if (todoList.isEmpty())
-                    continue;
+    /**
+     * 개인 일정을 file-io 스레드에서 저장 (호출한 스레드에서 해당 달의 날짜별 목록을 복사해 넘기므로 이후 변경과 섞이지 않음)
+     * 일정 객체 자체는 공유하므로 저장 전에 직접 수정하면 수정된 내용이 저장될 수 있으나, 수정 후에는 다시 저장 요청이 들어옴
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 저장할 일정 데이터
+     * @return 저장이 끝나면 완료되는 결과
+     */
+    public CompletableFuture<Void> saveLocalTasksAsync(int year, int month, CalendarStore<ToDo> tasks) {
+        CalendarStore<ToDo> snapshot = new CalendarStore<>();
+        for (Map.Entry<Integer, List<ToDo>> day : tasks.month(year, month).entrySet()) {
+            snapshot.put(day.getKey(), day.getValue());
+        }
+        updateRepeating(year, month, snapshot);
+        String target = storage;
+        return submit(() -> {
+            saveLocalTasks(year, month, snapshot, target);
+            return null;
+        });
+    }
 
-                writer.printf("Day %s:\n", dateKey);
-                // 각 일정의 모든 속성을 파이프(|)로 구분하여 저장
-                for (ToDo todo : todoList) {
-                    writer.printf("%s|%s|%b|%d|%d|%d|%d|%d|%d|%d|%d|%d|%d|%s|%s|%s\n",
-                            todo.getTaskName(), todo.getLocation(), todo.isAllDay(),
-                            todo.getStartYear(), todo.getStartMonth(), todo.getStartDay(),
-                            todo.getStartHour(), todo.getStartMinute(),
-                            todo.getEndYear(), todo.getEndMonth(), todo.getEndDay(),
-                            todo.getEndHour(), todo.getEndMinute(),
-                            todo.getAlarm(), todo.getRepeat(), todo.getMemo());
-                }
-            }
+    /**
+     * 개인 일정을 지정한 저장 방식으로 저장
+     * 
+     * @param year    연도
+     * @param month   월 (0부터 시작)
+     * @param tasks   저장할 일정 데이터
+     * @param storage 저장 방식
+     */
+    void saveLocalTasks(int year, int month, CalendarStore<ToDo> tasks, String storage) {
+        try {
+            storageFor(storage).save(year, month, tasks);
         } catch (IOException e) {
             System.err.println("로컬 일정 저장 실패: " + e.getMessage());
         }
@@ -81,81 +235,211 @@ public class FileManager {
      * @param month 월 (0부터 시작)
      * @return 로드된 일정 데이터
      */
-    public HashMap<String, List<ToDo>> loadLocalTasks(int year, int month) {
-        String fileName = String.format("%s/%d-%d.txt", userDataDir, year, month + 1);
-        File file = new File(fileName);
-        HashMap<String, List<ToDo>> tasks = new HashMap<>();
+    public CalendarStore<ToDo> loadLocalTasks(int year, int month) {
+        return loadLocalTasks(year, month, storage);
+    }
 
-        if (!file.exists()) {
-            return tasks;
+    /**
+     * 개인 일정을 file-io 스레드에서 로드
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 로드된 일정 데이터 (로드가 끝나면 완료)
+     */
+    public CompletableFuture<CalendarStore<ToDo>> loadLocalTasksAsync(int year, int month) {
+        return submit(() -> loadLocalTasks(year, month));
+    }
+
+    /**
+     * 개인 일정을 지정한 저장 방식의 파일에서 로드
+     * 
+     * @param year    연도
+     * @param month   월 (0부터 시작)
+     * @param storage 저장 방식
+     * @return 로드된 일정 데이터
+     */
+    CalendarStore<ToDo> loadLocalTasks(int year, int month, String storage) {
+        try {
+            return storageFor(storage).load(year, month);
+        } catch (IOException e) {
+            System.err.println("로컬 일정 로드 실패: " + e.getMessage());
+            return new CalendarStore<>();
         }
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            String currentDateKey = null;
+    /**
+     * 여러 달에 걸친 날짜 구간의 개인 일정 로드 (kv 저장 방식은 색인 구간 하나만 읽고, 나머지는 월 파일을 하나씩 읽음)
+     * 
+     * @param fromKey 시작 날짜 키 (포함)
+     * @param toKey   끝 날짜 키 (포함)
+     * @return 로드된 일정 데이터
+     */
+    public CalendarStore<ToDo> loadLocalRange(int fromKey, int toKey) {
+        try {
+            return storageFor(storage).range(fromKey, toKey);
+        } catch (IOException e) {
+            System.err.println("로컬 일정 로드 실패: " + e.getMessage());
+            return new CalendarStore<>();
+        }
+    }
 
-            while ((line = reader.readLine()) != null) {
-                // 날짜 헤더 라인 처리
-                if (line.startsWith("Day ")) {
-                    currentDateKey = line.substring(4, line.length() - 1);
-                    tasks.putIfAbsent(currentDateKey, new ArrayList<>());
-                    continue;
+    /**
+     * 다른 달 파일에 저장된 반복 일정 반환 (반복 일정은 시작한 달 파일에만 저장되므로 다른 달 화면과 알림에 필요)
+     * 처음 호출할 때 모든 월 파일을 한 번 읽어 반복 일정만 기억하고, 이후에는 저장할 때마다 그 달 것만 갱신함
+     * 
+     * @param year  제외할 연도 (현재 불러온 달)
+     * @param month 제외할 월 (0부터 시작)
+     * @return 반복 일정 목록
+     */
+    public List<ToDo> loadRepeatingTasks(int year, int month) {
+        boolean collected;
+        synchronized (repeatingLock) {
+            collected = repeatingByMonth != null;
+        }
+        if (!collected) {
+            // 파일은 잠금 없이 읽어, 그동안 다른 스레드의 updateRepeating이 기다리지 않게 함
+            DayMap<List<ToDo>> scanned = new DayMap<>();
+            for (int[] stored : storedMonths(storage)) {
+                int fileYear = stored[0];
+                int fileMonth = stored[1];
+                List<ToDo> repeating = repeatingOf(loadLocalTasks(fileYear, fileMonth), fileYear, fileMonth);
+                if (!repeating.isEmpty()) {
+                    scanned.put(DayKey.monthKey(fileYear, fileMonth), repeating);
                 }
+            }
+            synchronized (repeatingLock) {
+                if (repeatingByMonth == null) {
+                    for (int monthKey : repeatingUpdates.keys()) {
+                        scanned.put(monthKey, repeatingUpdates.get(monthKey));
+                    }
+                    repeatingUpdates.clear();
+                    repeatingByMonth = scanned;
+                }
+            }
+        }
 
-                if (currentDateKey == null)
-                    continue;
+        int excluded = DayKey.monthKey(year, month);
+        List<ToDo> result = new ArrayList<>();
+        synchronized (repeatingLock) {
+            for (int monthKey : repeatingByMonth.keys()) {
+                if (monthKey != excluded) {
+                    result.addAll(repeatingByMonth.get(monthKey));
+                }
+            }
+        }
+        return result;
+    }
 
-                // 일정 데이터 파싱 (16개 필드)
-                String[] parts = line.split("\\|");
-                if (parts.length != 16)
-                    continue;
+    /**
+     * 다른 달 파일에 저장된 반복 일정을 file-io 스레드에서 반환 (처음에는 모든 월 파일을 읽음)
+     * 
+     * @param year  제외할 연도 (현재 불러온 달)
+     * @param month 제외할 월 (0부터 시작)
+     * @return 반복 일정 목록 (수집이 끝나면 완료)
+     */
+    public CompletableFuture<List<ToDo>> loadRepeatingTasksAsync(int year, int month) {
+        return submit(() -> loadRepeatingTasks(year, month));
+    }
 
-                ToDo todo = new ToDo(
-                        parts[0], parts[1], Boolean.parseBoolean(parts[2]),
-                        Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]),
-                        Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8]),
-                        Integer.parseInt(parts[9]), Integer.parseInt(parts[10]), Integer.parseInt(parts[11]),
-                        Integer.parseInt(parts[12]), parts[13], parts[14], parts[15]);
+    /**
+     * 지정한 저장 방식으로 저장된 월 목록 반환
+     * 
+     * @param storage 저장 방식
+     * @return {연도, 월(0부터 시작)} 목록
+     */
+    List<int[]> storedMonths(String storage) {
+        return storageFor(storage).months();
+    }
 
-                tasks.get(currentDateKey).add(todo);
+    /**
+     * 저장소에서 해당 달에 시작하는 반복 일정만 모음
+     * 
+     * @param tasks 일정 저장소
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 반복 일정 목록
+     */
+    private static List<ToDo> repeatingOf(CalendarStore<ToDo> tasks, int year, int month) {
+        int monthKey = DayKey.monthKey(year, month);
+        List<ToDo> repeating = new ArrayList<>();
+        for (ToDo todo : tasks.repeating()) {
+            if (DayKey.monthOf(DayKey.of(todo)) == monthKey) {
+                repeating.add(todo);
             }
-        } catch (IOException | NumberFormatException e) {
-            System.err.println("로컬 일정 로드 실패: " + e.getMessage());
         }
-
-        return tasks;
+        return repeating;
     }
 
     /**
      * 공유 일정 캐시를 파일로 저장
      * 
      * @param sharedTasks 저장할 공유 일정 데이터
+     * @return 저장 성공 여부
+     */
+    public boolean saveSharedCache(CalendarStore<SharedToDo> sharedTasks) {
+        int[] dateKeys = sharedTasks.keys();
+        List<List<SharedToDo>> days = new ArrayList<>(dateKeys.length);
+        for (int dateKey : dateKeys) {
+            days.add(sharedTasks.get(dateKey));
+        }
+        return saveSharedCache(dateKeys, days);
+    }
+
+    /**
+     * 날짜별 공유 일정 목록을 캐시 파일로 저장 (임시 파일에 쓴 뒤 원자적으로 교체 - 저장 중 중단되어도 이전 캐시가 남음)
+     * 
+     * @param dateKeys 날짜 키 (날짜 순)
+     * @param days     날짜 키별 일정 목록
+     * @return 저장 성공 여부 (실패하면 이전 캐시 파일이 그대로 남음)
      */
-    public void saveSharedCache(HashMap<String, List<SharedToDo>> sharedTasks) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(sharedCacheFile))) {
-            for (String dateKey : sharedTasks.keySet()) {
-                List<SharedToDo> todoList = sharedTasks.get(dateKey);
+    public boolean saveSharedCache(int[] dateKeys, List<List<SharedToDo>> days) {
+        Path target = Paths.get(sharedCacheFile);
+        Path temp = Paths.get(sharedCacheFile + ".tmp");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(temp, Charset.defaultCharset()))) {
+            for (int i = 0; i < dateKeys.length; i++) {
+                List<SharedToDo> todoList = days.get(i);
                 if (todoList.isEmpty())
                     continue;
 
-                writer.printf("SharedDay %s:\n", dateKey);
+                writer.printf("SharedDay %s:\n", DayKey.format(dateKeys[i]));
                 // SharedToDo의 네트워크 문자열 형태로 저장
                 for (SharedToDo todo : todoList) {
                     writer.println(todo.toNetworkString());
                 }
             }
+            if (writer.checkError()) {
+                throw new IOException("쓰기 오류");
+            }
         } catch (IOException e) {
             System.err.println("공유 일정 캐시 저장 실패: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.err.println("공유 일정 캐시 저장 실패: " + e.getMessage());
+            return false;
         }
     }
 
+    /**
+     * 공유 일정 캐시를 file-io 스레드에서 로드
+     * 
+     * @return 로드된 공유 일정 데이터 (로드가 끝나면 완료)
+     */
+    public CompletableFuture<CalendarStore<SharedToDo>> loadSharedCacheAsync() {
+        return submit(this::loadSharedCache);
+    }
+
     /**
      * 공유 일정 캐시를 파일에서 로드
      * 
      * @return 로드된 공유 일정 데이터
      */
-    public HashMap<String, List<SharedToDo>> loadSharedCache() {
-        HashMap<String, List<SharedToDo>> sharedTasks = new HashMap<>();
+    public CalendarStore<SharedToDo> loadSharedCache() {
+        CalendarStore<SharedToDo> sharedTasks = new CalendarStore<>();
         File file = new File(sharedCacheFile);
 
         if (!file.exists()) {
@@ -164,17 +448,17 @@ public class FileManager {
 
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line;
-            String currentDateKey = null;
+            int currentDateKey = -1; // 날짜 헤더 전이면 -1
 
             while ((line = reader.readLine()) != null) {
                 // 공유 일정 날짜 헤더 처리
                 if (line.startsWith("SharedDay ")) {
-                    currentDateKey = line.substring(10, line.length() - 1);
+                    currentDateKey = DayKey.parse(line.substring(10, line.length() - 1));
                     sharedTasks.putIfAbsent(currentDateKey, new ArrayList<>());
                     continue;
                 }
 
-                if (currentDateKey == null)
+                if (currentDateKey < 0)
                     continue;
 
                 // SharedToDo 객체로 변환
@@ -184,13 +468,55 @@ public class FileManager {
                 }
             }
             System.out.println("공유 일정 캐시 로드 완료");
-        } catch (IOException e) {
+        } catch (IOException | NumberFormatException e) {
             System.err.println("공유 일정 캐시 로드 실패: " + e.getMessage());
         }
 
         return sharedTasks;
     }
 
+    /**
+     * 공유 일정 캐시가 반영한 동기화 지점 저장
+     * 캐시를 저장한 뒤에 호출해야 하며, null이면 동기화 지점을 지워 다음 연결 시 전체 동기화를 받음
+     * 
+     * @param syncPoint "서버실행ID|리비전" 형태의 동기화 지점
+     */
+    public void saveSyncState(String syncPoint) {
+        File file = new File(syncStateFile);
+        if (syncPoint == null) {
+            file.delete();
+            return;
+        }
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println(syncPoint);
+        } catch (IOException e) {
+            System.err.println("동기화 지점 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 공유 일정 캐시의 동기화 지점 로드
+     * 
+     * @return "서버실행ID|리비전" 형태의 동기화 지점, 없으면 "0|0" (전체 동기화)
+     */
+    public String loadSyncState() {
+        File file = new File(syncStateFile);
+        if (!file.exists()) {
+            return "0|0";
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            if (line != null && line.contains("|")) {
+                return line.trim();
+            }
+        } catch (IOException e) {
+            System.err.println("동기화 지점 로드 실패: " + e.getMessage());
+        }
+        return "0|0";
+    }
+
     /**
      * 사용자 데이터 디렉터리 경로 반환
      * 
@@ -199,4 +525,25 @@ public class FileManager {
     public String getUserDataDir() {
         return userDataDir;
     }
+
+    /**
+     * 파일 입출력 작업을 file-io 스레드에 넘김 (실행 전에 결과가 취소되었으면 작업을 건너뜀)
+     * 
+     * @param <V>  결과 타입
+     * @param work 작업
+     * @return 작업 결과
+     */
+    private static <V> CompletableFuture<V> submit(Callable<V> work) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        IO_EXECUTOR.execute(() -> {
+            if (result.isDone())
+                return;
+            try {
+                result.complete(work.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
 }
\ No newline at end of file
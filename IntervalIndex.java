@@ -0,0 +1,350 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 일정의 (시작, 끝) 구간 색인 클래스 - 특정 날짜나 시간대와 겹치는 일정을 찾음
+ * 시작 시각 순 트립(treap, 무작위 우선순위로 균형을 잡는 이진 탐색 트리)의 각 노드에
+ * 하위 트리의 가장 늦은 끝 시각을 함께 저장해, 겹칠 수 없는 하위 트리는 건너뛰므로 기간이 여러 날에 걸친 일정도 O(log n + k)에 찾음
+ * 
+ * 시각 값은 (날짜 키 << 11) | 하루 안의 분 형식의 long으로, 크기 순서가 시각 순서와 같음
+ * 노드는 추가 시점의 시각 값을 보관하므로, 일정 내용을 직접 바꾼 경우 update로 다시 색인해야 함
+ * 스레드 안전하지 않음 (OurCalendar의 저장소는 EDT에서만 변경)
+ * 
+ * @param <T> 일정 타입
+ */
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+class IntervalIndex<T extends ToDo> {
+    private static final int MINUTE_BITS = 11; // 하루 안의 분 (0~1440)
+    private static final int DAY_MINUTES = 24 * 60; // 하루의 분 수
+    private static final int MAX_YEAR = 0x3FFFFF; // 날짜 키로 표현할 수 있는 최대 연도
+
+    private final Map<ToDo, Node<T>> nodes = new IdentityHashMap<>(); // 일정 -> 색인 노드 (삭제/재색인용)
+    private Node<T> root; // 트리 뿌리
+    private long nextSequence = 0; // 시작 시각이 같은 노드의 순서 (추가 순)
+    private int seed = 0x2545F491; // 노드 우선순위 난수 상태
+
+    /**
+     * 트리 노드 - 일정 하나의 구간
+     */
+    private static final class Node<T> {
+        final T todo; // 일정
+        final long start; // 시작 시각 값
+        final long end; // 끝 시각 값 (제외)
+        final long sequence; // 같은 시작 시각 안에서의 순서
+        final int priority; // 힙 우선순위 (난수)
+        long maxEnd; // 하위 트리에서 가장 늦은 끝 시각 값
+        Node<T> left; // 시작 시각이 앞선 하위 트리
+        Node<T> right; // 시작 시각이 늦은 하위 트리
+
+        Node(T todo, long start, long end, long sequence, int priority) {
+            this.todo = todo;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        boolean before(Node<T> other) {
+            return start < other.start || (start == other.start && sequence < other.sequence);
+        }
+    }
+
+    /**
+     * 일정 추가 (이미 있으면 현재 내용으로 다시 색인)
+     * 
+     * @param todo 일정
+     */
+    void add(T todo) {
+        remove(todo);
+        long start = startOf(todo);
+        Node<T> node = new Node<>(todo, start, Math.max(endOf(todo), start + 1), nextSequence++, nextPriority());
+        nodes.put(todo, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * 일정 삭제
+     * 
+     * @param todo 일정
+     * @return 색인에 있었으면 true
+     */
+    boolean remove(ToDo todo) {
+        Node<T> node = nodes.remove(todo);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+
+    /**
+     * 내용이 바뀐 일정을 다시 색인 (색인에 없는 일정이면 무시)
+     * 
+     * @param todo 일정
+     * @return 색인에 있었으면 true
+     */
+    boolean update(T todo) {
+        if (!nodes.containsKey(todo)) {
+            return false;
+        }
+        add(todo);
+        return true;
+    }
+
+    /**
+     * 색인된 일정 수 반환
+     * 
+     * @return 일정 수
+     */
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 모든 일정 삭제
+     */
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * [from, to) 구간과 겹치는 일정 반환 (시작 시각 순)
+     * 
+     * @param from 구간 시작 시각 값 (포함)
+     * @param to   구간 끝 시각 값 (제외)
+     * @return 겹치는 일정 목록
+     */
+    List<T> overlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * 하위 트리에서 구간과 겹치는 일정을 시작 시각 순으로 수집
+     * 
+     * @param node   하위 트리 뿌리
+     * @param from   구간 시작 시각 값
+     * @param to     구간 끝 시각 값
+     * @param result 결과 목록
+     */
+    private void collect(Node<T> node, long from, long to, List<T> result) {
+        while (node != null && node.maxEnd > from) {
+            collect(node.left, from, to, result);
+            if (node.start >= to) {
+                return; // 오른쪽 하위 트리는 모두 더 늦게 시작함
+            }
+            if (node.end > from) {
+                result.add(node.todo);
+            }
+            node = node.right;
+        }
+    }
+
+    /**
+     * 노드 삽입 (시작 시각 순 이진 탐색 트리 + 우선순위 힙)
+     * 
+     * @param tree 하위 트리 뿌리
+     * @param node 삽입할 노드
+     * @return 새 하위 트리 뿌리
+     */
+    private Node<T> insert(Node<T> tree, Node<T> node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.before(tree)) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) {
+                tree = rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) {
+                tree = rotateLeft(tree);
+            }
+        }
+        refresh(tree);
+        return tree;
+    }
+
+    /**
+     * 노드 삭제
+     * 
+     * @param tree 하위 트리 뿌리
+     * @param node 삭제할 노드
+     * @return 새 하위 트리 뿌리
+     */
+    private Node<T> delete(Node<T> tree, Node<T> node) {
+        if (tree == null) {
+            return null;
+        }
+        if (tree == node) {
+            return merge(tree.left, tree.right);
+        }
+        if (node.before(tree)) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        refresh(tree);
+        return tree;
+    }
+
+    /**
+     * 왼쪽 트리의 모든 노드가 오른쪽 트리보다 앞선 두 트리를 합침
+     * 
+     * @param left  왼쪽 트리
+     * @param right 오른쪽 트리
+     * @return 합친 트리 뿌리
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            refresh(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        refresh(right);
+        return right;
+    }
+
+    /**
+     * 오른쪽 회전 (왼쪽 자식이 뿌리가 됨)
+     * 
+     * @param tree 하위 트리 뿌리
+     * @return 새 하위 트리 뿌리
+     */
+    private Node<T> rotateRight(Node<T> tree) {
+        Node<T> top = tree.left;
+        tree.left = top.right;
+        top.right = tree;
+        refresh(tree);
+        return top;
+    }
+
+    /**
+     * 왼쪽 회전 (오른쪽 자식이 뿌리가 됨)
+     * 
+     * @param tree 하위 트리 뿌리
+     * @return 새 하위 트리 뿌리
+     */
+    private Node<T> rotateLeft(Node<T> tree) {
+        Node<T> top = tree.right;
+        tree.right = top.left;
+        top.left = tree;
+        refresh(tree);
+        return top;
+    }
+
+    /**
+     * 자식이 바뀐 노드의 하위 트리 최대 끝 시각 갱신
+     * 
+     * @param node 노드
+     */
+    private void refresh(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    /**
+     * 노드 우선순위 난수 (xorshift)
+     * 
+     * @return 난수
+     */
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    /**
+     * 일정의 시작 시각 값 (종일 일정은 시작일 0시)
+     * 
+     * @param todo 일정
+     * @return 시작 시각 값
+     */
+    static long startOf(ToDo todo) {
+        int minute = todo.isAllDay() ? 0 : todo.getStartHour() * 60 + todo.getStartMinute();
+        return ((long) DayKey.of(todo) << MINUTE_BITS) | minute;
+    }
+
+    /**
+     * 일정의 끝 시각 값 (종일 일정은 종료일 24시)
+     * 
+     * @param todo 일정
+     * @return 끝 시각 값
+     */
+    static long endOf(ToDo todo) {
+        int minute = todo.isAllDay() ? DAY_MINUTES : todo.getEndHour() * 60 + todo.getEndMinute();
+        int key = DayKey.of(todo.getEndYear(), todo.getEndMonth(), todo.getEndDay());
+        return ((long) key << MINUTE_BITS) | minute;
+    }
+
+    /**
+     * 날짜의 시작 시각 값 (0시)
+     * 
+     * @param dayKey 날짜 키
+     * @return 시각 값
+     */
+    static long dayStart(int dayKey) {
+        return (long) dayKey << MINUTE_BITS;
+    }
+
+    /**
+     * 날짜의 끝 시각 값 (24시, 다음 날 0시보다 앞섬)
+     * 
+     * @param dayKey 날짜 키
+     * @return 시각 값
+     */
+    static long dayEnd(int dayKey) {
+        return ((long) dayKey << MINUTE_BITS) | DAY_MINUTES;
+    }
+
+    /**
+     * 시각을 시각 값으로 변환 (날짜 키 범위 밖의 연도는 양 끝으로 맞춤, 초 이하는 버림)
+     * 
+     * @param time 시각
+     * @return 시각 값
+     */
+    static long valueOf(LocalDateTime time) {
+        return ((long) dayKeyOf(time) << MINUTE_BITS) | (time.getHour() * 60 + time.getMinute());
+    }
+
+    /**
+     * 시각의 날짜 키 반환 (날짜 키 범위 밖의 연도는 양 끝으로 맞춤)
+     * 
+     * @param time 시각
+     * @return 날짜 키
+     */
+    static int dayKeyOf(LocalDateTime time) {
+        if (time.getYear() < 0) {
+            return 0;
+        }
+        if (time.getYear() > MAX_YEAR) {
+            return Integer.MAX_VALUE;
+        }
+        return DayKey.of(time.getYear(), time.getMonthValue() - 1, time.getDayOfMonth());
+    }
+}
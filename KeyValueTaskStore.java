@@ -0,0 +1,557 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 개인 일정 키-값 저장소 클래스 - 모든 달의 일정을 로그 파일 하나(data_<닉네임>/tasks.kv)에 날짜 순 키로 저장
+ * 키는 (날짜 키 << 32) | 그 날짜 목록 안의 순서 이므로, 키 순서가 날짜 순서 + 목록 순서와 같음
+ * 메모리의 정렬된 색인(TreeMap)에 키 -> 인코딩된 일정을 두어 월 로드와 여러 달에 걸친 구간 조회를 파일을 읽지 않고 처리함
+ * 
+ * 저장은 로그 뒤에 바뀐 키의 PUT/DELETE 기록만 덧붙이므로(지점 갱신), 일정 하나를 고치면 기록 하나만 씀
+ * 로그가 살아 있는 데이터의 두 배를 넘으면 백그라운드 스레드가 현재 상태만 담은 새 로그를 써서 원자적으로 교체함(압축)
+ * 압축 중에 덧붙인 기록은 따로 모아 두었다가 교체 직전에 새 로그 뒤에 이어 씀
+ * 
+ * 기록 형식: 길이(4) + CRC32(4) + [종류(1) + 키(8) + 값(PUT만)] - 열 때 CRC가 맞지 않는 끝부분(쓰다 만 기록)은 잘라냄
+ * 값 형식: 종일 여부(1) + 시작/종료 연월일시분 10개(각 4) + 문자열 5개(제목, 장소, 알림, 반복, 메모, 각 길이(4, null이면 -1) + UTF-8)
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+class KeyValueTaskStore implements TaskStorage {
+    // 로그가 이 크기 이상이고 살아 있는 데이터의 두 배를 넘으면 압축
+    private static final long COMPACT_MIN_BYTES = Long.getLong("calendar.kv.compactMinBytes", 256 * 1024);
+    private static final byte PUT = 1; // 키 저장 기록
+    private static final byte DELETE = 2; // 키 삭제 기록
+    private static final int RECORD_HEADER = 8; // 기록 머리 (길이 + CRC32)
+    private static final int KEY_HEADER = 1 + 8; // 기록 종류 + 키
+    private static final int STRING_FIELDS = 5; // 값의 문자열 수
+
+    private final Path logFile; // 로그 파일
+    private final TreeMap<Long, byte[]> entries = new TreeMap<>(); // 키 -> 인코딩된 일정 (키 순)
+    private FileChannel log; // 로그 파일 채널 (처음 사용할 때 열림)
+    private long logBytes = 0; // 로그 크기
+    private long liveBytes = 0; // 현재 상태만 기록할 때의 크기
+    private ByteArrayOutputStream sinceSnapshot; // 압축 중에 덧붙인 기록 (압축 중이 아니면 null)
+    private Thread compactor; // 압축 스레드 (압축 중이 아니면 null)
+    private long compactionCount = 0; // 완료한 압축 횟수
+
+    /**
+     * KeyValueTaskStore 생성자 (로그는 처음 사용할 때 읽음)
+     * 
+     * @param dataDir 로그 파일 폴더 (사용자 데이터 디렉터리)
+     */
+    KeyValueTaskStore(String dataDir) {
+        this.logFile = Paths.get(dataDir, "tasks.kv");
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 저장 - 이전 상태와 달라진 키만 로그에 기록
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 일정 저장소 (해당 월의 일정만 저장)
+     * @throws IOException 저장 실패
+     */
+    @Override
+    public synchronized void save(int year, int month, CalendarStore<ToDo> tasks) throws IOException {
+        open();
+        TreeMap<Long, byte[]> updated = new TreeMap<>();
+        for (Map.Entry<Integer, List<ToDo>> day : tasks.month(year, month).entrySet()) {
+            List<ToDo> todoList = day.getValue();
+            for (int i = 0; i < todoList.size(); i++) {
+                updated.put(keyOf(day.getKey(), i), encode(todoList.get(i)));
+            }
+        }
+
+        NavigableMap<Long, byte[]> existing = entries.subMap(keyOf(DayKey.of(year, month, 0), 0), true,
+                keyOf(DayKey.of(year, month, 31) + 1, 0), false);
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        List<Long> deleted = new ArrayList<>();
+        for (Long key : existing.keySet()) {
+            if (!updated.containsKey(key)) {
+                batch.write(record(DELETE, key, null));
+                deleted.add(key);
+            }
+        }
+        Iterator<Map.Entry<Long, byte[]>> it = updated.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, byte[]> entry = it.next();
+            if (Arrays.equals(existing.get(entry.getKey()), entry.getValue())) {
+                it.remove(); // 바뀌지 않은 키는 기록하지 않음
+            } else {
+                batch.write(record(PUT, entry.getKey(), entry.getValue()));
+            }
+        }
+        if (batch.size() == 0) {
+            return;
+        }
+
+        append(batch.toByteArray());
+        for (Long key : deleted) {
+            liveBytes -= recordSize(entries.remove(key));
+        }
+        for (Map.Entry<Long, byte[]> entry : updated.entrySet()) {
+            byte[] previous = entries.put(entry.getKey(), entry.getValue());
+            if (previous != null) {
+                liveBytes -= recordSize(previous);
+            }
+            liveBytes += recordSize(entry.getValue());
+        }
+        maybeCompact();
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 로드
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소
+     * @throws IOException 로그를 읽을 수 없음
+     */
+    @Override
+    public CalendarStore<ToDo> load(int year, int month) throws IOException {
+        return range(DayKey.of(year, month, 0), DayKey.of(year, month, 31));
+    }
+
+    /**
+     * 여러 달에 걸친 날짜 구간의 개인 일정 로드 (색인의 부분 구간 하나만 읽음)
+     * 
+     * @param fromKey 시작 날짜 키 (포함)
+     * @param toKey   끝 날짜 키 (포함)
+     * @return 일정 저장소
+     * @throws IOException 로그를 읽을 수 없음
+     */
+    @Override
+    public synchronized CalendarStore<ToDo> range(int fromKey, int toKey) throws IOException {
+        open();
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+        if (fromKey > toKey) {
+            return tasks;
+        }
+
+        int currentDay = -1;
+        List<ToDo> todoList = new ArrayList<>();
+        for (Map.Entry<Long, byte[]> entry : entries
+                .subMap(keyOf(fromKey, 0), true, keyOf(toKey + 1, 0), false).entrySet()) {
+            int dayKey = (int) (entry.getKey() >>> 32);
+            if (dayKey != currentDay) {
+                if (!todoList.isEmpty()) {
+                    tasks.put(currentDay, todoList);
+                    todoList.clear();
+                }
+                currentDay = dayKey;
+            }
+            todoList.add(decode(entry.getValue()));
+        }
+        if (!todoList.isEmpty()) {
+            tasks.put(currentDay, todoList);
+        }
+        return tasks;
+    }
+
+    /**
+     * 일정이 저장된 월 목록 반환 (달마다 색인을 한 번씩 건너뜀)
+     * 
+     * @return {연도, 월(0부터 시작)} 목록
+     */
+    @Override
+    public synchronized List<int[]> months() {
+        List<int[]> months = new ArrayList<>();
+        try {
+            open();
+        } catch (IOException e) {
+            System.err.println("일정 로그 열기 실패: " + e.getMessage());
+            return months;
+        }
+
+        Long key = entries.isEmpty() ? null : entries.firstKey();
+        while (key != null) {
+            int dayKey = (int) (key >>> 32);
+            int year = DayKey.year(dayKey);
+            int month = DayKey.month(dayKey);
+            months.add(new int[] { year, month });
+            key = entries.ceilingKey(keyOf(DayKey.of(year, month, 31) + 1, 0));
+        }
+        return months;
+    }
+
+    /**
+     * 로그 크기 반환
+     * 
+     * @return 바이트 수
+     */
+    synchronized long getLogBytes() {
+        return logBytes;
+    }
+
+    /**
+     * 현재 상태만 기록할 때의 크기 반환 (로그 크기와의 차이가 압축으로 줄일 수 있는 양)
+     * 
+     * @return 바이트 수
+     */
+    synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * 완료한 압축 횟수 반환
+     * 
+     * @return 압축 횟수
+     */
+    synchronized long getCompactionCount() {
+        return compactionCount;
+    }
+
+    /**
+     * 진행 중인 압축이 끝날 때까지 대기
+     */
+    synchronized void awaitCompaction() {
+        while (compactor != null) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 로그를 열고 기록을 재생해 색인을 만듦 (이미 열려 있으면 아무것도 하지 않음)
+     * 압축 뒤 로그를 다시 열지 못했을 때도 다음 사용 때 이 메서드로 색인을 새로 만듦
+     * 
+     * @throws IOException 로그를 읽을 수 없음
+     */
+    private void open() throws IOException {
+        if (log != null) {
+            return;
+        }
+
+        entries.clear();
+        liveBytes = 0;
+        FileChannel channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("일정 로그가 너무 큼: " + logFile);
+            }
+            ByteBuffer data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+            }
+            data.flip();
+
+            long valid = replay(data);
+            if (valid < size) {
+                System.err.println("일정 로그의 끝부분 " + (size - valid) + "바이트가 손상되어 잘라냄: " + logFile);
+                channel.truncate(valid);
+            }
+            channel.position(valid);
+            logBytes = valid;
+            log = channel;
+        } catch (IOException e) {
+            channel.close();
+            entries.clear();
+            liveBytes = 0;
+            throw e;
+        }
+    }
+
+    /**
+     * 기록을 차례로 색인에 적용
+     * 
+     * @param data 로그 내용
+     * @return 올바른 기록이 끝나는 위치
+     */
+    private long replay(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        while (data.remaining() >= RECORD_HEADER) {
+            int start = data.position();
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < KEY_HEADER || length > data.remaining()) {
+                return start;
+            }
+
+            byte[] payload = new byte[length];
+            data.get(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(payload);
+            byte type = record.get();
+            long key = record.getLong();
+            byte[] previous;
+            if (type == PUT) {
+                byte[] value = Arrays.copyOfRange(payload, KEY_HEADER, payload.length);
+                previous = entries.put(key, value);
+                liveBytes += recordSize(value);
+            } else if (type == DELETE) {
+                previous = entries.remove(key);
+            } else {
+                return start;
+            }
+            if (previous != null) {
+                liveBytes -= recordSize(previous);
+            }
+        }
+        return data.position();
+    }
+
+    /**
+     * 기록 묶음을 로그 뒤에 쓰고 디스크에 반영
+     * 
+     * @param bytes 기록 묶음
+     * @throws IOException 쓰기 실패
+     */
+    private void append(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        log.force(false);
+        logBytes += bytes.length;
+        if (sinceSnapshot != null) {
+            sinceSnapshot.write(bytes);
+        }
+    }
+
+    /**
+     * 로그가 충분히 커졌으면 백그라운드 압축 시작
+     */
+    private void maybeCompact() {
+        if (compactor != null || logBytes < COMPACT_MIN_BYTES || logBytes <= liveBytes * 2) {
+            return;
+        }
+
+        // 현재 상태의 복사본을 압축 스레드에 넘김 (값 배열은 바꾸지 않으므로 얕은 복사로 충분)
+        List<Map.Entry<Long, byte[]>> snapshot = new ArrayList<>(entries.entrySet());
+        sinceSnapshot = new ByteArrayOutputStream();
+        compactor = new Thread(() -> compact(snapshot), "kv-compactor");
+        compactor.setDaemon(true);
+        compactor.start();
+    }
+
+    /**
+     * 압축 - 복사본을 새 로그로 쓰고, 그동안 덧붙인 기록을 이어 쓴 뒤 기존 로그와 교체 (압축 스레드)
+     * 
+     * @param snapshot 압축 시작 시점의 상태
+     */
+    private void compact(List<Map.Entry<Long, byte[]>> snapshot) {
+        Path temp = Paths.get(logFile + ".tmp");
+        try {
+            writeSnapshot(temp, snapshot);
+
+            synchronized (this) {
+                // 압축 중에 덧붙인 기록을 이어 쓰고, 그 사이 새 기록이 끼어들지 않게 같은 잠금 안에서 교체
+                try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    writeFully(out, sinceSnapshot.toByteArray());
+                    out.force(true);
+                }
+
+                FileChannel previous = log;
+                log = null; // 아래에서 다시 열지 못하면 다음 사용 때 로그를 다시 읽어 색인을 만듦
+                previous.close();
+                try {
+                    move(temp, logFile);
+                } finally {
+                    // 교체에 실패했으면 기존 로그를 다시 엶
+                    FileChannel reopened = FileChannel.open(logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    logBytes = reopened.size();
+                    reopened.position(logBytes);
+                    log = reopened;
+                }
+                compactionCount++;
+            }
+        } catch (IOException e) {
+            System.err.println("일정 로그 압축 실패: " + e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+        } finally {
+            synchronized (this) {
+                sinceSnapshot = null;
+                compactor = null;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 압축 시작 시점의 상태를 임시 파일에 씀 (잠금 없이 실행)
+     * 
+     * @param temp     임시 파일
+     * @param snapshot 압축 시작 시점의 상태
+     * @throws IOException 쓰기 실패
+     */
+    private static void writeSnapshot(Path temp, List<Map.Entry<Long, byte[]>> snapshot) throws IOException {
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+            for (Map.Entry<Long, byte[]> entry : snapshot) {
+                chunk.write(record(PUT, entry.getKey(), entry.getValue()));
+                if (chunk.size() >= 64 * 1024) {
+                    writeFully(out, chunk.toByteArray());
+                    chunk.reset();
+                }
+            }
+            writeFully(out, chunk.toByteArray());
+        }
+    }
+
+    /**
+     * 파일을 원자적으로 교체 (지원하지 않는 파일 시스템이면 일반 교체)
+     * 
+     * @param source 새 파일
+     * @param target 교체할 파일
+     * @throws IOException 교체 실패
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 바이트 배열 전체를 채널에 씀
+     * 
+     * @param channel 채널
+     * @param bytes   바이트 배열
+     * @throws IOException 쓰기 실패
+     */
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 날짜 키와 목록 안의 순서로 키 생성
+     * 
+     * @param dayKey   날짜 키
+     * @param sequence 목록 안의 순서
+     * @return 키
+     */
+    static long keyOf(int dayKey, int sequence) {
+        return ((long) dayKey << 32) | (sequence & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 기록 하나 인코딩
+     * 
+     * @param type  기록 종류 (PUT/DELETE)
+     * @param key   키
+     * @param value 값 (DELETE면 null)
+     * @return 기록 바이트
+     */
+    private static byte[] record(byte type, long key, byte[] value) {
+        int length = KEY_HEADER + (value == null ? 0 : value.length);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + length);
+        buffer.putInt(length).putInt(0).put(type).putLong(key);
+        if (value != null) {
+            buffer.put(value);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER, length);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * 값이 value인 PUT 기록의 크기
+     * 
+     * @param value 값
+     * @return 바이트 수
+     */
+    private static long recordSize(byte[] value) {
+        return RECORD_HEADER + KEY_HEADER + value.length;
+    }
+
+    /**
+     * 일정을 값으로 인코딩
+     * 
+     * @param todo 일정
+     * @return 값 바이트
+     */
+    private static byte[] encode(ToDo todo) {
+        String[] strings = { todo.getTaskName(), todo.getLocation(), todo.getAlarm(), todo.getRepeat(),
+                todo.getMemo() };
+        byte[][] encoded = new byte[STRING_FIELDS][];
+        int size = 1 + 10 * 4 + STRING_FIELDS * 4;
+        for (int i = 0; i < STRING_FIELDS; i++) {
+            if (strings[i] != null) {
+                encoded[i] = strings[i].getBytes(StandardCharsets.UTF_8);
+                size += encoded[i].length;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put((byte) (todo.isAllDay() ? 1 : 0));
+        buffer.putInt(todo.getStartYear()).putInt(todo.getStartMonth()).putInt(todo.getStartDay())
+                .putInt(todo.getStartHour()).putInt(todo.getStartMinute());
+        buffer.putInt(todo.getEndYear()).putInt(todo.getEndMonth()).putInt(todo.getEndDay())
+                .putInt(todo.getEndHour()).putInt(todo.getEndMinute());
+        for (byte[] bytes : encoded) {
+            if (bytes == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(bytes.length).put(bytes);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 값을 일정으로 디코딩
+     * 
+     * @param value 값 바이트
+     * @return 일정
+     */
+    private static ToDo decode(byte[] value) {
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        boolean allDay = buffer.get() != 0;
+        int[] numbers = new int[10];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = buffer.getInt();
+        }
+        String[] strings = new String[STRING_FIELDS];
+        for (int i = 0; i < STRING_FIELDS; i++) {
+            int length = buffer.getInt();
+            if (length >= 0) {
+                strings[i] = new String(value, buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+        }
+
+        return new ToDo(strings[0], strings[1], allDay,
+                numbers[0], numbers[1], numbers[2], numbers[3], numbers[4],
+                numbers[5], numbers[6], numbers[7], numbers[8], numbers[9],
+                strings[2], strings[3], strings[4]);
+    }
+}
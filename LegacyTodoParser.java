@@ -0,0 +1,49 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 커서 파서(TodoLineParser) 도입 전의 SharedToDo.fromCompleteNetworkString 구현 (String.split 기반)
+ * 앱에서는 사용하지 않고, 두 파서의 결과가 같은지 검사하는 퍼즈 테스트(test/TodoLineParserFuzzTest)와
+ * 해석 비용을 비교하는 JMH 벤치마크(TodoLineBenchmark)의 기준으로만 남겨 둠 (로그 출력도 당시 그대로)
+ */
+
+final class LegacyTodoParser {
+    private LegacyTodoParser() {
+    }
+
+    /**
+     * 완전한 네트워크 문자열에서 SharedToDo 생성 (기존 구현)
+     * 
+     * @param data 파이프(|)로 구분된 완전한 SharedToDo 데이터 문자열
+     * @return 생성된 SharedToDo 객체, 실패 시 null
+     */
+    static SharedToDo fromCompleteNetworkString(String data) {
+        try {
+            String[] parts = data.split("\\|");
+            System.out.println("SharedToDo 파싱 시도 - 파트 개수: " + parts.length + ", 데이터: " + data);
+
+            if (parts.length < 17) {
+                System.err.println("파트 개수 부족: " + parts.length + " < 17");
+                return null;
+            }
+
+            String creator = parts[16];
+            String id = parts.length >= 18 ? parts[17] : "legacy_" + System.currentTimeMillis();
+
+            SharedToDo todo = new SharedToDo(
+                    parts[0], parts[1], Boolean.parseBoolean(parts[2]),
+                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]),
+                    Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8]),
+                    Integer.parseInt(parts[9]), Integer.parseInt(parts[10]), Integer.parseInt(parts[11]),
+                    Integer.parseInt(parts[12]), parts[13], parts[14], parts[15], creator, id);
+
+            System.out.println("SharedToDo 파싱 완료 - ID: " + todo.getId() + ", 제목: " + todo.getTaskName() + ", 생성자: "
+                    + todo.getCreator());
+            return todo;
+        } catch (Exception e) {
+            System.err.println("Complete SharedToDo 파싱 오류: " + e.getMessage());
+            return null;
+        }
+    }
+}
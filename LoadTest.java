@@ -0,0 +1,181 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 캘린더 서버 부하 테스트 도구
+ * 다수의 클라이언트를 접속시켜 초당 연결 수와 공유 일정 브로드캐스트 지연 시간을 측정함
+ * 서버를 thread / virtual / nio 모드로 각각 띄운 뒤 실행하여 결과를 비교함
+ * 
+ * 사용법: java LoadTest [클라이언트 수] [브로드캐스트 횟수] [접속 스레드 수]
+ */
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class LoadTest {
+    private static final String SERVER_HOST = "localhost"; // 서버 호스트
+    private static final int SERVER_PORT = 12345; // 서버 포트
+    private static final String TASK_PREFIX = "loadtest-"; // 부하 테스트용 일정 이름 접두사
+
+    private static final Map<String, Long> sentAt = new ConcurrentHashMap<>(); // 일정명 -> 전송 시각(ns)
+    private static final Map<String, CountDownLatch> arrivals = new ConcurrentHashMap<>(); // 일정명 -> 수신 대기
+    private static final Map<String, String> createdIds = new ConcurrentHashMap<>(); // 일정명 -> 서버가 부여한 ID
+    private static final Queue<Long> latencies = new ConcurrentLinkedQueue<>(); // 수신 지연 시간(ns)
+    private static final Map<Socket, BufferedReader> socketReaders = new ConcurrentHashMap<>(); // 소켓별 리더
+
+    /**
+     * 부하 테스트 실행
+     * 
+     * @param args 명령행 인자 - [클라이언트 수] [브로드캐스트 횟수] [접속 스레드 수]
+     */
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int connectThreads = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        // 수신 스레드 - 가능하면 가상 스레드 사용
+        ExecutorService readers = CalendarServer.newVirtualThreadExecutor();
+        if (readers == null) {
+            readers = Executors.newCachedThreadPool();
+        }
+        ExecutorService connectors = Executors.newFixedThreadPool(connectThreads);
+
+        // 1. 연결 단계 - 접속 + 닉네임 핸드셰이크 완료까지의 처리량 측정
+        List<Future<Socket>> pending = new ArrayList<>();
+        long connectStart = System.nanoTime();
+        for (int i = 0; i < clientCount; i++) {
+            String nickname = "load_" + i;
+            pending.add(connectors.submit(() -> connect(nickname)));
+        }
+
+        List<Socket> sockets = new ArrayList<>();
+        for (Future<Socket> future : pending) {
+            sockets.add(future.get());
+        }
+        long connectNanos = System.nanoTime() - connectStart;
+        connectors.shutdown();
+
+        for (Socket socket : sockets) {
+            readers.execute(() -> readLoop(socket));
+        }
+
+        System.out.printf("연결: %d개, %.1f ms, %.1f 연결/초%n",
+                clientCount, connectNanos / 1e6, clientCount / (connectNanos / 1e9));
+
+        // 2. 브로드캐스트 단계 - 한 클라이언트가 공유한 일정이 모든 클라이언트에 도착하는 시간 측정
+        PrintWriter sender = new PrintWriter(new OutputStreamWriter(sockets.get(0).getOutputStream()), true);
+        int timeouts = 0;
+        for (int round = 0; round < rounds; round++) {
+            String taskName = TASK_PREFIX + round + "-" + System.nanoTime();
+            CountDownLatch latch = new CountDownLatch(clientCount);
+            arrivals.put(taskName, latch);
+            sentAt.put(taskName, System.nanoTime());
+            sender.println("SHARE_TODO|" + taskName + "|loadtest|false|2025|0|1|9|0|2025|0|1|10|0|없음|없음|loadtest");
+
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                timeouts++;
+            }
+
+            // 테스트 일정 정리
+            String id = createdIds.get(taskName);
+            if (id != null) {
+                sender.println("DELETE_TODO|" + id);
+            }
+            Thread.sleep(100);
+        }
+
+        printLatencies(rounds, timeouts);
+
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        readers.shutdownNow();
+        System.exit(0);
+    }
+
+    /**
+     * 서버에 접속하고 CONNECTED 응답까지 대기
+     * 
+     * @param nickname 사용할 닉네임
+     * @return 연결된 소켓
+     */
+    private static Socket connect(String nickname) throws IOException {
+        Socket socket = new Socket(SERVER_HOST, SERVER_PORT);
+        socket.setTcpNoDelay(true);
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream()), true);
+        out.println(nickname);
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+        String response = in.readLine();
+        if (response == null || !response.startsWith("CONNECTED")) {
+            throw new IOException("핸드셰이크 실패: " + nickname);
+        }
+        // 이미 버퍼에 읽힌 데이터가 있을 수 있으므로 같은 리더를 readLoop에서 이어서 사용
+        socketReaders.put(socket, in);
+        return socket;
+    }
+
+    /**
+     * 서버 메시지 수신 루프 - NEW_TODO 도착 시각 기록
+     * 
+     * @param socket 클라이언트 소켓
+     */
+    private static void readLoop(Socket socket) {
+        BufferedReader in = socketReaders.get(socket);
+        try {
+            String message;
+            while ((message = in.readLine()) != null) {
+                if (!message.startsWith("NEW_TODO|" + TASK_PREFIX))
+                    continue;
+
+                long now = System.nanoTime();
+                String[] parts = message.split("\\|");
+                String taskName = parts[1];
+                Long start = sentAt.get(taskName);
+                if (start != null) {
+                    latencies.add(now - start);
+                }
+                createdIds.putIfAbsent(taskName, parts[18]); // 일정 ID (마지막 필드는 리비전)
+                CountDownLatch latch = arrivals.get(taskName);
+                if (latch != null) {
+                    latch.countDown();
+                }
+            }
+        } catch (IOException e) {
+            // 테스트 종료 시 소켓을 닫으면서 발생하는 예외는 무시
+        }
+    }
+
+    /**
+     * 브로드캐스트 지연 시간 통계 출력
+     * 
+     * @param rounds   브로드캐스트 횟수
+     * @param timeouts 시간 초과 횟수
+     */
+    private static void printLatencies(int rounds, int timeouts) {
+        long[] values = new long[latencies.size()];
+        int i = 0;
+        for (long value : latencies) {
+            values[i++] = value;
+        }
+        Arrays.sort(values);
+        if (values.length == 0) {
+            System.out.println("수신된 브로드캐스트 없음");
+            return;
+        }
+
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        System.out.printf("브로드캐스트: %d회 (시간 초과 %d회), 수신 %d건%n", rounds, timeouts, values.length);
+        System.out.printf("지연 시간(ms) - 평균 %.2f, p50 %.2f, p99 %.2f, 최대 %.2f%n",
+                sum / (double) values.length / 1e6,
+                values[values.length / 2] / 1e6,
+                values[Math.min(values.length - 1, (int) (values.length * 0.99))] / 1e6,
+                values[values.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,344 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 월별 개인 일정 캐시 클래스 - 최근에 본 달의 일정 저장소를 메모리에 두어 달을 넘길 때 파일을 다시 읽지 않게 함
+ * 최대 개수를 넘으면 가장 오래 보지 않은 달부터 내보내며(LRU), 내보내는 달에 저장하지 않은 변경이 있으면 그때 파일에 씀(write-back)
+ * 변경 여부는 저장소 변경 횟수(CalendarStore.getVersion)를 마지막 저장 때와 비교해 판단함
+ * 
+ * 현재 달을 보여줄 때 앞뒤 달을 미리 읽어 두고(prefetch), 그 달로 넘어가면 읽어 둔 결과를 캐시에 넣음
+ * 캐시는 EDT에서만 다루며, 파일 읽기와 쓰기는 FileManager의 file-io 스레드에서 요청 순서대로 처리함
+ * (달을 내보내며 요청한 저장이 그 뒤에 요청한 미리 읽기보다 먼저 처리되므로, 읽은 결과가 캐시의 변경보다 오래된 경우는 없음)
+ */
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+class MonthCache {
+    // 메모리에 둘 최대 달 수 (현재 달과 미리 읽은 앞뒤 달 포함)
+    static final int DEFAULT_CAPACITY = Math.max(3, Integer.getInteger("calendar.client.monthCache", 12));
+
+    private final FileManager fileManager; // 파일 저장/로드 담당
+    private final int capacity; // 최대 달 수
+    private final LinkedHashMap<Integer, Entry> months = new LinkedHashMap<>(16, 0.75f, true); // 월 키 -> 캐시 항목 (오래 보지 않은 순)
+    // 월 키 -> 미리 읽는 중인 결과
+    private final Map<Integer, CompletableFuture<CalendarStore<ToDo>>> prefetching = new LinkedHashMap<>();
+    private int currentMonthKey = -1; // 마지막으로 가져간 달 (-1이면 없음)
+
+    private long hitCount = 0; // 캐시에 있던 횟수
+    private long prefetchHitCount = 0; // 미리 읽어 둔 결과를 사용한 횟수
+    private long missCount = 0; // 파일을 바로 읽은 횟수
+    private long writeBackCount = 0; // 내보내면서 저장한 횟수
+
+    /**
+     * 캐시 항목 - 달의 일정 저장소와 마지막 저장 때의 변경 횟수
+     */
+    private static final class Entry {
+        final int year; // 연도
+        final int month; // 월 (0부터 시작)
+        final CalendarStore<ToDo> tasks; // 일정 저장소
+        int savedVersion; // 마지막으로 파일과 같았을 때의 변경 횟수
+
+        /**
+         * Entry 생성자 (파일에서 읽은 직후의 저장소)
+         * 
+         * @param year  연도
+         * @param month 월 (0부터 시작)
+         * @param tasks 일정 저장소
+         */
+        Entry(int year, int month, CalendarStore<ToDo> tasks) {
+            this.year = year;
+            this.month = month;
+            this.tasks = tasks;
+            this.savedVersion = tasks.getVersion();
+        }
+
+        /**
+         * 저장하지 않은 변경이 있는지 확인
+         * 
+         * @return 변경이 있으면 true
+         */
+        boolean isDirty() {
+            return tasks.getVersion() != savedVersion;
+        }
+    }
+
+    /**
+     * MonthCache 생성자 (기본 최대 달 수)
+     * 
+     * @param fileManager 파일 저장/로드 담당
+     */
+    MonthCache(FileManager fileManager) {
+        this(fileManager, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * MonthCache 생성자
+     * 
+     * @param fileManager 파일 저장/로드 담당
+     * @param capacity    최대 달 수 (3 이상)
+     */
+    MonthCache(FileManager fileManager, int capacity) {
+        this.fileManager = fileManager;
+        this.capacity = Math.max(3, capacity);
+    }
+
+    /**
+     * 달의 일정 저장소 반환 - 캐시에 없으면 파일을 읽을 때까지 기다림 (화면이 없는 곳에서 사용)
+     * 반환한 저장소를 그대로 수정하면 캐시에 반영되며, 내보내거나 save/flush할 때 파일에 저장됨
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소
+     */
+    CalendarStore<ToDo> get(int year, int month) {
+        CalendarStore<ToDo> cached = getIfCached(year, month);
+        if (cached != null) {
+            return cached;
+        }
+
+        CalendarStore<ToDo> tasks;
+        try {
+            tasks = load(year, month).join();
+        } catch (CompletionException | CancellationException e) {
+            System.err.println("일정 미리 읽기 실패: " + e.getMessage());
+            tasks = fileManager.loadLocalTasks(year, month);
+        }
+        return adopt(year, month, tasks);
+    }
+
+    /**
+     * 보여줄 달을 정하고 캐시에 있으면 저장소 반환 (EDT)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소, 캐시에 없으면 null (load로 읽은 뒤 adopt)
+     */
+    CalendarStore<ToDo> getIfCached(int year, int month) {
+        int monthKey = DayKey.monthKey(year, month);
+        leave(monthKey);
+        currentMonthKey = monthKey;
+
+        Entry entry = months.get(monthKey);
+        if (entry == null) {
+            return null;
+        }
+        hitCount++;
+        return entry.tasks;
+    }
+
+    /**
+     * 캐시에 없는 달 읽기 시작 - 미리 읽는 중이면 그 결과를, 아니면 새 읽기 요청을 반환 (EDT)
+     * 반환한 결과는 호출한 쪽 것이므로, 기다리지 않게 되면 취소해도 됨
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 읽은 일정 저장소 (읽기가 끝나면 완료)
+     */
+    CompletableFuture<CalendarStore<ToDo>> load(int year, int month) {
+        CompletableFuture<CalendarStore<ToDo>> pending = prefetching.remove(DayKey.monthKey(year, month));
+        if (pending != null && !pending.isCancelled()) {
+            prefetchHitCount++;
+            return pending;
+        }
+        missCount++;
+        return fileManager.loadLocalTasksAsync(year, month);
+    }
+
+    /**
+     * 읽은 달을 캐시에 넣음 (이미 캐시에 있으면 캐시의 저장소를 그대로 사용) (EDT)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 읽은 일정 저장소
+     * @return 캐시의 일정 저장소
+     */
+    CalendarStore<ToDo> adopt(int year, int month, CalendarStore<ToDo> tasks) {
+        int monthKey = DayKey.monthKey(year, month);
+        Entry entry = months.get(monthKey);
+        if (entry != null) {
+            return entry.tasks;
+        }
+        months.put(monthKey, new Entry(year, month, tasks));
+        evict();
+        return tasks;
+    }
+
+    /**
+     * 앞뒤 달을 미리 읽기 시작 (이미 캐시에 있거나 읽는 중이면 건너뜀, 더 이상 앞뒤가 아닌 달의 미리 읽기는 취소)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     */
+    void prefetchAround(int year, int month) {
+        int[][] neighbours = { neighbour(year, month, -1), neighbour(year, month, 1) };
+        List<Integer> wanted = new ArrayList<>();
+        for (int[] target : neighbours) {
+            wanted.add(DayKey.monthKey(target[0], target[1]));
+        }
+
+        Iterator<Map.Entry<Integer, CompletableFuture<CalendarStore<ToDo>>>> it = prefetching.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, CompletableFuture<CalendarStore<ToDo>>> pending = it.next();
+            if (!wanted.contains(pending.getKey())) {
+                pending.getValue().cancel(false);
+                it.remove();
+            }
+        }
+
+        for (int[] target : neighbours) {
+            int monthKey = DayKey.monthKey(target[0], target[1]);
+            if (months.containsKey(monthKey) || prefetching.containsKey(monthKey))
+                continue;
+            prefetching.put(monthKey, fileManager.loadLocalTasksAsync(target[0], target[1]));
+        }
+    }
+
+    /**
+     * 달에 저장하지 않은 변경이 있으면 바로 저장 요청
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 저장이 끝나면 완료되는 결과 (변경이 없으면 이미 완료)
+     */
+    CompletableFuture<Void> save(int year, int month) {
+        Entry entry = months.get(DayKey.monthKey(year, month));
+        if (entry != null && entry.isDirty()) {
+            return write(entry);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 저장하지 않은 변경이 있는 모든 달을 저장 요청
+     * 
+     * @return 모든 저장이 끝나면 완료되는 결과
+     */
+    CompletableFuture<Void> flush() {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (Entry entry : months.values()) {
+            if (entry.isDirty()) {
+                writes.add(write(entry));
+            }
+        }
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * 미리 읽기를 취소하고 모든 변경을 저장할 때까지 기다림 (창을 닫을 때)
+     */
+    void close() {
+        for (CompletableFuture<CalendarStore<ToDo>> pending : prefetching.values()) {
+            pending.cancel(false);
+        }
+        prefetching.clear();
+        flush().join();
+    }
+
+    /**
+     * 캐시에 있는 달 수 반환
+     * 
+     * @return 달 수
+     */
+    int size() {
+        return months.size();
+    }
+
+    /**
+     * 캐시에 있던 횟수 반환
+     * 
+     * @return 횟수
+     */
+    long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 미리 읽어 둔 결과를 사용한 횟수 반환
+     * 
+     * @return 횟수
+     */
+    long getPrefetchHitCount() {
+        return prefetchHitCount;
+    }
+
+    /**
+     * 파일을 바로 읽은 횟수 반환
+     * 
+     * @return 횟수
+     */
+    long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 내보내면서 저장한 횟수 반환
+     * 
+     * @return 횟수
+     */
+    long getWriteBackCount() {
+        return writeBackCount;
+    }
+
+    /**
+     * 다른 달로 넘어갈 때 보던 달의 반복 일정을 FileManager에 알림 (파일에 쓰기 전에도 다른 달 화면에 반복 일정이 보이게)
+     * 
+     * @param nextMonthKey 넘어갈 달의 월 키
+     */
+    private void leave(int nextMonthKey) {
+        if (currentMonthKey < 0 || currentMonthKey == nextMonthKey)
+            return;
+        Entry previous = months.get(currentMonthKey);
+        if (previous != null && previous.isDirty()) {
+            fileManager.updateRepeating(previous.year, previous.month, previous.tasks);
+        }
+    }
+
+    /**
+     * 최대 개수를 넘은 만큼 오래 보지 않은 달을 내보냄 (현재 달은 내보내지 않음, 변경이 있으면 저장)
+     */
+    private void evict() {
+        Iterator<Map.Entry<Integer, Entry>> it = months.entrySet().iterator();
+        while (months.size() > capacity && it.hasNext()) {
+            Map.Entry<Integer, Entry> eldest = it.next();
+            if (eldest.getKey() == currentMonthKey)
+                continue;
+            if (eldest.getValue().isDirty()) {
+                write(eldest.getValue());
+                writeBackCount++;
+            }
+            it.remove();
+        }
+    }
+
+    /**
+     * 캐시 항목 저장 요청 (요청한 시점의 내용을 저장)
+     * 
+     * @param entry 캐시 항목
+     * @return 저장이 끝나면 완료되는 결과
+     */
+    private CompletableFuture<Void> write(Entry entry) {
+        entry.savedVersion = entry.tasks.getVersion();
+        return fileManager.saveLocalTasksAsync(entry.year, entry.month, entry.tasks);
+    }
+
+    /**
+     * 앞뒤 달 계산
+     * 
+     * @param year   연도
+     * @param month  월 (0부터 시작)
+     * @param offset -1이면 이전 달, 1이면 다음 달
+     * @return {연도, 월}
+     */
+    private static int[] neighbour(int year, int month, int offset) {
+        int index = year * 12 + month + offset;
+        return new int[] { Math.floorDiv(index, 12), Math.floorMod(index, 12) };
+    }
+}
@@ -0,0 +1,463 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * java.nio Selector 기반의 논블로킹 캘린더 서버
+ * 클라이언트마다 스레드를 만들지 않고 소수의 I/O 스레드가 여러 연결을 나누어 처리함
+ * 프로토콜은 기존과 동일한 줄 단위 텍스트 프로토콜(ServerProtocol)을 사용함
+ */
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class NioCalendarServer {
+    private static final int READ_BUFFER_SIZE = 8 * 1024; // 연결별 읽기 버퍼 크기
+    private static final int MAX_LINE_LENGTH = 64 * 1024; // 한 줄 최대 길이 (초과 시 연결 종료)
+    private static final int MAX_MESSAGE_BYTES = BinaryProtocol.MAX_FRAME_LENGTH + 5; // 프레임 최대 길이 (접두사 포함)
+    private static final int ACCEPT_BACKLOG = 1024; // 연결 대기열 크기
+    private static final int MAX_GATHER = 16; // 한 번의 write 호출로 모아 보내는 최대 메시지 수
+    private static final long ACCEPT_RETRY_DELAY_MS = 50; // 연결 수락 실패 후 대기 시간
+
+    private final int port; // 서버 포트
+    private final IoWorker[] workers; // I/O 스레드들
+    private int nextWorker = 0; // 라운드 로빈 배정 위치
+
+    /**
+     * NioCalendarServer 생성자
+     * 
+     * @param port      서버 포트
+     * @param ioThreads I/O 스레드 수
+     */
+    public NioCalendarServer(int port, int ioThreads) throws IOException {
+        this.port = port;
+        this.workers = new IoWorker[Math.max(1, ioThreads)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new IoWorker();
+        }
+    }
+
+    /**
+     * 서버 시작 - I/O 스레드를 띄우고 현재 스레드에서 연결 수락 루프 실행
+     */
+    public void start() throws IOException {
+        for (int i = 0; i < workers.length; i++) {
+            Thread thread = new Thread(workers[i], "nio-io-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        System.out.println("NIO 모드 - I/O 스레드 " + workers.length + "개");
+
+        try (ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            serverChannel.bind(new InetSocketAddress(port), ACCEPT_BACKLOG);
+            // 연결 수락 루프 - 수락한 채널은 I/O 스레드에 라운드 로빈으로 배정
+            while (true) {
+                SocketChannel channel = null;
+                try {
+                    channel = serverChannel.accept();
+                    channel.configureBlocking(false);
+                    channel.socket().setTcpNoDelay(true);
+                } catch (IOException e) {
+                    // 파일 디스크립터 부족(EMFILE) 등 일시적인 실패 - 이 연결만 포기하고 수락 계속
+                    System.err.println("연결 수락 실패: " + e.getMessage());
+                    closeQuietly(channel);
+                    pauseAfterAcceptFailure();
+                    continue;
+                }
+                workers[nextWorker].register(channel);
+                nextWorker = (nextWorker + 1) % workers.length;
+            }
+        }
+    }
+
+    /**
+     * 수락 실패 직후 잠시 대기 (디스크립터가 모자란 동안 실패를 반복하며 CPU를 쓰지 않도록)
+     */
+    private static void pauseAfterAcceptFailure() {
+        try {
+            Thread.sleep(ACCEPT_RETRY_DELAY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 채널 닫기 (실패는 무시)
+     * 
+     * @param channel 닫을 채널 (null 가능)
+     */
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null)
+            return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("소켓 종료 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 하나의 Selector로 여러 연결을 처리하는 I/O 스레드
+     */
+    private static class IoWorker implements Runnable {
+        private final Selector selector; // 이 스레드 전용 Selector
+        private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>(); // 다른 스레드에서 넘어온 작업
+
+        IoWorker() throws IOException {
+            this.selector = Selector.open();
+        }
+
+        /**
+         * 새 채널을 이 스레드의 Selector에 등록
+         * 
+         * @param channel 수락된 클라이언트 채널
+         */
+        void register(SocketChannel channel) {
+            execute(() -> {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    key.attach(new NioConnection(this, channel, key));
+                } catch (ClosedChannelException e) {
+                    System.err.println("채널 등록 실패: " + e.getMessage());
+                }
+            });
+        }
+
+        /**
+         * I/O 스레드에서 실행할 작업 예약
+         * 
+         * @param task 실행할 작업
+         */
+        void execute(Runnable task) {
+            pendingTasks.add(task);
+            selector.wakeup();
+        }
+
+        /**
+         * 이벤트 루프
+         */
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    selector.select();
+
+                    Runnable task;
+                    while ((task = pendingTasks.poll()) != null) {
+                        try {
+                            task.run();
+                        } catch (RuntimeException e) {
+                            System.err.println("NIO 예약 작업 오류: " + e);
+                        }
+                    }
+
+                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                    while (it.hasNext()) {
+                        SelectionKey key = it.next();
+                        it.remove();
+                        processKey(key);
+                    }
+                } catch (IOException e) {
+                    System.err.println("NIO 이벤트 루프 오류: " + e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * 선택된 키 하나 처리 - 처리 중 예외가 나면 그 연결만 닫고 다른 연결은 계속 처리
+         * 
+         * @param key 선택된 키
+         */
+        private void processKey(SelectionKey key) {
+            NioConnection connection = (NioConnection) key.attachment();
+            try {
+                if (!key.isValid()) {
+                    connection.close();
+                    return;
+                }
+                if (key.isReadable()) {
+                    connection.onReadable();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    connection.onWritable();
+                }
+            } catch (RuntimeException e) {
+                System.err.println("연결 처리 오류 - 연결 종료 (" + connection.getNickname() + "): " + e);
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * NIO 클라이언트 연결 - 줄 단위 디코딩과 연결별 송신 대기열을 가짐
+     * 모든 채널 조작은 소유 I/O 스레드에서만 수행됨
+     */
+    private static class NioConnection implements ClientSession {
+        private final IoWorker worker; // 소유 I/O 스레드
+        private final SocketChannel channel; // 클라이언트 채널
+        private final SelectionKey key; // Selector 등록 키
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE); // 읽기 버퍼
+        private byte[] lineBuffer = new byte[256]; // 현재 줄(또는 프레임) 누적 버퍼
+        private int lineLength = 0; // 현재 줄(또는 프레임) 길이
+        private boolean binaryInput = false; // 바이너리 프로토콜 수신 여부
+        private int frameLength = -1; // 현재 프레임 전체 길이 (아직 모르면 -1)
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(); // flush 예약 여부
+        private final OutboundQueue outbound = new OutboundQueue(this::scheduleFlush); // 송신 대기열
+        // 전송 중인 메시지들 - 공유 바이트 배열을 복사 없이 감싼 버퍼 (I/O 스레드 전용)
+        private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+        private int gatherStart = 0; // 아직 다 보내지 못한 첫 버퍼 위치
+        private int gatherEnd = 0; // 채워진 버퍼 끝 위치
+        private volatile boolean closed = false; // 종료 여부
+        private boolean handshakeDone = false; // 닉네임 수신 여부
+        private String nickname; // 클라이언트 닉네임
+
+        NioConnection(IoWorker worker, SocketChannel channel, SelectionKey key) {
+            this.worker = worker;
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * 읽기 가능 이벤트 처리 - 받은 바이트를 줄 단위로 잘라 프로토콜 처리
+         */
+        void onReadable() {
+            int read;
+            try {
+                read = channel.read(readBuffer);
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            if (read < 0) {
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte b = readBuffer.get();
+                if (!binaryInput && b == '\n') {
+                    onLine(decodeLine());
+                    lineLength = 0;
+                    if (closed)
+                        return;
+                    continue;
+                }
+                int limit = binaryInput ? MAX_MESSAGE_BYTES : MAX_LINE_LENGTH;
+                if (lineLength == lineBuffer.length) {
+                    if (lineLength >= limit) {
+                        System.err.println("메시지가 너무 김 - 연결 종료: " + nickname);
+                        close();
+                        return;
+                    }
+                    lineBuffer = Arrays.copyOf(lineBuffer, Math.min(lineLength * 2, limit));
+                }
+                lineBuffer[lineLength++] = b;
+                if (binaryInput && !onFrameByte()) {
+                    return;
+                }
+            }
+            readBuffer.clear();
+        }
+
+        /**
+         * 바이너리 프레임 바이트가 추가될 때마다 호출 - 프레임이 완성되면 처리
+         * 
+         * @return 연결이 유지되면 true
+         */
+        private boolean onFrameByte() {
+            try {
+                if (frameLength < 0) {
+                    frameLength = BinaryProtocol.frameLength(lineBuffer, lineLength);
+                }
+                if (lineLength == frameLength) {
+                    BinaryProtocol.Frame frame = BinaryProtocol.decodeFrame(lineBuffer, frameLength, nickname);
+                    lineLength = 0;
+                    frameLength = -1;
+                    ServerProtocol.handleFrame(this, frame);
+                }
+            } catch (IOException e) {
+                System.err.println("잘못된 프레임 - 연결 종료 (" + nickname + "): " + e.getMessage());
+                close();
+            }
+            return !closed;
+        }
+
+        /**
+         * 누적된 줄 바이트를 문자열로 변환 (끝의 \r 제거)
+         * 
+         * @return 디코딩된 한 줄
+         */
+        private String decodeLine() {
+            int length = lineLength;
+            if (length > 0 && lineBuffer[length - 1] == '\r') {
+                length--;
+            }
+            return new String(lineBuffer, 0, length, ServerProtocol.CHARSET);
+        }
+
+        /**
+         * 완성된 한 줄 처리 - 첫 줄은 닉네임, 이후는 명령
+         * 
+         * @param line 수신한 줄
+         */
+        private void onLine(String line) {
+            if (!handshakeDone) {
+                handshakeDone = true;
+                nickname = line;
+                ServerProtocol.handleHandshake(this, line);
+            } else {
+                ServerProtocol.handleMessage(this, line);
+            }
+        }
+
+        /**
+         * 쓰기 가능 이벤트 처리 - 송신 대기열을 소켓이 받는 만큼 비움
+         */
+        void onWritable() {
+            if (closed || !key.isValid())
+                return;
+            try {
+                while (true) {
+                    // 빈 자리만큼 대기열에서 채움
+                    if (gatherStart == gatherEnd) {
+                        gatherStart = 0;
+                        gatherEnd = 0;
+                    }
+                    byte[] line;
+                    while (gatherEnd < MAX_GATHER && (line = outbound.poll()) != null) {
+                        gather[gatherEnd++] = ByteBuffer.wrap(line);
+                    }
+                    if (gatherStart == gatherEnd)
+                        break;
+
+                    // 여러 메시지를 한 번의 gathering write로 전송
+                    channel.write(gather, gatherStart, gatherEnd - gatherStart);
+                    while (gatherStart < gatherEnd && !gather[gatherStart].hasRemaining()) {
+                        gather[gatherStart++] = null;
+                    }
+                    if (gatherStart < gatherEnd) {
+                        // 소켓 송신 버퍼가 가득 참 - 쓰기 가능해지면 이어서 전송
+                        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                }
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        /**
+         * I/O 스레드에 flush 예약 (어느 스레드에서나 호출 가능)
+         */
+        private void scheduleFlush() {
+            if (flushScheduled.compareAndSet(false, true)) {
+                worker.execute(this::flush);
+            }
+        }
+
+        /**
+         * 예약된 flush 실행 (I/O 스레드)
+         */
+        private void flush() {
+            flushScheduled.set(false);
+            onWritable();
+        }
+
+        /**
+         * 클라이언트 닉네임 반환
+         * 
+         * @return 닉네임
+         */
+        @Override
+        public String getNickname() {
+            return nickname;
+        }
+
+        /**
+         * 메시지를 송신 대기열에 넣고 I/O 스레드에 flush 예약 (어느 스레드에서나 호출 가능)
+         * 
+         * @param message 전송할 메시지
+         */
+        @Override
+        public void sendMessage(String message) {
+            send(WireMessage.text(message));
+        }
+
+        /**
+         * 메시지를 송신 대기열에 넣음 (어느 스레드에서나 호출 가능)
+         * 
+         * @param message 전송할 메시지
+         */
+        @Override
+        public void send(WireMessage message) {
+            if (closed)
+                return;
+            if (!outbound.offer(message)) {
+                // 느린 클라이언트 - 연결 종료 정책
+                System.err.println("송신 대기열 초과로 연결 종료: " + nickname);
+                worker.execute(this::close);
+            }
+        }
+
+        /**
+         * 바이너리 프로토콜로 전환 (I/O 스레드에서 호출) - 같은 버퍼의 남은 바이트부터 프레임으로 해석
+         */
+        @Override
+        public void switchToBinary() {
+            binaryInput = true;
+            outbound.offerBinarySwitch();
+        }
+
+        /**
+         * 동기화 응답 전송 예약
+         * 
+         * @param epoch 클라이언트가 마지막으로 동기화한 서버 실행 ID
+         * @param since 클라이언트가 마지막으로 반영한 리비전
+         */
+        @Override
+        public void sendSync(String epoch, long since) {
+            outbound.offerSync(epoch, since);
+        }
+
+        /**
+         * 송신 대기열 반환
+         * 
+         * @return 송신 대기열
+         */
+        @Override
+        public OutboundQueue getOutboundQueue() {
+            return outbound;
+        }
+
+        /**
+         * 연결 종료 및 서버에서 클라이언트 제거
+         */
+        void close() {
+            if (closed)
+                return;
+            closed = true;
+            if (nickname != null) {
+                CalendarServer.removeClient(nickname);
+            }
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("소켓 종료 오류: " + e.getMessage());
+            }
+        }
+    }
+}
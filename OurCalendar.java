@@ -6,12 +6,17 @@
  * 
  * 메인 캘린더 GUI 클래스 - Swing을 사용한 캘린더 화면 구성 및 일정 관리
  * 개인 일정과 공유 일정을 통합 관리하며, 서버와의 네트워킹을 담당함
+ * 시작할 때는 창부터 띄우고, 일정 파일 읽기(file-io 스레드)와 서버 연결(별도 스레드)은 그 뒤에 진행하며 헤더에 연결 상태를 표시함
  */
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -32,6 +37,8 @@ public class OurCalendar extends JFrame {
 	private static final Color ACCENT_COLOR = new Color(255, 99, 71); // 강조 색상
 	private static final Color TEXT_COLOR = new Color(33, 37, 41); // 텍스트 색상
 	private static final Color WEEKEND_COLOR = new Color(220, 53, 69); // 주말 색상
+	private static final int GRID_CELLS = 42; // 날짜 그리드 칸 수 (6주)
+	private static final int MAX_LISTED_NOTICES = 5; // 묶음 알림 대화상자에 나열할 최대 변경 수
 
 	// 캘린더 상태 변수
 	private int year; // 현재 표시 연도
@@ -42,11 +49,23 @@ public class OurCalendar extends JFrame {
 
 	// 캘린더 날짜 객체 배열
 	public OurDate calendar[] = new OurDate[32];
+	private final JLabel[] blankCells = new JLabel[GRID_CELLS]; // 1일 앞과 말일 뒤의 빈 칸
+	private final String[] cellTexts = new String[32]; // 날짜 칸에 마지막으로 설정한 텍스트 (null이면 다시 설정)
+
+	// 마지막으로 그린 화면의 상태 (바뀐 것이 없으면 다시 그리지 않음)
+	private int renderedMonthKey = -1; // 그린 달의 월 키 (-1이면 아직 그리지 않음)
+	private CalendarStore<ToDo> renderedTasks; // 그린 개인 일정 저장소
+	private int renderedTasksVersion; // 그릴 때의 개인 일정 저장소 변경 횟수
+	private CalendarStore<SharedToDo> renderedShared; // 그린 공유 일정 저장소
+	private int renderedSharedVersion; // 그릴 때의 공유 일정 저장소 변경 횟수
 	public Calendar cal = Calendar.getInstance();
 
 	// 일정 저장소
-	HashMap<String, List<ToDo>> tasks = new HashMap<>(); // 개인 일정
-	HashMap<String, List<SharedToDo>> sharedTasks = new HashMap<>(); // 공유 일정
+	CalendarStore<ToDo> tasks = new CalendarStore<>(); // 개인 일정 (날짜 키 -> 일정 목록)
+	CalendarStore<SharedToDo> sharedTasks = new CalendarStore<>(); // 공유 일정 (날짜 키 -> 일정 목록)
+	private List<ToDo> otherRepeating = new ArrayList<>(); // 다른 달 파일에 저장된 반복 개인 일정
+	private RecurrenceCache<ToDo> localRepeats; // 개인 반복 일정의 달별 발생 (저장소가 바뀌면 새로 만듦)
+	private RecurrenceCache<SharedToDo> sharedRepeats; // 공유 반복 일정의 달별 발생
 
 	private ReminderService reminderService = new ReminderService(); // 알림 서비스
 
@@ -54,6 +73,17 @@ public class OurCalendar extends JFrame {
 	private CalendarClient client; // 서버 클라이언트
 	private String nickname; // 사용자 닉네임
 	private FileManager fileManager; // 사용자 데이터 관리자
+	private SharedCacheWriter sharedCacheWriter; // 공유 일정 캐시 백그라운드 저장
+	private MonthCache monthCache; // 최근에 본 달의 개인 일정 (달을 넘길 때 파일을 다시 읽지 않음)
+	private CompletableFuture<CalendarStore<ToDo>> monthLoad; // 읽는 중인 달의 일정 (읽는 중이 아니면 null)
+	private int loadingMonthKey = -1; // 읽는 중인 달의 월 키
+	private CalendarStore<ToDo> loadingPlaceholder; // 읽는 동안 화면에 보이는 빈 저장소 (여기에 추가한 일정은 읽은 뒤 옮김)
+	private boolean serverSynced = false; // 연결 후 서버와 공유 일정 동기화를 마쳤는지
+	private boolean connectionFailed = false; // 시작 시 서버 연결에 실패했는지
+	private final StartupTimer startup = new StartupTimer(); // 시작 단계별 소요 시간 측정
+	// 서버에서 연달아 받은 공유 일정 변경을 모아 한 번에 반영
+	private final EventCoalescer<Consumer<SharedChanges>> sharedEvents = new EventCoalescer<>(
+			EventCoalescer.DEFAULT_WINDOW_MS, this::applySharedEvents);
 
 	// GUI 컴포넌트
 	JPanel headPanel; // 헤더 패널
@@ -61,6 +91,7 @@ public class OurCalendar extends JFrame {
 	JPanel calPanel; // 캘린더 패널
 	JButton prevButton; // 이전 월 버튼
 	JButton nextButton; // 다음 월 버튼
+	JLabel statusLabel; // 서버 연결 상태 표시
 
 	/**
 	 * OurCalendar 생성자 - 캘린더 초기화
@@ -78,28 +109,29 @@ public class OurCalendar extends JFrame {
 			calendar[day] = new OurDate(day, 0, this);
 		}
 
-		// 창 크기 변경 시 캘린더 업데이트
+		// 창 크기 변경 시 캘린더 업데이트 (그리드는 레이아웃이 맞춰 주므로 달이나 일정이 바뀌지 않았으면 다시 그리지 않음)
 		this.addComponentListener(new ComponentAdapter() {
 			public void componentResized(ComponentEvent e) {
 				if (OurCalendar.this.calPanel != null)
 					OurCalendar.this.updateCal();
 			}
 		});
-
-		openFile();
-		initializeNetworking();
 	}
 
 	/**
-	 * 네트워킹 초기화 - 서버 연결 및 사용자 설정
+	 * 사용자 세션 시작 - 닉네임을 정하고 개인 일정과 공유 일정 캐시를 file-io 스레드에서 읽은 뒤 서버에 연결 (창을 띄운 뒤 EDT에서 호출)
+	 * 공유 일정 캐시를 다 읽은 뒤에 그 동기화 지점으로 연결하므로, 서버에서 받은 변경이 캐시를 읽기 전에 반영되는 일은 없음
 	 */
-	private void initializeNetworking() {
-		// 닉네임 입력 받기
-		nickname = JOptionPane.showInputDialog(
-				null,
-				"캘린더에서 사용할 닉네임을 입력하세요:",
-				"닉네임 설정",
-				JOptionPane.QUESTION_MESSAGE);
+	private void startSession() {
+		// 닉네임 입력 받기 (calendar.nickname 속성이 있으면 묻지 않음 - 시작 시간 측정용)
+		nickname = System.getProperty("calendar.nickname");
+		if (nickname == null) {
+			nickname = JOptionPane.showInputDialog(
+					this,
+					"캘린더에서 사용할 닉네임을 입력하세요:",
+					"닉네임 설정",
+					JOptionPane.QUESTION_MESSAGE);
+		}
 
 		if (nickname == null || nickname.trim().isEmpty()) {
 			nickname = "익명" + System.currentTimeMillis() % 1000;
@@ -107,26 +139,119 @@ public class OurCalendar extends JFrame {
 
 		// 사용자 데이터 관리자 초기화
 		fileManager = new FileManager(nickname);
-
-		// 서버 연결 시도
+		sharedCacheWriter = new SharedCacheWriter(fileManager);
+		monthCache = new MonthCache(fileManager);
 		client = new CalendarClient(this);
-		if (client.connect(nickname)) {
-			// 서버 연결 성공 - 서버에서 공유 일정 수신 예정
-			sharedTasks = new HashMap<>();
-			System.out.println("서버 연결 성공 - 공유 일정은 서버에서 수신 예정");
+		updateTitle();
+
+		// 이번 달 개인 일정 읽기 시작 (읽는 동안은 빈 그리드)
+		updateCal(true);
+
+		// 로컬 캐시의 공유 일정을 먼저 로드하고, 서버에는 마지막 동기화 이후의 변경만 요청
+		setConnectionStatus("● 캐시 읽는 중...", Color.GRAY);
+		fileManager.loadSharedCacheAsync().whenComplete((cache, error) -> SwingUtilities.invokeLater(() -> {
+			if (cache != null) {
+				sharedTasks = cache;
+				updateCal(false);
+			} else {
+				System.err.println("공유 일정 캐시 로드 실패: " + error.getMessage());
+			}
+			connectInBackground();
+		}));
+	}
+
+	/**
+	 * 별도 스레드에서 서버 연결 (연결을 기다리는 동안에도 화면은 그대로 동작)
+	 */
+	private void connectInBackground() {
+		setConnectionStatus("● 연결 중...", Color.GRAY);
+		Thread connector = new Thread(() -> {
+			boolean connected = client.connect(nickname, fileManager.loadSyncState());
+			if (connected) {
+				startup.mark(StartupTimer.CONNECTED);
+			}
+			SwingUtilities.invokeLater(() -> connectionFinished(connected));
+		}, "server-connect");
+		connector.setDaemon(true);
+		connector.start();
+	}
+
+	/**
+	 * 서버 연결 시도 결과 반영 (EDT)
+	 * 
+	 * @param connected 연결 성공 여부
+	 */
+	private void connectionFinished(boolean connected) {
+		if (connected) {
+			System.out.println("서버 연결 성공 - 마지막 동기화 이후의 공유 일정 변경 수신 예정");
+			if (!serverSynced) {
+				setConnectionStatus("● 동기화 중...", new Color(255, 153, 0));
+			}
 		} else {
-			// 서버 연결 실패 - 로컬 캐시에서 공유 일정 로드
-			sharedTasks = fileManager.loadSharedCache();
+			// 서버 연결 실패 - 로컬 캐시의 공유 일정 사용
 			System.out.println("서버 연결 실패 - 로컬 캐시에서 공유 일정 로드");
+			connectionFailed = true;
+			setConnectionStatus("● 오프라인 (로컬 모드)", WEEKEND_COLOR);
+			statusLabel.setToolTipText("서버에 연결할 수 없어 로컬 모드로 실행 중입니다.");
+			finishStartupIfReady();
+		}
+		updateTitle();
+	}
 
-			JOptionPane.showMessageDialog(
-					null,
-					"서버에 연결할 수 없습니다.\n로컬 모드로 실행됩니다.",
-					"연결 실패",
-					JOptionPane.WARNING_MESSAGE);
+	/**
+	 * 서버 연결이 끊겼을 때 상태 표시 (수신 스레드에서 호출)
+	 */
+	public void connectionLost() {
+		SwingUtilities.invokeLater(() -> {
+			setConnectionStatus("● 연결 끊김 (로컬 모드)", WEEKEND_COLOR);
+			updateTitle();
+		});
+	}
+
+	/**
+	 * 연결 상태 표시 변경
+	 * 
+	 * @param text  상태 문구
+	 * @param color 글자 색상
+	 */
+	private void setConnectionStatus(String text, Color color) {
+		statusLabel.setText(text);
+		statusLabel.setForeground(color);
+	}
+
+	/**
+	 * 윈도우 제목 갱신 (닉네임, 연결 상태, 데이터 폴더)
+	 */
+	private void updateTitle() {
+		setTitle("📅 Modern Calendar - " + nickname +
+				(client != null && client.isConnected() ? " (온라인)" : " (오프라인)") +
+				" | 데이터: " + (fileManager != null ? fileManager.getUserDataDir() : "기본"));
+	}
+
+	/**
+	 * 이번 달 일정을 그렸고 서버 동기화가 끝났거나(또는 연결에 실패했으면) 시작 요약 출력
+	 * calendar.startup.exit 속성이 true면 창을 닫음 (run-startup 측정 스크립트용)
+	 */
+	private void finishStartupIfReady() {
+		if (!startup.hasReached(StartupTimer.MONTH_LOADED) || (!serverSynced && !connectionFailed))
+			return;
+		startup.report(serverSynced ? "online" : "offline");
+		if (Boolean.getBoolean("calendar.startup.exit")) {
+			dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
 		}
 	}
 
+	/**
+	 * 창을 그린 뒤 첫 화면 시각 기록
+	 * 
+	 * @param g 그래픽 컨텍스트
+	 */
+	@Override
+	public void paint(Graphics g) {
+		super.paint(g);
+		startup.mark(StartupTimer.FIRST_PAINT);
+	}
+
 	/**
 	 * 모던 스타일 버튼 생성
 	 * 
@@ -165,12 +290,8 @@ public class OurCalendar extends JFrame {
 	 * 캘린더 메인 화면 표시
 	 */
 	void showCalendar() {
-		openFile();
-
-		// 윈도우 제목 설정 (연결 상태 표시)
-		setTitle("📅 Modern Calendar - " + nickname +
-				(client.isConnected() ? " (온라인)" : " (오프라인)") +
-				" | 데이터: " + (fileManager != null ? fileManager.getUserDataDir() : "기본"));
+		// 윈도우 제목 설정 (사용자 세션을 시작하면 닉네임과 연결 상태 표시)
+		setTitle("📅 Modern Calendar");
 		setSize(800, 600);
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
 		setLocationRelativeTo(null);
@@ -181,6 +302,13 @@ public class OurCalendar extends JFrame {
 			@Override
 			public void windowClosing(WindowEvent e) {
 				saveFile();
+				// 창이 닫히기 전에 캐시에만 있는 다른 달의 변경과 대기 중인 공유 일정 캐시 저장
+				if (monthCache != null) {
+					monthCache.close();
+				}
+				if (sharedCacheWriter != null) {
+					sharedCacheWriter.close();
+				}
 				if (client != null) {
 					client.disconnect();
 				}
@@ -211,15 +339,19 @@ public class OurCalendar extends JFrame {
 
 		headPanel.add(navPanel, BorderLayout.CENTER);
 
-		// 이전/다음 월 버튼 이벤트
+		// 서버 연결 상태
+		statusLabel = new JLabel("● 시작 중...");
+		statusLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+		statusLabel.setForeground(Color.GRAY);
+		headPanel.add(statusLabel, BorderLayout.EAST);
+
+		// 이전/다음 월 버튼 이벤트 (보던 달의 변경은 월 캐시가 내보낼 때나 창을 닫을 때 저장)
 		prevButton.addActionListener(e -> {
-			saveFile();
 			cal.add(Calendar.MONTH, -1);
 			updateCal(true);
 		});
 
 		nextButton.addActionListener(e -> {
-			saveFile();
 			cal.add(Calendar.MONTH, 1);
 			updateCal(true);
 		});
@@ -240,6 +372,7 @@ public class OurCalendar extends JFrame {
 		calPanel = new JPanel(new GridLayout(0, 7, 2, 2));
 		calPanel.setBackground(SECONDARY_COLOR);
 		calPanel.setBorder(new EmptyBorder(10, 20, 10, 20));
+		buildGrid();
 
 		// 레이아웃 설정
 		setLayout(new BorderLayout());
@@ -247,10 +380,12 @@ public class OurCalendar extends JFrame {
 		add(calPanel, BorderLayout.CENTER);
 		add(bottomPanel, BorderLayout.SOUTH);
 
+		// 데이터 없이 창부터 띄우고, 닉네임 입력과 파일 읽기, 서버 연결은 그 뒤에 진행
 		updateCal(true);
 		setVisible(true);
 
 		startReminderTimer();
+		SwingUtilities.invokeLater(this::startSession);
 	}
 
 	/**
@@ -266,11 +401,68 @@ public class OurCalendar extends JFrame {
 	 * @param loadFile 파일 로드 여부
 	 */
 	void updateCal(boolean loadFile) {
-		calPanel.removeAll();
-		currentDay = 0;
-		currentWeek = 0;
+		// 현재 월 정보 업데이트
+		year = cal.get(Calendar.YEAR);
+		month = cal.get(Calendar.MONTH);
 
-		// 요일 헤더 추가
+		if (loadFile) {
+			openFile();
+		}
+
+		// 표시할 달과 일정이 마지막으로 그린 뒤 그대로면 아무것도 하지 않음 (창 크기 변경 등)
+		int monthKey = DayKey.monthKey(year, month);
+		if (!loadFile && monthKey == renderedMonthKey && tasks == renderedTasks
+				&& tasks.getVersion() == renderedTasksVersion && sharedTasks == renderedShared
+				&& sharedTasks.getVersion() == renderedSharedVersion) {
+			return;
+		}
+
+		cal.set(year, month, 1);
+		lastDay = cal.getActualMaximum(Calendar.DAY_OF_MONTH);
+		int firstWeek = cal.get(Calendar.DAY_OF_WEEK);
+
+		// 읽는 중이면 제목에 표시 (그리드는 빈 칸으로 먼저 그림)
+		String title = String.format("%d년 %d월", year, month + 1) + (monthLoad != null ? " (불러오는 중...)" : "");
+		if (!title.equals(monthLabel.getText())) {
+			monthLabel.setText(title);
+		}
+
+		// 달이 바뀌었을 때만 칸 배치를 다시 함
+		if (monthKey != renderedMonthKey) {
+			layoutMonth(firstWeek);
+			currentDay = 0;
+			currentWeek = 0;
+		}
+
+		if (localRepeats == null || !localRepeats.isFor(tasks)) {
+			localRepeats = new RecurrenceCache<>(tasks, otherRepeating);
+		}
+		if (sharedRepeats == null || !sharedRepeats.isFor(sharedTasks)) {
+			sharedRepeats = new RecurrenceCache<>(sharedTasks, Collections.emptyList());
+		}
+
+		// 날짜 칸의 일정 표시 - 내용이 바뀐 칸만 텍스트를 다시 설정 (같은 텍스트면 HTML을 다시 해석하지 않음)
+		for (int day = 1; day <= lastDay; day++) {
+			int key = getDateKey(year, month, day);
+			String text = cellText(day, firstOnDay(tasks, localRepeats, key), firstOnDay(sharedTasks, sharedRepeats, key),
+					key);
+			if (!text.equals(cellTexts[day])) {
+				cellTexts[day] = text;
+				calendar[day].setText(text);
+			}
+		}
+
+		renderedMonthKey = monthKey;
+		renderedTasks = tasks;
+		renderedTasksVersion = tasks.getVersion();
+		renderedShared = sharedTasks;
+		renderedSharedVersion = sharedTasks.getVersion();
+	}
+
+	/**
+	 * 요일 헤더와 6주(42칸) 날짜 칸을 그리드에 한 번만 배치 (이후에는 달이 바뀔 때 칸 내용만 교체)
+	 */
+	private void buildGrid() {
 		String[] days = { "일", "월", "화", "수", "목", "금", "토" };
 		for (int i = 0; i < days.length; i++) {
 			JLabel label = new JLabel(days[i], SwingConstants.CENTER);
@@ -290,63 +482,38 @@ public class OurCalendar extends JFrame {
 			calPanel.add(label);
 		}
 
-		// 현재 월 정보 업데이트
-		year = cal.get(Calendar.YEAR);
-		month = cal.get(Calendar.MONTH);
-
-		monthLabel.setText(String.format("%d년 %d월", year, month + 1));
-
-		if (loadFile) {
-			openFile();
-		}
-
-		cal.set(year, month, 1);
-		lastDay = cal.getActualMaximum(Calendar.DAY_OF_MONTH);
-		int dayWeek = cal.get(Calendar.DAY_OF_WEEK);
-
-		// 월 시작 전 빈 칸 추가
-		for (int i = 1; i < dayWeek; i++) {
+		for (int i = 0; i < GRID_CELLS; i++) {
 			JLabel emptyLabel = new JLabel("");
 			emptyLabel.setOpaque(true);
 			emptyLabel.setBackground(Color.WHITE);
 			emptyLabel.setBorder(BorderFactory.createLineBorder(SECONDARY_COLOR, 1));
+			blankCells[i] = emptyLabel;
 			calPanel.add(emptyLabel);
 		}
+	}
 
-		// 날짜 셀 생성 및 일정 표시
-		for (int day = 1; day <= lastDay; day++) {
-			calendar[day].setDate(day, dayWeek);
-
-			String key = getDateKey(year, month, day);
-			List<ToDo> todos = tasks.get(key);
-			List<SharedToDo> sharedTodos = sharedTasks.get(key);
-
-			// 날짜와 일정 정보를 HTML로 구성
-			StringBuilder displayText = new StringBuilder("<html><div style='text-align: center;'>" + day);
-
-			if ((todos != null && !todos.isEmpty()) || (sharedTodos != null && !sharedTodos.isEmpty())) {
-				displayText.append("<br>");
-
-				// 개인 일정 표시
-				if (todos != null && !todos.isEmpty()) {
-					displayText.append("<small style='color: #666;'>").append(todos.get(0).getTaskName())
-							.append("</small>");
-				}
+	/**
+	 * 표시할 달에 맞춰 그리드 칸에 날짜 셀과 빈 칸을 배치
+	 * 
+	 * @param firstWeek 1일의 요일 (Calendar.SUNDAY = 1)
+	 */
+	private void layoutMonth(int firstWeek) {
+		int offset = firstWeek - 1;
+		int headerCount = calPanel.getComponentCount() - GRID_CELLS;
+		for (int i = GRID_CELLS - 1; i >= 0; i--) {
+			calPanel.remove(headerCount + i);
+		}
 
-				// 공유 일정 표시
-				if (sharedTodos != null && !sharedTodos.isEmpty()) {
-					if (todos != null && !todos.isEmpty()) {
-						displayText.append("<br>");
-					}
-					SharedToDo firstShared = sharedTodos.get(0);
-					displayText.append("<small style='color: #ffc107;'>")
-							.append(firstShared.getTaskName())
-							.append("<br>by ").append(firstShared.getCreator()).append("</small>");
-				}
+		int dayWeek = firstWeek;
+		for (int i = 0; i < GRID_CELLS; i++) {
+			int day = i - offset + 1;
+			if (day < 1 || day > lastDay) {
+				calPanel.add(blankCells[i]);
+				continue;
 			}
 
-			displayText.append("</div></html>");
-			calendar[day].setText(displayText.toString());
+			calendar[day].setDate(day, dayWeek);
+			cellTexts[day] = null;
 
 			// 요일별 색상 설정
 			if (dayWeek == 1) {
@@ -367,6 +534,100 @@ public class OurCalendar extends JFrame {
 		calPanel.repaint();
 	}
 
+	/**
+	 * 날짜 칸의 HTML 텍스트 구성
+	 * 
+	 * @param day         일
+	 * @param firstTodo   표시할 개인 일정 (없으면 null)
+	 * @param firstShared 표시할 공유 일정 (없으면 null)
+	 * @param key         날짜 키
+	 * @return HTML 텍스트
+	 */
+	private static String cellText(int day, ToDo firstTodo, SharedToDo firstShared, int key) {
+		// 날짜와 일정 정보를 HTML로 구성 (전날부터 이어지는 일정은 →, 반복 발생은 ↻ 표시)
+		StringBuilder displayText = new StringBuilder("<html><div style='text-align: center;'>" + day);
+
+		if (firstTodo != null || firstShared != null) {
+			displayText.append("<br>");
+
+			// 개인 일정 표시
+			if (firstTodo != null) {
+				displayText.append("<small style='color: #666;'>")
+						.append(dayMarker(firstTodo, key))
+						.append(firstTodo.getTaskName())
+						.append("</small>");
+			}
+
+			// 공유 일정 표시
+			if (firstShared != null) {
+				if (firstTodo != null) {
+					displayText.append("<br>");
+				}
+				displayText.append("<small style='color: #ffc107;'>")
+						.append(dayMarker(firstShared, key))
+						.append(firstShared.getTaskName())
+						.append("<br>by ").append(firstShared.getCreator()).append("</small>");
+			}
+		}
+
+		displayText.append("</div></html>");
+		return displayText.toString();
+	}
+
+	/**
+	 * 날짜 칸에 표시할 첫 일정 반환 - 그날 시작한 일정, 이전에 시작해 그날까지 이어지는 일정, 그날의 반복 발생 순
+	 * 
+	 * @param store   일정 저장소
+	 * @param repeats 저장소의 반복 일정 발생 (없으면 null)
+	 * @param key     날짜 키
+	 * @return 표시할 일정, 없으면 null
+	 */
+	static <T extends ToDo> T firstOnDay(CalendarStore<T> store, RecurrenceCache<T> repeats, int key) {
+		List<T> todos = store.get(key);
+		if (todos != null && !todos.isEmpty()) {
+			return todos.get(0);
+		}
+		List<T> overlapping = store.overlappingDay(key);
+		if (!overlapping.isEmpty()) {
+			return overlapping.get(0);
+		}
+		List<T> occurrences = repeats == null ? Collections.emptyList() : repeats.on(key);
+		return occurrences.isEmpty() ? null : occurrences.get(0);
+	}
+
+	/**
+	 * 날짜 칸의 일정 이름 앞 표시 - 그날 시작하면 없음, 이어지는 일정은 →, 반복 발생은 ↻
+	 * 
+	 * @param todo 표시할 일정
+	 * @param key  날짜 키
+	 * @return 표시 문자열
+	 */
+	private static String dayMarker(ToDo todo, int key) {
+		if (DayKey.of(todo) == key) {
+			return "";
+		}
+		long dayStart = IntervalIndex.dayStart(key);
+		return IntervalIndex.startOf(todo) < dayStart && IntervalIndex.endOf(todo) > dayStart ? "→ " : "↻ ";
+	}
+
+	/**
+	 * 개인 반복 일정의 달별 발생 반환 (달력에 아직 그리지 않았으면 null)
+	 * 
+	 * @return 개인 반복 일정 발생
+	 */
+	RecurrenceCache<ToDo> getLocalRepeats() {
+		return localRepeats != null && localRepeats.isFor(tasks) ? localRepeats : null;
+	}
+
+	/**
+	 * 공유 반복 일정의 달별 발생 반환 (달력에 아직 그리지 않았으면 null)
+	 * 
+	 * @return 공유 반복 일정 발생
+	 */
+	RecurrenceCache<SharedToDo> getSharedRepeats() {
+		return sharedRepeats != null && sharedRepeats.isFor(sharedTasks) ? sharedRepeats : null;
+	}
+
 	/**
 	 * 현재 선택된 날짜 설정
 	 * 
@@ -417,45 +678,43 @@ public class OurCalendar extends JFrame {
 	 * @param showNotification 알림 표시 여부
 	 */
 	public void addSharedTodo(SharedToDo sharedTodo, boolean showNotification) {
-		SwingUtilities.invokeLater(() -> {
-			String key = getDateKey(sharedTodo.getStartYear(), sharedTodo.getStartMonth(), sharedTodo.getStartDay());
-
-			// 중복 체크
-			List<SharedToDo> existingTodos = sharedTasks.get(key);
-			if (existingTodos != null) {
-				for (SharedToDo existing : existingTodos) {
-					if (existing.getId().equals(sharedTodo.getId())) {
-						System.out.println("이미 존재하는 공유 일정: " + sharedTodo.getId());
-						return;
-					}
-				}
-			}
-
-			// 공유 일정 추가
-			sharedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add(sharedTodo);
+		sharedEvents.submit(changes -> applyAddShared(sharedTodo, showNotification, changes));
+	}
 
-			// 캐시 저장
-			if (fileManager != null) {
-				fileManager.saveSharedCache(sharedTasks);
+	/**
+	 * 공유 일정 추가 반영 (EDT, 묶음 처리 중)
+	 * 
+	 * @param sharedTodo       추가할 공유 일정
+	 * @param showNotification 알림 표시 여부
+	 * @param changes          묶음 반영 결과
+	 */
+	private void applyAddShared(SharedToDo sharedTodo, boolean showNotification, SharedChanges changes) {
+		int key = getDateKey(sharedTodo.getStartYear(), sharedTodo.getStartMonth(), sharedTodo.getStartDay());
+
+		// 중복 체크
+		List<SharedToDo> existingTodos = sharedTasks.get(key);
+		if (existingTodos != null) {
+			for (SharedToDo existing : existingTodos) {
+				if (existing.getId().equals(sharedTodo.getId())) {
+					System.out.println("이미 존재하는 공유 일정: " + sharedTodo.getId());
+					return;
+				}
 			}
+		}
 
-			// 화면 업데이트
-			if (sharedTodo.getStartYear() == year && sharedTodo.getStartMonth() == month) {
-				updateCal(false);
-			}
+		// 공유 일정 추가 (캐시 저장과 화면 업데이트는 묶음 끝에서 한 번)
+		sharedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add(sharedTodo);
+		changes.track(sharedTodo.getId(), key);
+		changes.cacheChanged = true;
 
-			// 알림 표시 (다른 사용자의 일정인 경우)
-			if (showNotification && !sharedTodo.getCreator().equals(nickname)) {
-				JOptionPane.showMessageDialog(
-						this,
-						sharedTodo.getCreator() + "님이 새 공유 일정을 추가했습니다:\n" + sharedTodo.getTaskName(),
-						"새 공유 일정",
-						JOptionPane.INFORMATION_MESSAGE);
-			}
+		// 알림 표시 (다른 사용자의 일정인 경우)
+		if (showNotification && !sharedTodo.getCreator().equals(nickname)) {
+			changes.notices.add(new String[] { "새 공유 일정",
+					sharedTodo.getCreator() + "님이 새 공유 일정을 추가했습니다:\n" + sharedTodo.getTaskName() });
+		}
 
-			System.out.println("공유 일정 추가됨: " + sharedTodo.getTaskName() + " by " + sharedTodo.getCreator() + " (ID: "
-					+ sharedTodo.getId() + ")");
-		});
+		System.out.println("공유 일정 추가됨: " + sharedTodo.getTaskName() + " by " + sharedTodo.getCreator() + " (ID: "
+				+ sharedTodo.getId() + ")");
 	}
 
 	/**
@@ -464,55 +723,72 @@ public class OurCalendar extends JFrame {
 	 * @param updatedTodo 업데이트된 공유 일정
 	 */
 	public void updateSharedTodo(SharedToDo updatedTodo) {
-		SwingUtilities.invokeLater(() -> {
-			System.out.println("공유 일정 업데이트 처리 - ID: " + updatedTodo.getId() + ", 제목: " + updatedTodo.getTaskName()
-					+ ", 생성자: " + updatedTodo.getCreator());
-
-			boolean found = false;
-			// 모든 날짜에서 해당 ID 찾기
-			for (String dateKey : sharedTasks.keySet()) {
-				List<SharedToDo> todos = sharedTasks.get(dateKey);
-				for (int i = 0; i < todos.size(); i++) {
-					SharedToDo existingTodo = todos.get(i);
-
-					if (existingTodo.getId().equals(updatedTodo.getId())) {
-						System.out.println("일치하는 일정 찾음! 업데이트 진행: " + existingTodo.getTaskName() + " -> "
-								+ updatedTodo.getTaskName());
-						todos.set(i, updatedTodo);
-						found = true;
-
-						// 캐시 저장 및 화면 업데이트
-						if (fileManager != null) {
-							fileManager.saveSharedCache(sharedTasks);
-						}
-
-						updateCal(false);
-
-						// 다른 사용자 업데이트 알림
-						if (!updatedTodo.getCreator().equals(nickname)) {
-							JOptionPane.showMessageDialog(
-									this,
-									updatedTodo.getCreator() + "님이 공유 일정을 수정했습니다:\n" + updatedTodo.getTaskName(),
-									"공유 일정 업데이트",
-									JOptionPane.INFORMATION_MESSAGE);
-						} else {
-							System.out.println("본인이 수정한 공유 일정 로컬 동기화 완료");
-						}
-						return;
-					}
-				}
+		sharedEvents.submit(changes -> applyUpdateShared(updatedTodo, changes));
+	}
+
+	/**
+	 * 공유 일정 업데이트 반영 (EDT, 묶음 처리 중)
+	 * 
+	 * @param updatedTodo 업데이트된 공유 일정
+	 * @param changes     묶음 반영 결과
+	 */
+	private void applyUpdateShared(SharedToDo updatedTodo, SharedChanges changes) {
+		System.out.println("공유 일정 업데이트 처리 - ID: " + updatedTodo.getId() + ", 제목: " + updatedTodo.getTaskName()
+				+ ", 생성자: " + updatedTodo.getCreator());
+
+		// ID 색인으로 일정이 있는 날짜만 확인
+		List<SharedToDo> todos = sharedDayOf(updatedTodo.getId(), changes);
+		int i = indexOfShared(todos, updatedTodo.getId());
+		if (i < 0) {
+			System.err.println("업데이트할 공유 일정을 찾을 수 없음: " + updatedTodo.getId());
+			return;
+		}
+
+		SharedToDo existingTodo = todos.get(i);
+		System.out.println("일치하는 일정 찾음! 업데이트 진행: " + existingTodo.getTaskName() + " -> "
+				+ updatedTodo.getTaskName());
+		todos.set(i, updatedTodo);
+		changes.cacheChanged = true;
+
+		// 다른 사용자 업데이트 알림
+		if (!updatedTodo.getCreator().equals(nickname)) {
+			changes.notices.add(new String[] { "공유 일정 업데이트",
+					updatedTodo.getCreator() + "님이 공유 일정을 수정했습니다:\n" + updatedTodo.getTaskName() });
+		} else {
+			System.out.println("본인이 수정한 공유 일정 로컬 동기화 완료");
+		}
+	}
+
+	/**
+	 * 동기화로 받은 공유 일정 반영 (있으면 교체, 없으면 추가, 알림 없음)
+	 * 
+	 * @param sharedTodo 반영할 공유 일정
+	 */
+	public void upsertSharedTodo(SharedToDo sharedTodo) {
+		sharedEvents.submit(changes -> {
+			// 날짜가 바뀌었을 수 있으므로 기존 날짜에서 같은 ID 제거 후 추가
+			List<SharedToDo> previousDay = sharedDayOf(sharedTodo.getId(), changes);
+			if (previousDay != null) {
+				previousDay.removeIf(existing -> existing.getId().equals(sharedTodo.getId()));
 			}
+			int key = getDateKey(sharedTodo.getStartYear(), sharedTodo.getStartMonth(), sharedTodo.getStartDay());
+			sharedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add(sharedTodo);
+			changes.track(sharedTodo.getId(), key);
+			changes.cacheChanged = true;
+		});
+	}
 
-			// 업데이트할 일정을 찾지 못한 경우
-			if (!found) {
-				System.err.println("업데이트할 공유 일정을 찾을 수 없음: " + updatedTodo.getId());
-				System.out.println("현재 공유 일정 목록:");
-				for (String dateKey : sharedTasks.keySet()) {
-					for (SharedToDo todo : sharedTasks.get(dateKey)) {
-						System.out.println("  - 날짜: " + dateKey + ", ID: " + todo.getId() + ", 제목: "
-								+ todo.getTaskName() + ", 생성자: " + todo.getCreator());
-					}
-				}
+	/**
+	 * 서버가 보낸 공유 일정 알림 표시 (캐시에 없는 일정이면 무시)
+	 * 
+	 * @param todoId 알림 시각이 된 공유 일정 ID
+	 */
+	public void remindSharedTodo(String todoId) {
+		sharedEvents.submit(changes -> {
+			List<SharedToDo> todos = sharedDayOf(todoId, changes);
+			int i = indexOfShared(todos, todoId);
+			if (i >= 0) {
+				reminderService.notifyShared(todos.get(i));
 			}
 		});
 	}
@@ -523,62 +799,88 @@ public class OurCalendar extends JFrame {
 	 * @param todoId 삭제할 일정 ID
 	 */
 	public void deleteSharedTodo(String todoId) {
-		SwingUtilities.invokeLater(() -> {
-			boolean found = false;
-			String deletedTaskName = "";
-			String deletedCreator = "";
-
-			System.out.println("공유 일정 삭제 처리 - ID: " + todoId);
-
-			// 모든 날짜에서 해당 ID 찾아 삭제
-			for (String dateKey : sharedTasks.keySet()) {
-				List<SharedToDo> todos = sharedTasks.get(dateKey);
-				for (int i = 0; i < todos.size(); i++) {
-					SharedToDo todo = todos.get(i);
-					System.out.println("삭제 대상 확인 - ID: " + todo.getId() + " vs " + todoId);
-
-					if (todo.getId().equals(todoId)) {
-						SharedToDo deletedTodo = todos.remove(i);
-						deletedTaskName = deletedTodo.getTaskName();
-						deletedCreator = deletedTodo.getCreator();
-						found = true;
-						System.out.println("공유 일정 삭제됨: " + deletedTaskName + " (ID: " + todoId + ")");
-						break;
-					}
-				}
-				if (found)
-					break;
-			}
+		deleteSharedTodo(todoId, true);
+	}
 
-			if (found) {
-				// 캐시 저장 및 화면 업데이트
-				if (fileManager != null) {
-					fileManager.saveSharedCache(sharedTasks);
-				}
+	/**
+	 * 공유 일정 삭제 처리
+	 * 
+	 * @param todoId           삭제할 일정 ID
+	 * @param showNotification 알림 표시 여부
+	 */
+	public void deleteSharedTodo(String todoId, boolean showNotification) {
+		sharedEvents.submit(changes -> applyDeleteShared(todoId, showNotification, changes));
+	}
 
-				updateCal(false);
+	/**
+	 * 공유 일정 삭제 반영 (EDT, 묶음 처리 중)
+	 * 
+	 * @param todoId           삭제할 일정 ID
+	 * @param showNotification 알림 표시 여부
+	 * @param changes          묶음 반영 결과
+	 */
+	private void applyDeleteShared(String todoId, boolean showNotification, SharedChanges changes) {
+		System.out.println("공유 일정 삭제 처리 - ID: " + todoId);
+
+		// ID 색인으로 일정이 있는 날짜만 확인
+		List<SharedToDo> todos = sharedDayOf(todoId, changes);
+		int i = indexOfShared(todos, todoId);
+		if (i < 0) {
+			System.err.println("삭제할 공유 일정을 찾을 수 없음: " + todoId);
+			return;
+		}
 
-				// 다른 사용자 삭제 알림
-				if (!deletedCreator.equals(nickname)) {
-					JOptionPane.showMessageDialog(
-							this,
-							deletedCreator + "님이 공유 일정을 삭제했습니다:\n" + deletedTaskName,
-							"공유 일정 삭제",
-							JOptionPane.INFORMATION_MESSAGE);
-				} else {
-					System.out.println("본인이 삭제한 공유 일정 로컬 동기화 완료");
-				}
-			} else {
-				System.err.println("삭제할 공유 일정을 찾을 수 없음: " + todoId);
-				System.out.println("현재 공유 일정 목록:");
-				for (String dateKey : sharedTasks.keySet()) {
-					for (SharedToDo todo : sharedTasks.get(dateKey)) {
-						System.out.println(
-								"  - 날짜: " + dateKey + ", ID: " + todo.getId() + ", 제목: " + todo.getTaskName());
-					}
+		SharedToDo deletedTodo = todos.remove(i);
+		changes.untrack(todoId);
+		changes.cacheChanged = true;
+		System.out.println("공유 일정 삭제됨: " + deletedTodo.getTaskName() + " (ID: " + todoId + ")");
+
+		// 다른 사용자 삭제 알림
+		if (showNotification && !deletedTodo.getCreator().equals(nickname)) {
+			changes.notices.add(new String[] { "공유 일정 삭제",
+					deletedTodo.getCreator() + "님이 공유 일정을 삭제했습니다:\n" + deletedTodo.getTaskName() });
+		} else {
+			System.out.println("본인이 삭제한 공유 일정 로컬 동기화 완료");
+		}
+	}
+
+	/**
+	 * 묶음 안에서 공유 일정이 있는 날짜의 일정 목록 찾기 (EDT, 묶음 처리 중)
+	 * ID -> 날짜 키 색인은 묶음에서 처음 필요할 때 한 번만 만들고 이후 변경은 색인에 반영하므로, 변경마다 전체를 훑지 않음
+	 * 
+	 * @param todoId  공유 일정 ID
+	 * @param changes 묶음 반영 결과 (색인 보관)
+	 * @return 그 일정이 있는 날짜의 목록, 없으면 null
+	 */
+	private List<SharedToDo> sharedDayOf(String todoId, SharedChanges changes) {
+		if (changes.dateKeyById == null) {
+			changes.dateKeyById = new HashMap<>();
+			for (int dateKey : sharedTasks.keys()) {
+				for (SharedToDo todo : sharedTasks.get(dateKey)) {
+					changes.dateKeyById.put(todo.getId(), dateKey);
 				}
 			}
-		});
+		}
+		Integer dateKey = changes.dateKeyById.get(todoId);
+		return dateKey == null ? null : sharedTasks.get(dateKey);
+	}
+
+	/**
+	 * 날짜의 일정 목록에서 ID의 위치 찾기
+	 * 
+	 * @param todos  날짜의 공유 일정 목록 (null 가능)
+	 * @param todoId 공유 일정 ID
+	 * @return 위치, 없으면 -1
+	 */
+	private static int indexOfShared(List<SharedToDo> todos, String todoId) {
+		if (todos == null)
+			return -1;
+		for (int i = 0; i < todos.size(); i++) {
+			if (todos.get(i).getId().equals(todoId)) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
@@ -634,12 +936,12 @@ public class OurCalendar extends JFrame {
 			System.out.println("공유 일정 생성: " + sharedTodo.getId() + " - " + sharedTodo.getTaskName());
 
 			// 로컬에 추가
-			String key = getDateKey(sharedTodo.getStartYear(), sharedTodo.getStartMonth(), sharedTodo.getStartDay());
+			int key = getDateKey(sharedTodo.getStartYear(), sharedTodo.getStartMonth(), sharedTodo.getStartDay());
 			sharedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add(sharedTodo);
 
-			// 캐시 저장 및 화면 업데이트
-			if (fileManager != null) {
-				fileManager.saveSharedCache(sharedTasks);
+			// 캐시 저장 요청 및 화면 업데이트
+			if (sharedCacheWriter != null) {
+				sharedCacheWriter.saveCache(sharedTasks);
 			}
 
 			updateCal(false);
@@ -657,46 +959,150 @@ public class OurCalendar extends JFrame {
 	}
 
 	/**
-	 * 날짜를 키 문자열로 변환 (YYYY-MM-DD 형식)
+	 * 날짜를 일정 저장소의 키로 변환 (DayKey 형식, 문자열이 필요하면 DayKey.format 사용)
 	 * 
 	 * @param year  연도
 	 * @param month 월 (0부터 시작)
 	 * @param day   일
-	 * @return 날짜 키 문자열
+	 * @return 날짜 키
 	 */
-	public static String getDateKey(int year, int month, int day) {
-		return String.format("%04d-%02d-%02d", year, month + 1, day);
+	public static int getDateKey(int year, int month, int day) {
+		return DayKey.of(year, month, day);
 	}
 
 	/**
-	 * 현재 일정 데이터를 파일로 저장
+	 * 현재 달의 일정 데이터를 파일로 저장 (마지막 저장 후 변경이 없으면 쓰지 않음)
 	 */
 	void saveFile() {
 		if (fileManager != null) {
-			fileManager.saveLocalTasks(year, month, tasks);
-			fileManager.saveSharedCache(sharedTasks);
+			monthCache.save(year, month); // file-io 스레드에서 저장
+			sharedCacheWriter.saveCache(sharedTasks);
 			System.out.println("사용자 데이터 저장 완료: " + nickname + " - " + year + "-" + (month + 1));
 		}
 	}
 
 	/**
-	 * 파일에서 일정 데이터 로드
+	 * 현재 달의 일정 데이터 로드 및 앞뒤 달 미리 읽기
+	 * 월 캐시에 있으면 바로 사용하고, 없으면 빈 저장소를 먼저 보여준 뒤 file-io 스레드에서 읽어 EDT에서 바꿔 넣음
 	 */
 	void openFile() {
-		if (fileManager != null) {
-			tasks = fileManager.loadLocalTasks(year, month);
+		if (fileManager == null)
+			return;
+
+		int monthKey = DayKey.monthKey(year, month);
+		if (monthLoad != null) {
+			if (loadingMonthKey == monthKey)
+				return; // 같은 달을 이미 읽는 중
+			cancelMonthLoad();
+		}
+
+		CalendarStore<ToDo> cached = monthCache.getIfCached(year, month);
+		if (cached != null) {
+			tasks = cached;
+			otherRepeating = fileManager.loadRepeatingTasks(year, month);
+			reminderService.replaceAll(tasks, otherRepeating);
 			System.out.println("사용자 데이터 로드 완료: " + nickname + " - " + year + "-" + (month + 1));
+		} else {
+			startMonthLoad(year, month);
+		}
+		monthCache.prefetchAround(year, month);
+	}
+
+	/**
+	 * 캐시에 없는 달을 file-io 스레드에서 읽기 시작 (다른 달 파일의 반복 일정도 함께 읽음)
+	 * 
+	 * @param loadYear  연도
+	 * @param loadMonth 월 (0부터 시작)
+	 */
+	private void startMonthLoad(int loadYear, int loadMonth) {
+		CalendarStore<ToDo> placeholder = new CalendarStore<>();
+		CompletableFuture<CalendarStore<ToDo>> load = monthCache.load(loadYear, loadMonth);
+		CompletableFuture<List<ToDo>> repeating = fileManager.loadRepeatingTasksAsync(loadYear, loadMonth);
+
+		tasks = placeholder;
+		monthLoad = load;
+		loadingMonthKey = DayKey.monthKey(loadYear, loadMonth);
+		loadingPlaceholder = placeholder;
+
+		load.thenAcceptBoth(repeating, (loaded, others) -> SwingUtilities.invokeLater(
+				() -> finishMonthLoad(loadYear, loadMonth, load, placeholder, loaded, others)))
+				.exceptionally(error -> {
+					if (!load.isCancelled()) {
+						System.err.println("로컬 일정 로드 실패: " + error.getMessage());
+						SwingUtilities.invokeLater(() -> {
+							if (monthLoad == load) {
+								monthLoad = null;
+								updateCal(false);
+							}
+						});
+					}
+					return null;
+				});
+	}
+
+	/**
+	 * 읽기가 끝난 달을 월 캐시에 넣고, 아직 그 달을 보고 있으면 화면에 반영 (EDT)
+	 * 
+	 * @param loadYear    연도
+	 * @param loadMonth   월 (0부터 시작)
+	 * @param load        끝난 읽기 요청
+	 * @param placeholder 읽는 동안 보여준 빈 저장소
+	 * @param loaded      읽은 일정 저장소
+	 * @param others      다른 달 파일의 반복 일정
+	 */
+	private void finishMonthLoad(int loadYear, int loadMonth, CompletableFuture<CalendarStore<ToDo>> load,
+			CalendarStore<ToDo> placeholder, CalendarStore<ToDo> loaded, List<ToDo> others) {
+		CalendarStore<ToDo> store = monthCache.adopt(loadYear, loadMonth, loaded);
+		// 읽는 동안 추가한 일정을 읽은 저장소로 옮김 (변경으로 기록되어 월 캐시가 저장함)
+		for (int dateKey : placeholder.keys()) {
+			List<ToDo> added = placeholder.get(dateKey);
+			if (!added.isEmpty()) {
+				store.computeIfAbsent(dateKey, k -> new ArrayList<>()).addAll(added);
+			}
+		}
+		if (monthLoad != load)
+			return; // 그사이 다른 달로 넘어감
+
+		monthLoad = null;
+		loadingPlaceholder = null;
+		tasks = store;
+		otherRepeating = others;
+		reminderService.replaceAll(tasks, otherRepeating);
+		System.out.println("사용자 데이터 로드 완료: " + nickname + " - " + loadYear + "-" + (loadMonth + 1));
+		if (calPanel != null) {
+			updateCal(false);
+		}
+		if (startup.mark(StartupTimer.MONTH_LOADED)) {
+			finishStartupIfReady();
+		}
+	}
+
+	/**
+	 * 다른 달로 넘어갈 때 읽는 중인 달 정리 - 빈 저장소에 추가한 일정이 없으면 읽기를 취소
+	 * (추가한 일정이 있으면 읽기를 마저 끝내 월 캐시에 옮겨 넣음)
+	 */
+	private void cancelMonthLoad() {
+		if (loadingPlaceholder.getVersion() == 0) {
+			monthLoad.cancel(false);
 		}
+		monthLoad = null;
+		loadingPlaceholder = null;
 	}
 
 	/**
-	 * 알림 타이머 시작 (20초마다 체크)
+	 * 알림 타이머 시작 (다음 알림 시각에만 깨어남)
 	 */
 	void startReminderTimer() {
-		javax.swing.Timer timer = new javax.swing.Timer(20 * 1000, e -> {
-			reminderService.checkReminders(this);
-		});
-		timer.start();
+		reminderService.start();
+	}
+
+	/**
+	 * 알림 서비스 반환 - 개인 일정을 추가/수정/삭제한 곳에서 해당 일정의 알림을 다시 예약할 때 사용
+	 * 
+	 * @return 알림 서비스
+	 */
+	public ReminderService getReminderService() {
+		return reminderService;
 	}
 
 	// Getter 메서드들
@@ -724,7 +1130,16 @@ public class OurCalendar extends JFrame {
 		return nickname;
 	}
 
-	public HashMap<String, List<SharedToDo>> getSharedTasks() {
+	/**
+	 * 공유 일정 캐시가 반영한 동기화 지점 기록 (묶음의 캐시 저장 이후에 마지막 지점만 저장)
+	 * 
+	 * @param syncPoint "서버실행ID|리비전" 형태의 동기화 지점
+	 */
+	public void recordSyncPoint(String syncPoint) {
+		sharedEvents.submit(changes -> changes.syncPoint = syncPoint);
+	}
+
+	public CalendarStore<SharedToDo> getSharedTasks() {
 		return sharedTasks;
 	}
 
@@ -732,10 +1147,109 @@ public class OurCalendar extends JFrame {
 	 * 공유 일정 캐시 초기화
 	 */
 	public void clearSharedCache() {
-		SwingUtilities.invokeLater(() -> {
+		sharedEvents.submit(changes -> {
 			sharedTasks.clear();
+			changes.dateKeyById = null;
+			changes.cacheChanged = true;
+			// 전체 동기화가 끝나기 전에 종료되면 다음 연결 시 다시 전체 동기화를 받도록 동기화 지점 삭제
+			changes.syncCleared = true;
+			changes.syncPoint = null;
 			System.out.println("공유 일정 캐시가 초기화되었습니다.");
-			updateCal(false);
 		});
 	}
+
+	/**
+	 * 묶어서 받은 공유 일정 변경을 순서대로 반영한 뒤 캐시 저장, 동기화 지점 기록, 화면 갱신, 알림을 한 번씩 처리 (EDT)
+	 * 
+	 * @param events 공유 일정 변경 목록
+	 */
+	private void applySharedEvents(List<Consumer<SharedChanges>> events) {
+		SharedChanges changes = new SharedChanges();
+		for (Consumer<SharedChanges> event : events) {
+			event.accept(changes);
+		}
+
+		// 저장은 백그라운드에서 (동기화 지점 삭제는 캐시보다 먼저, 새 동기화 지점은 캐시를 저장한 뒤에 기록됨)
+		if (sharedCacheWriter != null) {
+			if (changes.syncCleared) {
+				sharedCacheWriter.saveSyncPoint(null);
+			}
+			if (changes.cacheChanged) {
+				sharedCacheWriter.saveCache(sharedTasks);
+			}
+			if (changes.syncPoint != null) {
+				sharedCacheWriter.saveSyncPoint(changes.syncPoint);
+			}
+		}
+		if (changes.cacheChanged && calPanel != null) {
+			updateCal(false);
+		}
+		// 연결 후 처음 받은 동기화 지점이면 동기화 완료 표시
+		if (changes.syncPoint != null && !serverSynced) {
+			serverSynced = true;
+			setConnectionStatus("● 온라인", new Color(40, 167, 69));
+			startup.mark(StartupTimer.SYNCED);
+			finishStartupIfReady();
+		}
+		showNotices(changes.notices);
+	}
+
+	/**
+	 * 다른 사용자의 공유 일정 변경 알림 표시 (여러 건이면 하나의 대화상자로 묶음)
+	 * 
+	 * @param notices 알림 목록 (제목, 내용)
+	 */
+	private void showNotices(List<String[]> notices) {
+		if (notices.isEmpty()) {
+			return;
+		}
+		if (notices.size() == 1) {
+			JOptionPane.showMessageDialog(this, notices.get(0)[1], notices.get(0)[0], JOptionPane.INFORMATION_MESSAGE);
+			return;
+		}
+
+		StringBuilder message = new StringBuilder("공유 일정이 " + notices.size() + "건 변경되었습니다:");
+		int shown = Math.min(notices.size(), MAX_LISTED_NOTICES);
+		for (int i = 0; i < shown; i++) {
+			message.append("\n\n").append(notices.get(i)[1]);
+		}
+		if (notices.size() > shown) {
+			message.append("\n\n외 ").append(notices.size() - shown).append("건");
+		}
+		JOptionPane.showMessageDialog(this, message.toString(), "공유 일정 변경", JOptionPane.INFORMATION_MESSAGE);
+	}
+
+	/**
+	 * 한 묶음의 공유 일정 변경 반영 결과
+	 */
+	private static final class SharedChanges {
+		boolean cacheChanged; // 공유 일정 캐시가 바뀌었는지
+		boolean syncCleared; // 공유 일정 캐시를 비워 동기화 지점을 지워야 하는지
+		String syncPoint; // 기록할 동기화 지점 (없으면 null)
+		final List<String[]> notices = new ArrayList<>(); // 표시할 알림 (제목, 내용)
+		Map<String, Integer> dateKeyById; // 공유 일정 ID -> 날짜 키 (처음 필요할 때 만듦, 없으면 null)
+
+		/**
+		 * 묶음 안에서 추가된 일정을 ID 색인에 반영 (색인을 아직 만들지 않았으면 무시)
+		 * 
+		 * @param todoId  공유 일정 ID
+		 * @param dateKey 날짜 키
+		 */
+		void track(String todoId, int dateKey) {
+			if (dateKeyById != null) {
+				dateKeyById.put(todoId, dateKey);
+			}
+		}
+
+		/**
+		 * 묶음 안에서 삭제된 일정을 ID 색인에서 제거
+		 * 
+		 * @param todoId 공유 일정 ID
+		 */
+		void untrack(String todoId) {
+			if (dateKeyById != null) {
+				dateKeyById.remove(todoId);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -88,17 +88,33 @@ public class OurDate extends JLabel {
 				OurDate.this.setBackground(SELECTED_COLOR);
 
 				// 해당 날짜의 일정 정보 조회
-				String key = OurCalendar.getDateKey(baseCal.getYear(), baseCal.getMonth(), OurDate.this.date);
+				int key = OurCalendar.getDateKey(baseCal.getYear(), baseCal.getMonth(), OurDate.this.date);
 				List<ToDo> localList = baseCal.tasks.get(key);
 				List<SharedToDo> sharedList = baseCal.sharedTasks.get(key);
 
-				System.out.println("날짜 클릭: " + key + ", 로컬 일정: " +
+				System.out.println("날짜 클릭: " + DayKey.format(key) + ", 로컬 일정: " +
 						(localList != null ? localList.size() : 0) + "개, 공유 일정: " +
 						(sharedList != null ? sharedList.size() : 0) + "개");
 
 				// 일정이 있는 경우 일정 목록 다이얼로그 표시
 				if ((localList != null && !localList.isEmpty()) || (sharedList != null && !sharedList.isEmpty())) {
 					ToDoForm.showDialogWithBothLists(baseCal, key, localList, sharedList);
+					return;
+				}
+
+				// 이전에 시작해 이날까지 이어지는 일정이나 반복 발생만 있으면 그 일정의 시작 날짜 목록을 표시
+				ToDo continuing = OurCalendar.firstOnDay(baseCal.tasks, baseCal.getLocalRepeats(), key);
+				if (continuing == null) {
+					continuing = OurCalendar.firstOnDay(baseCal.sharedTasks, baseCal.getSharedRepeats(), key);
+				}
+				if (continuing != null) {
+					// 다른 달 파일의 반복 개인 일정은 불러온 목록에 없으므로 표시하지 않음
+					int startKey = DayKey.of(continuing);
+					List<ToDo> startLocal = baseCal.tasks.get(startKey);
+					List<SharedToDo> startShared = baseCal.sharedTasks.get(startKey);
+					if ((startLocal != null && !startLocal.isEmpty()) || (startShared != null && !startShared.isEmpty())) {
+						ToDoForm.showDialogWithBothLists(baseCal, startKey, startLocal, startShared);
+					}
 				}
 			}
 
@@ -0,0 +1,208 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트별 송신 대기열 클래스
+ * 브로드캐스트하는 스레드는 메시지를 넣기만 하고, 실제 전송은 각 클라이언트의 writer가 담당하여
+ * 느린 클라이언트 하나가 다른 사용자의 동기화를 막지 않도록 함
+ * 
+ * 설정 (시스템 프로퍼티)
+ * - calendar.outbound.capacity : 대기열 최대 메시지 수 (기본 1024)
+ * - calendar.outbound.policy   : 가득 찼을 때 정책 - resync(드롭 후 재동기화, 기본) | disconnect(연결 종료)
+ */
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class OutboundQueue {
+    /**
+     * 대기열이 가득 찼을 때의 처리 정책
+     */
+    enum OverflowPolicy {
+        DROP_AND_RESYNC, // 이후 메시지를 버리고, 밀린 메시지 전송 후 전체 공유 일정을 다시 보냄
+        DISCONNECT // 느린 클라이언트의 연결을 끊음
+    }
+
+    static final int CAPACITY = Integer.getInteger("calendar.outbound.capacity", 1024); // 최대 메시지 수
+    static final OverflowPolicy POLICY = "disconnect".equalsIgnoreCase(System.getProperty("calendar.outbound.policy"))
+            ? OverflowPolicy.DISCONNECT
+            : OverflowPolicy.DROP_AND_RESYNC; // 넘침 정책
+
+    private static final Object RESYNC = new Object(); // 캐시 초기화 후 전체 재전송 표식
+    private static final Object BINARY_SWITCH = new Object(); // 수락 응답 후 바이너리 프로토콜로 전환 표식
+    private static final byte[] BINARY_ACCEPT_LINE = ServerProtocol.encodeLine(BinaryProtocol.NEGOTIATION); // 전환 수락 응답
+
+    /**
+     * 동기화 요청 표식 - writer가 꺼낼 때 그 시점의 상태로 응답 메시지를 생성함
+     */
+    private static class SyncRequest {
+        final String epoch; // 클라이언트의 서버 실행 ID
+        final long since; // 클라이언트의 리비전
+
+        SyncRequest(String epoch, long since) {
+            this.epoch = epoch;
+            this.since = since;
+        }
+    }
+
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>(); // 메시지(WireMessage) 또는 표식
+    private final AtomicInteger depth = new AtomicInteger(); // 현재 대기 메시지 수
+    private final AtomicBoolean resyncPending = new AtomicBoolean(); // 재동기화 대기 중 여부
+    private final Runnable wakeup; // 새 메시지가 들어왔을 때 writer를 깨우는 콜백
+
+    // 지표
+    private final AtomicInteger highWatermark = new AtomicInteger(); // 최대 대기 메시지 수
+    private final AtomicLong droppedCount = new AtomicLong(); // 버린 메시지 수
+    private final AtomicLong overflowCount = new AtomicLong(); // 넘침 발생 횟수
+
+    private Iterator<WireMessage> syncLines; // 전송 중인 동기화 메시지 (writer 전용)
+    private boolean binary = false; // 바이너리 프로토콜 전환 여부 (writer 전용)
+
+    /**
+     * OutboundQueue 생성자
+     * 
+     * @param wakeup 메시지가 추가될 때 호출할 writer 깨우기 콜백
+     */
+    OutboundQueue(Runnable wakeup) {
+        this.wakeup = wakeup;
+    }
+
+    /**
+     * 메시지를 대기열에 추가 (어느 스레드에서나 호출 가능, 블로킹 없음)
+     * 
+     * @param message 메시지 (여러 대기열이 공유할 수 있음)
+     * @return false이면 DISCONNECT 정책에 따라 연결을 끊어야 함
+     */
+    boolean offer(WireMessage message) {
+        if (resyncPending.get()) {
+            // 재동기화 스냅샷에 포함될 것이므로 버림
+            droppedCount.incrementAndGet();
+            return true;
+        }
+
+        if (depth.get() >= CAPACITY) {
+            overflowCount.incrementAndGet();
+            droppedCount.incrementAndGet();
+            if (POLICY == OverflowPolicy.DISCONNECT) {
+                return false;
+            }
+            if (resyncPending.compareAndSet(false, true)) {
+                enqueue(RESYNC);
+            }
+            return true;
+        }
+
+        enqueue(message);
+        return true;
+    }
+
+    /**
+     * 동기화 응답 전송 예약 - 실제 직렬화는 writer가 전송할 때 수행
+     * 
+     * @param epoch 클라이언트가 마지막으로 동기화한 서버 실행 ID
+     * @param since 클라이언트가 마지막으로 반영한 리비전
+     */
+    void offerSync(String epoch, long since) {
+        enqueue(new SyncRequest(epoch, since));
+    }
+
+    /**
+     * 바이너리 프로토콜 전환 예약 - 앞선 메시지는 텍스트로, 수락 응답 뒤의 메시지는 바이너리로 전송됨
+     * 인코딩 방식을 writer가 꺼낼 때 정하므로 동시에 들어오는 브로드캐스트와 섞이지 않음
+     */
+    void offerBinarySwitch() {
+        enqueue(BINARY_SWITCH);
+    }
+
+    /**
+     * 대기열에 항목 추가 후 writer 깨우기
+     * 
+     * @param item 메시지 또는 표식
+     */
+    private void enqueue(Object item) {
+        queue.add(item);
+        int current = depth.incrementAndGet();
+        highWatermark.accumulateAndGet(current, Math::max);
+        wakeup.run();
+    }
+
+    /**
+     * 다음으로 보낼 메시지 반환 (writer 스레드 전용)
+     * 
+     * @return 다음 메시지의 인코딩된 바이트, 없으면 null
+     */
+    byte[] poll() {
+        while (true) {
+            if (syncLines != null) {
+                if (syncLines.hasNext()) {
+                    return syncLines.next().encoded(binary);
+                }
+                syncLines = null;
+            }
+
+            Object item = queue.poll();
+            if (item == null) {
+                return null;
+            }
+            depth.decrementAndGet();
+
+            if (item == RESYNC) {
+                // 표식 처리 시점의 최신 상태로 다시 보냄 - 이후 메시지는 다시 정상 적재
+                resyncPending.set(false);
+                syncLines = ServerProtocol.fullSyncMessages("resync");
+                continue;
+            }
+            if (item == BINARY_SWITCH) {
+                binary = true;
+                return BINARY_ACCEPT_LINE;
+            }
+            if (item instanceof SyncRequest) {
+                SyncRequest request = (SyncRequest) item;
+                syncLines = ServerProtocol.syncMessages(request.epoch, request.since);
+                continue;
+            }
+            return ((WireMessage) item).encoded(binary);
+        }
+    }
+
+    /**
+     * 현재 대기 메시지 수 반환
+     * 
+     * @return 대기 메시지 수
+     */
+    int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * 최대 대기 메시지 수 반환
+     * 
+     * @return 최대 대기 메시지 수
+     */
+    int getHighWatermark() {
+        return highWatermark.get();
+    }
+
+    /**
+     * 버린 메시지 수 반환
+     * 
+     * @return 버린 메시지 수
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 넘침 발생 횟수 반환
+     * 
+     * @return 넘침 발생 횟수
+     */
+    long getOverflowCount() {
+        return overflowCount.get();
+    }
+}
@@ -7,6 +7,8 @@
  *        프로그램의 진입점으로 OurCalendar 객체를 생성하고 실행함
  */
 
+import javax.swing.SwingUtilities;
+
 public class ProgramApp {
 	/**
 	 * 프로그램 메인 실행 메서드
@@ -14,8 +16,10 @@ public class ProgramApp {
 	 * @param args 명령행 인자 (사용하지 않음)
 	 */
 	static public void main(String args[]) {
-		// 캘린더 객체 생성 및 화면 표시
-		OurCalendar calendar = new OurCalendar();
-		calendar.showCalendar();
+		// 캘린더 객체 생성 및 화면 표시 (EDT에서 창부터 띄우고 데이터와 서버 연결은 그 뒤에 준비)
+		SwingUtilities.invokeLater(() -> {
+			OurCalendar calendar = new OurCalendar();
+			calendar.showCalendar();
+		});
 	}
 }
\ No newline at end of file
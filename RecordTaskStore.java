@@ -0,0 +1,284 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 개인 일정 고정 길이 레코드 저장소 클래스 - 한 달 분량을 바이너리 파일(data_<닉네임>/YYYY-M.dat) 하나로 저장
+ * 텍스트 파일처럼 줄을 나누고 숫자를 파싱하지 않고, 파일 전체를 한 번에 버퍼로 읽어 정해진 위치의 값을 바로 읽음
+ * FileManager에서 사용자별로 선택하는 저장 방식(TaskStorage) 중 하나 (StorageMigration으로 텍스트 파일에서 변환)
+ * 
+ * 파일 구성 (정수는 빅 엔디언 4바이트)
+ * - 헤더 (24바이트) : 식별값, 형식 버전, 날짜 수, 일정 수, 문자열 영역 크기, 예약
+ * - 날짜 색인 (날짜마다 12바이트, 날짜 순) : 날짜 키, 첫 레코드 번호, 레코드 수
+ * - 일정 레코드 (일정마다 84바이트) : 종일 여부, 시작/종료 연월일시분 10개, 문자열 5개(제목, 장소, 알림, 반복, 메모)의 (위치, 길이)
+ * - 문자열 영역 : UTF-8 바이트 (길이 -1은 null)
+ * 
+ * 저장은 임시 파일에 쓴 뒤 이름을 바꿔 원자적으로 교체함
+ * (메모리 매핑은 쓰지 않음 - 어차피 모든 레코드를 객체로 복사하며, Windows에서는 매핑이 GC로 해제되기 전까지 파일을 교체하지 못함)
+ * 헤더와 색인의 수는 그대로 믿지 않고 long으로 범위를 확인하므로, 손상된 파일은 큰 할당 대신 IOException으로 끝남
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class RecordTaskStore implements TaskStorage {
+    private static final Pattern MONTH_FILE = Pattern.compile("(\\d+)-(\\d+)\\.dat"); // 월 파일 이름
+
+    private static final int MAGIC = 0x4F435444; // 파일 식별값 ("OCTD")
+    private static final int VERSION = 1; // 형식 버전
+    private static final int HEADER_SIZE = 24; // 헤더 크기
+    private static final int DAY_ENTRY_SIZE = 12; // 날짜 색인 항목 크기
+    private static final int STRING_FIELDS = 5; // 레코드의 문자열 수
+    private static final int RECORD_SIZE = 4 + 10 * 4 + STRING_FIELDS * 8; // 레코드 크기 (84바이트)
+
+    private final String dataDir; // 월 파일 폴더
+
+    /**
+     * RecordTaskStore 생성자
+     * 
+     * @param dataDir 월 파일 폴더 (사용자 데이터 디렉터리)
+     */
+    RecordTaskStore(String dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 저장
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 일정 저장소 (해당 월의 일정만 저장)
+     * @throws IOException 저장 실패
+     */
+    @Override
+    public void save(int year, int month, CalendarStore<ToDo> tasks) throws IOException {
+        List<Integer> dayKeys = new ArrayList<>();
+        List<List<ToDo>> days = new ArrayList<>();
+        int recordCount = 0;
+        for (Map.Entry<Integer, List<ToDo>> day : tasks.month(year, month).entrySet()) {
+            if (day.getValue().isEmpty())
+                continue;
+            dayKeys.add(day.getKey());
+            days.add(day.getValue());
+            recordCount += day.getValue().size();
+        }
+
+        // 문자열을 먼저 인코딩해 영역 크기를 정함
+        byte[][] strings = new byte[recordCount * STRING_FIELDS][];
+        int heapSize = 0;
+        int index = 0;
+        for (List<ToDo> todoList : days) {
+            for (ToDo todo : todoList) {
+                for (String value : stringsOf(todo)) {
+                    byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+                    strings[index++] = bytes;
+                    heapSize += bytes == null ? 0 : bytes.length;
+                }
+            }
+        }
+
+        int indexSize = dayKeys.size() * DAY_ENTRY_SIZE;
+        int recordsSize = recordCount * RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + indexSize + recordsSize + heapSize);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(dayKeys.size()).putInt(recordCount).putInt(heapSize).putInt(0);
+
+        int firstRecord = 0;
+        for (int i = 0; i < dayKeys.size(); i++) {
+            buffer.putInt(dayKeys.get(i)).putInt(firstRecord).putInt(days.get(i).size());
+            firstRecord += days.get(i).size();
+        }
+
+        ByteBuffer heap = buffer.duplicate();
+        heap.position(HEADER_SIZE + indexSize + recordsSize);
+        int heapOffset = 0;
+        index = 0;
+        for (List<ToDo> todoList : days) {
+            for (ToDo todo : todoList) {
+                buffer.putInt(todo.isAllDay() ? 1 : 0);
+                buffer.putInt(todo.getStartYear()).putInt(todo.getStartMonth()).putInt(todo.getStartDay())
+                        .putInt(todo.getStartHour()).putInt(todo.getStartMinute());
+                buffer.putInt(todo.getEndYear()).putInt(todo.getEndMonth()).putInt(todo.getEndDay())
+                        .putInt(todo.getEndHour()).putInt(todo.getEndMinute());
+                for (int field = 0; field < STRING_FIELDS; field++) {
+                    byte[] bytes = strings[index++];
+                    if (bytes == null) {
+                        buffer.putInt(0).putInt(-1);
+                        continue;
+                    }
+                    buffer.putInt(heapOffset).putInt(bytes.length);
+                    heap.put(bytes);
+                    heapOffset += bytes.length;
+                }
+            }
+        }
+        buffer.clear();
+
+        Path target = fileFor(year, month).toPath();
+        Path temp = Paths.get(target + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 로드
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소 (파일이 없으면 비어 있음)
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못됨
+     */
+    @Override
+    public CalendarStore<ToDo> load(int year, int month) throws IOException {
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+        File file = fileFor(year, month);
+        if (!file.exists()) {
+            return tasks;
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("일정 파일이 너무 큼: " + file);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("일정 파일을 끝까지 읽지 못함: " + file);
+                }
+            }
+        }
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("일정 파일 형식이 아님: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("지원하지 않는 일정 파일 버전: " + buffer.getInt(4));
+        }
+        int dayCount = buffer.getInt(8);
+        int recordCount = buffer.getInt(12);
+        int heapSize = buffer.getInt(16);
+        long expected = HEADER_SIZE + (long) dayCount * DAY_ENTRY_SIZE + (long) recordCount * RECORD_SIZE + heapSize;
+        if (dayCount < 0 || recordCount < 0 || heapSize < 0 || expected != buffer.capacity()) {
+            throw new IOException("일정 파일이 손상됨: " + file);
+        }
+
+        int recordsStart = HEADER_SIZE + dayCount * DAY_ENTRY_SIZE;
+        byte[] heap = new byte[heapSize];
+        ByteBuffer heapView = buffer.duplicate();
+        heapView.position(recordsStart + recordCount * RECORD_SIZE);
+        heapView.get(heap);
+
+        for (int day = 0; day < dayCount; day++) {
+            int entry = HEADER_SIZE + day * DAY_ENTRY_SIZE;
+            int dateKey = buffer.getInt(entry);
+            int first = buffer.getInt(entry + 4);
+            int count = buffer.getInt(entry + 8);
+            if (first < 0 || count < 0 || (long) first + count > recordCount) {
+                throw new IOException("일정 파일이 손상됨: " + file);
+            }
+
+            List<ToDo> todoList = new ArrayList<>(count);
+            for (int record = first; record < first + count; record++) {
+                todoList.add(readRecord(buffer, recordsStart + record * RECORD_SIZE, heap));
+            }
+            tasks.put(dateKey, todoList);
+        }
+        return tasks;
+    }
+
+    /**
+     * 저장된 월 목록 반환
+     * 
+     * @return {연도, 월(0부터 시작)} 목록
+     */
+    @Override
+    public List<int[]> months() {
+        List<int[]> months = new ArrayList<>();
+        File[] files = new File(dataDir).listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Matcher matcher = MONTH_FILE.matcher(file.getName());
+            if (matcher.matches()) {
+                months.add(new int[] { Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)) - 1 });
+            }
+        }
+        return months;
+    }
+
+    /**
+     * 월 파일 반환
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 월 파일
+     */
+    File fileFor(int year, int month) {
+        return new File(String.format("%s/%d-%d.dat", dataDir, year, month + 1));
+    }
+
+    /**
+     * 레코드 하나를 일정으로 변환
+     * 
+     * @param buffer 파일 내용
+     * @param offset 레코드 위치
+     * @param heap   문자열 영역
+     * @return 일정
+     * @throws IOException 문자열 위치가 영역을 벗어남
+     */
+    private static ToDo readRecord(ByteBuffer buffer, int offset, byte[] heap) throws IOException {
+        String[] strings = new String[STRING_FIELDS];
+        int position = offset + 4 + 10 * 4;
+        for (int field = 0; field < STRING_FIELDS; field++, position += 8) {
+            int start = buffer.getInt(position);
+            int length = buffer.getInt(position + 4);
+            if (length < 0) {
+                continue;
+            }
+            if (start < 0 || (long) start + length > heap.length) {
+                throw new IOException("일정 파일의 문자열 위치가 잘못됨");
+            }
+            strings[field] = new String(heap, start, length, StandardCharsets.UTF_8);
+        }
+
+        return new ToDo(strings[0], strings[1], buffer.getInt(offset) != 0,
+                buffer.getInt(offset + 4), buffer.getInt(offset + 8), buffer.getInt(offset + 12),
+                buffer.getInt(offset + 16), buffer.getInt(offset + 20),
+                buffer.getInt(offset + 24), buffer.getInt(offset + 28), buffer.getInt(offset + 32),
+                buffer.getInt(offset + 36), buffer.getInt(offset + 40),
+                strings[2], strings[3], strings[4]);
+    }
+
+    /**
+     * 레코드에 저장하는 일정의 문자열 (제목, 장소, 알림, 반복, 메모 순)
+     * 
+     * @param todo 일정
+     * @return 문자열 배열
+     */
+    private static String[] stringsOf(ToDo todo) {
+        return new String[] { todo.getTaskName(), todo.getLocation(), todo.getAlarm(), todo.getRepeat(),
+                todo.getMemo() };
+    }
+}
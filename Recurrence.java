@@ -0,0 +1,190 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 반복 일정 계산 유틸리티 클래스 - 일정의 반복 설정(매일/매주/매달/매년)을 발생 시각 목록으로 펼침
+ * 발생 시각은 필요한 만큼만 하나씩 계산하는 반복자로 제공하며, 시작점까지는 처음부터 세지 않고 한 번에 건너뜀
+ * 매달/매년 반복에서 해당 날짜가 없는 달(31일, 2월 29일 등)은 건너뜀
+ */
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+final class Recurrence {
+    private static final int MAX_YEAR = 9999; // 이 연도를 넘는 발생은 만들지 않음
+
+    private Recurrence() {
+    }
+
+    /**
+     * 반복 일정인지 확인
+     * 
+     * @param todo 일정
+     * @return 반복 설정이 있으면 true
+     */
+    static boolean isRepeating(ToDo todo) {
+        return unitOf(todo.getRepeat()) != null;
+    }
+
+    /**
+     * 반복 설정의 반복 단위 반환
+     * 
+     * @param repeat 반복 설정 (ToDo.REPEAT_OPTIONS)
+     * @return 반복 단위, 반복하지 않으면 null
+     */
+    static ChronoUnit unitOf(String repeat) {
+        if (repeat == null) {
+            return null;
+        }
+        switch (repeat) {
+            case "매일":
+                return ChronoUnit.DAYS;
+            case "매주":
+                return ChronoUnit.WEEKS;
+            case "매달":
+                return ChronoUnit.MONTHS;
+            case "매년":
+                return ChronoUnit.YEARS;
+            case "없음":
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * from 이후(포함)에 시작하는 발생 시각을 차례로 돌려주는 반복자 (반복 일정이면 끝이 없으므로 호출자가 멈춰야 함)
+     * 반복하지 않는 일정은 원래 시작 시각 하나만 돌려줌
+     * 
+     * @param todo 일정
+     * @param from 첫 발생 시각의 하한
+     * @return 발생 시각 반복자 (시각 순, 날짜가 잘못된 일정이면 비어 있음)
+     */
+    static Iterator<LocalDateTime> occurrences(ToDo todo, LocalDateTime from) {
+        return new Occurrences(startOf(todo), unitOf(todo.getRepeat()), from);
+    }
+
+    /**
+     * from 이후(포함)의 첫 발생 시각 반환
+     * 
+     * @param todo 일정
+     * @param from 하한
+     * @return 발생 시각, 없으면 null
+     */
+    static LocalDateTime nextStart(ToDo todo, LocalDateTime from) {
+        Iterator<LocalDateTime> it = occurrences(todo, from);
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * earliest 이후(포함)의 첫 알림 시각 반환 - 반복 일정이면 다음 발생의 알림 시각을 계산
+     * 
+     * @param todo     일정
+     * @param earliest 하한
+     * @return 알림 시각, 없으면 null
+     */
+    static LocalDateTime nextNotifyTime(ToDo todo, LocalDateTime earliest) {
+        LocalDateTime notifyTime = todo.getNotifyTime();
+        if (notifyTime == null) {
+            return null;
+        }
+        if (!notifyTime.isBefore(earliest)) {
+            return notifyTime;
+        }
+        if (!isRepeating(todo)) {
+            return null;
+        }
+
+        // 알림 설정만큼 앞당긴 시각이므로, 다음 발생 시작 시각에서 같은 간격을 뺌
+        Duration lead = Duration.between(notifyTime, startOf(todo));
+        LocalDateTime start = nextStart(todo, earliest.plus(lead));
+        return start == null ? null : start.minus(lead);
+    }
+
+    /**
+     * 일정의 원래 시작 시각
+     * 
+     * @param todo 일정
+     * @return 시작 시각, 날짜가 잘못되었으면 null
+     */
+    static LocalDateTime startOf(ToDo todo) {
+        try {
+            // 월은 0부터 시작하므로 +1
+            return LocalDateTime.of(todo.getStartYear(), todo.getStartMonth() + 1, todo.getStartDay(),
+                    todo.getStartHour(), todo.getStartMinute());
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 발생 시각 반복자 - n번째 발생은 원래 시작 시각 + n 단위
+     */
+    private static final class Occurrences implements Iterator<LocalDateTime> {
+        private final LocalDateTime origin; // 원래 시작 시각
+        private final ChronoUnit unit; // 반복 단위 (반복하지 않으면 null)
+        private final boolean clamps; // 더한 결과가 말일로 당겨질 수 있는 단위인지 (매달/매년)
+        private long index; // 다음에 계산할 발생 번호
+        private LocalDateTime next; // 미리 계산해 둔 다음 발생 (없으면 null)
+
+        Occurrences(LocalDateTime origin, ChronoUnit unit, LocalDateTime from) {
+            this.origin = origin;
+            this.unit = unit;
+            this.clamps = unit == ChronoUnit.MONTHS || unit == ChronoUnit.YEARS;
+            if (origin == null || from.getYear() > MAX_YEAR) {
+                return;
+            }
+            if (unit == null) {
+                next = origin.isBefore(from) ? null : origin;
+                return;
+            }
+            // 하한 직전의 발생 번호로 바로 건너뛴 뒤 하한 이상인 첫 발생을 찾음
+            index = origin.isBefore(from) ? unit.between(origin, from) : 0;
+            advance(from);
+        }
+
+        /**
+         * index부터 하한 이상인 다음 발생을 찾아 next에 저장
+         * 
+         * @param from 하한
+         */
+        private void advance(LocalDateTime from) {
+            next = null;
+            while (true) {
+                LocalDateTime candidate = origin.plus(index++, unit);
+                if (candidate.getYear() > MAX_YEAR) {
+                    return;
+                }
+                // 매달/매년 반복에서 날짜가 없어 말일로 당겨진 달은 건너뜀
+                if (clamps && candidate.getDayOfMonth() != origin.getDayOfMonth() || candidate.isBefore(from)) {
+                    continue;
+                }
+                next = candidate;
+                return;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            if (unit == null) {
+                next = null;
+            } else {
+                advance(current);
+            }
+            return current;
+        }
+    }
+}
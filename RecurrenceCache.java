@@ -0,0 +1,139 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 반복 일정 펼침 캐시 클래스 - 저장소의 반복 일정을 화면에 표시하는 달 단위로만 발생 날짜로 펼쳐 보관
+ * 처음 조회한 달만 펼치고 결과를 달마다 캐시하므로, 보지 않은 달에는 비용이 들지 않음
+ * 저장소의 반복 일정이 바뀌면(getRepeatVersion) 캐시를 모두 비움
+ * 
+ * 원래 시작 날짜의 발생은 저장소에 이미 있으므로 펼친 결과에서 뺌
+ * 스레드 안전하지 않음 (EDT에서만 사용)
+ * 
+ * @param <T> 일정 타입
+ */
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+class RecurrenceCache<T extends ToDo> {
+    private static final int MAX_CACHED_MONTHS = 24; // 캐시하는 최대 달 수 (넘으면 비우고 다시 채움)
+
+    private final CalendarStore<T> store; // 반복 일정을 가진 저장소
+    private final Collection<? extends T> extra; // 저장소 밖의 반복 일정 (다른 달 파일의 개인 일정)
+    private final DayMap<DayMap<List<T>>> months = new DayMap<>(); // 월 키 -> (날짜 키 -> 그날 발생하는 반복 일정)
+    private int version; // 캐시를 채울 때의 저장소 반복 일정 변경 횟수
+
+    /**
+     * RecurrenceCache 생성자
+     * 
+     * @param store 반복 일정을 가진 저장소
+     * @param extra 저장소 밖의 반복 일정 (없으면 빈 목록)
+     */
+    RecurrenceCache(CalendarStore<T> store, Collection<? extends T> extra) {
+        this.store = store;
+        this.extra = extra;
+        this.version = store.getRepeatVersion();
+    }
+
+    /**
+     * 이 캐시가 주어진 저장소를 펼치는지 확인 (저장소 객체가 교체되었는지 확인용)
+     * 
+     * @param other 저장소
+     * @return 같은 저장소면 true
+     */
+    boolean isFor(CalendarStore<?> other) {
+        return store == other;
+    }
+
+    /**
+     * 날짜에 발생하는 반복 일정 반환 (원래 시작 날짜 제외)
+     * 
+     * @param key 날짜 키
+     * @return 반복 일정 목록 (읽기 전용, 없으면 빈 목록)
+     */
+    List<T> on(int key) {
+        List<T> todos = month(DayKey.year(key), DayKey.month(key)).get(key);
+        return todos == null ? Collections.emptyList() : Collections.unmodifiableList(todos);
+    }
+
+    /**
+     * 한 달의 반복 일정 발생 반환 (처음 조회할 때 펼침)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 날짜 키 -> 그날 발생하는 반복 일정
+     */
+    DayMap<List<T>> month(int year, int month) {
+        if (version != store.getRepeatVersion()) {
+            months.clear();
+            version = store.getRepeatVersion();
+        }
+
+        int monthKey = DayKey.monthKey(year, month);
+        DayMap<List<T>> days = months.get(monthKey);
+        if (days == null) {
+            if (months.size() >= MAX_CACHED_MONTHS) {
+                months.clear();
+            }
+            days = expand(year, month);
+            months.put(monthKey, days);
+        }
+        return days;
+    }
+
+    /**
+     * 캐시된 달 수 반환
+     * 
+     * @return 달 수
+     */
+    int getCachedMonthCount() {
+        return months.size();
+    }
+
+    /**
+     * 한 달 동안의 반복 일정 발생을 날짜별로 펼침
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 날짜 키 -> 그날 발생하는 반복 일정
+     */
+    private DayMap<List<T>> expand(int year, int month) {
+        LocalDateTime from = LocalDateTime.of(year, month + 1, 1, 0, 0);
+        LocalDateTime to = from.plusMonths(1);
+        DayMap<List<T>> days = new DayMap<>();
+        for (T todo : store.repeating()) {
+            expandInto(todo, from, to, days);
+        }
+        for (T todo : extra) {
+            expandInto(todo, from, to, days);
+        }
+        return days;
+    }
+
+    /**
+     * 일정 하나의 [from, to) 구간 발생을 날짜별 목록에 추가
+     * 
+     * @param todo 반복 일정
+     * @param from 구간 시작
+     * @param to   구간 끝
+     * @param days 날짜 키 -> 일정 목록
+     */
+    private void expandInto(T todo, LocalDateTime from, LocalDateTime to, DayMap<List<T>> days) {
+        int originKey = DayKey.of(todo);
+        Iterator<LocalDateTime> occurrences = Recurrence.occurrences(todo, from);
+        while (occurrences.hasNext()) {
+            LocalDateTime start = occurrences.next();
+            if (!start.isBefore(to))
+                break;
+            int key = DayKey.of(start.getYear(), start.getMonthValue() - 1, start.getDayOfMonth());
+            if (key != originKey) {
+                days.computeIfAbsent(key, k -> new ArrayList<>()).add(todo);
+            }
+        }
+    }
+}
@@ -6,77 +6,332 @@
  * 
  * 일정 알림 서비스 클래스 - 등록된 일정의 알림 시간을 체크하고 팝업 알림을 표시
  * 설정된 알림 옵션에 따라 지정된 시간 전에 알림을 띄워줌
+ * 
+ * 일정마다 알림 시각을 미리 계산해 우선순위 큐에 넣고, 가장 이른 알림 시각까지 잠들었다가 깨어남
+ * (주기적으로 전체 일정을 훑지 않음). 일정이 추가/수정/삭제되면 해당 일정의 알림만 다시 예약함
+ * 반복 일정은 다음 발생 하나만 예약하고, 알림을 보낸 뒤 그다음 발생을 예약함
+ * 모든 메서드는 이벤트 디스패치 스레드(EDT)에서 호출해야 함
  */
 
 import java.time.*;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.PriorityQueue;
 import javax.swing.*;
 import java.awt.*;
 
 public class ReminderService {
-    private Set<String> notifiedSet = new HashSet<>(); // 이미 알림을 보낸 일정들의 키를 저장
+    private static final long GRACE_MINUTES = 1; // 알림 시각이 지난 뒤에도 알림을 띄우는 허용 시간 (분)
+    private static final int MAX_SLEEP_MILLIS = 5 * 60 * 1000; // 최대 대기 시간 (시계 변경, 절전 복귀 대비)
+
+    private static final int NOTIFIED_CAPACITY = 256; // 중복 확인용으로 기억하는 최근 알림 수
+
+    private final NotifiedSet notifiedSet = new NotifiedSet(NOTIFIED_CAPACITY); // 최근에 보낸 알림의 키
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(); // 예약된 알림 (알림 시각 순)
+    private final Map<ToDo, Reminder> scheduled = new IdentityHashMap<>(); // 일정 -> 예약된 알림
+    private final javax.swing.Timer timer; // 다음 알림 시각에 한 번 깨어나는 타이머
+    private boolean running = false; // 타이머 동작 여부
+
+    /**
+     * 예약된 알림 하나 - 일정이 수정/삭제되면 취소 표시 후 큐에서 꺼낼 때 버림
+     */
+    private static class Reminder implements Comparable<Reminder> {
+        final ToDo task; // 알림 대상 일정
+        final LocalDateTime notifyTime; // 알림 시각
+        final String alarmType; // 알림 설정
+        boolean cancelled = false; // 취소 여부
+
+        Reminder(ToDo task, LocalDateTime notifyTime, String alarmType) {
+            this.task = task;
+            this.notifyTime = notifyTime;
+            this.alarmType = alarmType;
+        }
+
+        /**
+         * 중복 알림 방지 키 - 상위 32비트는 알림 시각(분 단위), 하위 32비트는 일정 이름과 알림 설정의 해시
+         * 월을 다시 불러와 일정 객체가 새로 만들어져도 같은 알림이면 같은 키가 됨
+         * 
+         * @return 알림 키
+         */
+        long key() {
+            int hash = task.getTaskName().hashCode() * 31 + alarmType.hashCode();
+            return (epochMinute(notifyTime) << 32) | (hash & 0xFFFFFFFFL);
+        }
+
+        @Override
+        public int compareTo(Reminder other) {
+            return notifyTime.compareTo(other.notifyTime);
+        }
+    }
+
+    /**
+     * 최근에 보낸 알림 키를 알림 시각 순으로 기억하는 고정 크기 링 버퍼
+     * 허용 시간이 지난 알림은 다시 예약되지 않으므로 그보다 오래된 키는 자동으로 버림
+     * (살아 있는 키는 보통 몇 개뿐이라 선형 탐색으로 충분하며, 용량을 넘으면 가장 오래된 키부터 버림)
+     */
+    private static final class NotifiedSet {
+        private final long[] keys; // 알림 키 (보낸 순서)
+        private int head = 0; // 가장 오래된 키 위치
+        private int size = 0; // 기억 중인 키 수
+
+        NotifiedSet(int capacity) {
+            keys = new long[capacity];
+        }
+
+        /**
+         * 만료된 키를 버린 뒤 키 추가
+         * 
+         * @param key          알림 키
+         * @param oldestMinute 이 시각(분 단위)보다 이른 알림의 키는 만료
+         * @return 이미 있던 키면 false
+         */
+        boolean add(long key, long oldestMinute) {
+            while (size > 0 && (keys[head] >> 32) < oldestMinute) {
+                head = (head + 1) % keys.length;
+                size--;
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[(head + i) % keys.length] == key)
+                    return false;
+            }
+            if (size == keys.length) {
+                head = (head + 1) % keys.length;
+                size--;
+            }
+            keys[(head + size) % keys.length] = key;
+            size++;
+            return true;
+        }
+
+        /**
+         * 기억 중인 키 수 반환
+         * 
+         * @return 키 수
+         */
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * ReminderService 생성자
+     */
+    public ReminderService() {
+        timer = new javax.swing.Timer(MAX_SLEEP_MILLIS, e -> fireDue(LocalDateTime.now()));
+        timer.setRepeats(false);
+    }
+
+    /**
+     * 알림 타이머 시작 - 이후 다음 알림 시각마다 깨어나 알림을 표시
+     */
+    public void start() {
+        running = true;
+        armTimer(LocalDateTime.now());
+    }
+
+    /**
+     * 전체 일정의 알림을 다시 예약 (표시 월이 바뀌어 일정 목록 전체가 교체된 경우)
+     * 
+     * @param tasks          날짜 키별 일정 목록
+     * @param otherRepeating 저장소 밖의 반복 일정 (다른 달 파일의 개인 일정)
+     */
+    public void replaceAll(CalendarStore<ToDo> tasks, Collection<? extends ToDo> otherRepeating) {
+        replaceAll(tasks, otherRepeating, LocalDateTime.now());
+    }
+
+    /**
+     * 전체 일정의 알림을 기준 시각으로 다시 예약
+     * 
+     * @param tasks          날짜 키별 일정 목록
+     * @param otherRepeating 저장소 밖의 반복 일정
+     * @param now            기준 시각
+     */
+    void replaceAll(CalendarStore<ToDo> tasks, Collection<? extends ToDo> otherRepeating, LocalDateTime now) {
+        queue.clear();
+        scheduled.clear();
+        LocalDateTime earliest = now.minusMinutes(GRACE_MINUTES);
+        // 알림 시각은 시작 시각보다 늦지 않으므로 이미 시작한 일정은 범위 조회에서 제외 (반복 일정은 따로 예약)
+        for (ToDo task : tasks.startingFrom(earliest)) {
+            enqueue(task, earliest);
+        }
+        for (ToDo task : tasks.repeating()) {
+            if (!scheduled.containsKey(task)) {
+                enqueue(task, earliest);
+            }
+        }
+        for (ToDo task : otherRepeating) {
+            enqueue(task, earliest);
+        }
+        armTimer(now);
+    }
+
+    /**
+     * 전체 일정의 알림을 기준 시각으로 다시 예약 (저장소 밖의 반복 일정 없음)
+     * 
+     * @param tasks 날짜 키별 일정 목록
+     * @param now   기준 시각
+     */
+    void replaceAll(CalendarStore<ToDo> tasks, LocalDateTime now) {
+        replaceAll(tasks, Collections.emptyList(), now);
+    }
+
+    /**
+     * 일정의 알림 예약 (추가되었거나 내용이 바뀐 일정 - 기존 예약은 취소됨)
+     * 
+     * @param task 일정
+     */
+    public void schedule(ToDo task) {
+        LocalDateTime now = LocalDateTime.now();
+        cancelScheduled(task);
+        enqueue(task, now.minusMinutes(GRACE_MINUTES));
+        armTimer(now);
+    }
+
+    /**
+     * 일정의 알림 예약 취소 (삭제되었거나 공유 일정으로 바뀐 일정)
+     * 
+     * @param task 일정
+     */
+    public void cancel(ToDo task) {
+        cancelScheduled(task);
+        armTimer(LocalDateTime.now());
+    }
 
     /**
-     * 모든 일정의 알림 시간을 체크하고 필요시 알림 표시
+     * 예약된 알림 수 반환
      * 
-     * @param calendar 체크할 캘린더 객체
-     */
-    public void checkReminders(OurCalendar calendar) {
-        LocalDateTime now = LocalDateTime.now(); // 현재 시간
-
-        // 모든 일정을 순회하며 알림 체크
-        for (Map.Entry<String, List<ToDo>> entry : calendar.tasks.entrySet()) {
-            for (ToDo task : entry.getValue()) {
-                // 일정의 시작 시간 계산
-                LocalDateTime taskTime = LocalDateTime.of(
-                        task.getStartYear(),
-                        task.getStartMonth() + 1, // 월은 0부터 시작하므로 +1
-                        task.getStartDay(),
-                        task.getStartHour(),
-                        task.getStartMinute());
-
-                String alarmType = task.getAlarm();
-                LocalDateTime notifyTime = taskTime; // 기본값은 시작 시간
-
-                // 알림 설정에 따른 알림 시간 계산
-                switch (alarmType) {
-                    case "10분 전":
-                        notifyTime = taskTime.minusMinutes(10);
-                        break;
-                    case "30분 전":
-                        notifyTime = taskTime.minusMinutes(30);
-                        break;
-                    case "1시간 전":
-                        notifyTime = taskTime.minusHours(1);
-                        break;
-                    case "하루 전":
-                        notifyTime = taskTime.minusDays(1);
-                        break;
-                    case "없음":
-                    default:
-                        notifyTime = taskTime; // 정시 알림
-                        break;
-                }
-
-                // 중복 알림 방지를 위한 고유 키 생성
-                String key = entry.getKey() + "_" + task.getTaskName()
-                        + "_" + task.getStartHour()
-                        + "_" + task.getStartMinute()
-                        + "_" + alarmType;
-
-                // 현재 시간과 알림 시간의 차이 계산 (분 단위)
-                long diff = Duration.between(now, notifyTime).toMinutes();
-
-                // 알림 시간이 되었고 아직 알림을 보내지 않은 경우
-                if (Math.abs(diff) <= 1 && !notifiedSet.contains(key)) {
-                    notifiedSet.add(key); // 알림 보냄 표시
-                    showModernNotification(task, alarmType);
-                }
+     * @return 예약된 알림 수
+     */
+    int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * 알림 시각이 된 알림을 모두 표시하고 다음 알림 시각에 맞춰 타이머를 다시 설정
+     * 
+     * @param now 현재 시각
+     */
+    void fireDue(LocalDateTime now) {
+        Reminder next;
+        while ((next = queue.peek()) != null) {
+            if (next.cancelled) {
+                queue.poll();
+                continue;
+            }
+            if (next.notifyTime.isAfter(now))
+                break;
+
+            queue.poll();
+            scheduled.remove(next.task);
+            // 절전 복귀 등으로 한참 늦었으면 표시하지 않음
+            if (!now.isAfter(next.notifyTime.plusMinutes(GRACE_MINUTES))
+                    && notifiedSet.add(next.key(), epochMinute(now) - GRACE_MINUTES - 1)) {
+                showModernNotification(next.task, next.alarmType);
+            }
+            // 반복 일정은 이번 알림 이후의 다음 발생을 예약
+            if (Recurrence.isRepeating(next.task)) {
+                LocalDateTime after = next.notifyTime.plusMinutes(1);
+                LocalDateTime earliest = now.minusMinutes(GRACE_MINUTES);
+                enqueue(next.task, after.isAfter(earliest) ? after : earliest);
             }
         }
+        armTimer(now);
+    }
+
+    /**
+     * 서버가 보낸 공유 일정 알림 표시 (같은 알림을 이미 띄웠으면 무시)
+     * 
+     * @param task 알림 시각이 된 공유 일정
+     */
+    public void notifyShared(ToDo task) {
+        // 반복 일정이면 지금 알림을 보낸 발생의 알림 시각을 키로 사용
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notifyTime = Recurrence.nextNotifyTime(task, now.minusMinutes(GRACE_MINUTES));
+        if (notifyTime == null) {
+            notifyTime = task.getNotifyTime();
+        }
+        if (notifyTime == null)
+            return;
+
+        Reminder reminder = new Reminder(task, notifyTime, task.getAlarm());
+        if (notifiedSet.add(reminder.key(), epochMinute(now) - GRACE_MINUTES - 1)) {
+            showModernNotification(task, task.getAlarm());
+        }
+    }
+
+    /**
+     * 기억 중인 알림 키 수 반환
+     * 
+     * @return 키 수 (NOTIFIED_CAPACITY 이하)
+     */
+    int getNotifiedCount() {
+        return notifiedSet.size();
+    }
+
+    /**
+     * 시각을 분 단위 정수로 변환 (시간대와 무관하게 비교만 하므로 UTC 기준으로 계산)
+     * 
+     * @param time 시각
+     * @return 1970년부터의 분
+     */
+    private static long epochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * 일정의 알림 시각을 계산해 큐에 추가 (earliest보다 이른 알림은 예약하지 않으며, 반복 일정은 그 이후 첫 발생을 예약)
+     * 
+     * @param task     일정
+     * @param earliest 예약할 알림 시각의 하한 (보통 현재 시각 - 허용 시간)
+     */
+    private void enqueue(ToDo task, LocalDateTime earliest) {
+        LocalDateTime notifyTime = Recurrence.nextNotifyTime(task, earliest);
+        if (notifyTime == null)
+            return;
+
+        Reminder reminder = new Reminder(task, notifyTime, task.getAlarm());
+        scheduled.put(task, reminder);
+        queue.add(reminder);
+    }
+
+    /**
+     * 일정의 예약된 알림을 취소 표시하고, 취소된 알림이 많이 쌓이면 큐를 정리
+     * 
+     * @param task 일정
+     */
+    private void cancelScheduled(ToDo task) {
+        Reminder reminder = scheduled.remove(task);
+        if (reminder != null) {
+            reminder.cancelled = true;
+        }
+        if (queue.size() > 2 * scheduled.size() + 64) {
+            queue.removeIf(r -> r.cancelled);
+        }
+    }
+
+    /**
+     * 가장 이른 알림 시각까지 대기하도록 타이머 설정 (예약된 알림이 없으면 정지)
+     * 
+     * @param now 현재 시각
+     */
+    private void armTimer(LocalDateTime now) {
+        if (!running)
+            return;
+
+        Reminder next;
+        while ((next = queue.peek()) != null && next.cancelled) {
+            queue.poll();
+        }
+        if (next == null) {
+            timer.stop();
+            return;
+        }
+
+        long delay = Duration.between(now, next.notifyTime).toMillis();
+        timer.setInitialDelay((int) Math.max(0, Math.min(delay, MAX_SLEEP_MILLIS)));
+        timer.restart();
     }
 
     /**
@@ -1,4 +1,3 @@
-
 /**
  * @author 자바 프로그래밍 5조
  * @version 1.0
@@ -6,66 +5,537 @@
  * 
  * 서버측 공유 일정 데이터 관리 클래스
  * 서버의 공유 일정 데이터를 파일로 저장하고 로드하는 기능을 제공함
+ * 
+ * 저장 구조
+ * - shared_todos.txt       : 스냅샷 (한 줄에 공유 일정 하나)
+ * - shared_todos.journal.N : 스냅샷 이후의 변경 기록 구간 (ADD|일정, UPDATE|일정, DELETE|ID), N이 클수록 나중 기록
+ *   (이전 버전이 남긴 shared_todos.journal 은 0번 구간으로 읽음)
+ * 변경 시에는 현재 구간에 한 줄만 추가하므로 비용이 전체 일정 수와 무관하며, 여러 변경을 모아 한 번에 fsync(그룹 커밋)함
+ * 기록이 일정 개수를 넘으면 새 구간으로 바꾼 뒤 백그라운드 스레드가 스냅샷을 쓰고 이전 구간을 지우므로(압축) 압축 중에도 기록은 계속됨
+ * 줄바꿈으로 끝나지 않은 마지막 줄(쓰다 만 기록)은 재적용하지 않고 저널을 열 때 잘라냄
+ * 기록에 실패하면 마지막으로 성공한 위치까지 잘라내고 같은 묶음을 다시 기록하며, 그동안 묶음의 변경은 완료 알림을 받지 못함
  */
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
 
 public class ServerDataManager {
     private static final String SERVER_DATA_DIR = "server_data"; // 서버 데이터 디렉터리
     private static final String SHARED_TODOS_FILE = SERVER_DATA_DIR + "/shared_todos.txt"; // 공유 일정 파일
+    private static final String JOURNAL_FILE = SERVER_DATA_DIR + "/shared_todos.journal"; // 변경 기록 파일 (뒤에 .구간번호)
+    private static final Charset CHARSET = Charset.defaultCharset(); // 파일 문자셋
+
+    // 현재 구간의 기록이 이 개수를 넘으면 새 구간으로 바꾸고 스냅샷으로 압축
+    private static final int COMPACT_EVERY = Integer.getInteger("calendar.journal.compactEvery", 10000);
+    private static final int MAX_BATCH = 1024; // 한 번의 fsync로 묶는 최대 기록 수
+    private static final long RETRY_MIN_MS = 100; // 기록 실패 후 첫 재시도 대기 시간
+    private static final long RETRY_MAX_MS = 5000; // 기록 실패 후 최대 재시도 대기 시간
+
+    private static final JournalRecord CLOSE = new JournalRecord(null); // 저널 종료 표식
+    private static final BlockingQueue<JournalRecord> pendingRecords = new LinkedBlockingQueue<>(); // 기록 대기열
+    private static FileChannel journal; // 현재 저널 구간 (writer 스레드 전용)
+    private static long journalSegment; // 현재 구간 번호
+    private static long journalEnd = 0; // 현재 구간에서 fsync까지 끝난 기록의 끝 위치 (다음 기록 위치)
+    private static boolean journalTorn = false; // 실패한 기록의 조각이 journalEnd 뒤에 남아 있을 수 있음
+    private static Supplier<List<SharedToDo>> snapshotSource; // 압축 시 현재 상태를 제공
+    private static int recordsSinceCompaction = 0; // 현재 구간의 기록 수
+    private static volatile boolean journalOpen = false; // 저널 사용 가능 여부
+    private static Thread journalWriter; // 그룹 커밋 스레드
+    private static Thread compactor; // 압축 스레드 (압축한 적이 없으면 null)
+
+    /**
+     * 저널 기록 한 줄과 기록 완료(fsync) 알림
+     */
+    private static class JournalRecord {
+        final String line; // 기록할 줄
+        final CompletableFuture<Void> durable = new CompletableFuture<>(); // fsync 완료 시 완료됨
+
+        JournalRecord(String line) {
+            this.line = line;
+        }
+    }
 
     /**
-     * 공유 일정 목록을 파일로 저장
+     * 공유 일정 목록을 스냅샷 파일로 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
      * 
      * @param sharedTodos 저장할 공유 일정 목록
+     * @return 저장 성공 여부
      */
-    public static void saveSharedTodos(List<SharedToDo> sharedTodos) {
+    public static boolean saveSharedTodos(List<SharedToDo> sharedTodos) {
         // 서버 데이터 디렉터리 생성
         File dataDir = new File(SERVER_DATA_DIR);
         if (!dataDir.exists()) {
             dataDir.mkdir();
         }
 
-        try (PrintWriter writer = new PrintWriter(new FileWriter(SHARED_TODOS_FILE))) {
-            // 각 공유 일정을 네트워크 문자열 형태로 저장
-            for (SharedToDo todo : sharedTodos) {
-                writer.println(todo.toNetworkString());
+        // 각 공유 일정을 네트워크 문자열 형태로 모은 뒤 한 번에 기록
+        // (PrintWriter/FileWriter의 synchronized 구간을 피해 가상 스레드 pinning 방지)
+        StringBuilder content = new StringBuilder();
+        for (SharedToDo todo : sharedTodos) {
+            content.append(todo.toNetworkString()).append(System.lineSeparator());
+        }
+
+        Path target = Paths.get(SHARED_TODOS_FILE);
+        Path temp = Paths.get(SHARED_TODOS_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
             }
+            channel.force(true);
+        } catch (IOException e) {
+            System.err.println("공유 일정 저장 실패: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             System.out.println("공유 일정 " + sharedTodos.size() + "개 저장 완료");
+            return true;
         } catch (IOException e) {
             System.err.println("공유 일정 저장 실패: " + e.getMessage());
+            return false;
         }
     }
 
     /**
-     * 파일에서 공유 일정 목록을 로드
+     * 스냅샷 파일을 읽고 저널의 변경 기록을 재적용하여 공유 일정 목록을 로드
      * 
      * @return 로드된 공유 일정 목록
      */
     public static List<SharedToDo> loadSharedTodos() {
-        List<SharedToDo> sharedTodos = new ArrayList<>();
+        LinkedHashMap<String, SharedToDo> todosById = new LinkedHashMap<>();
         File file = new File(SHARED_TODOS_FILE);
 
         if (!file.exists()) {
             System.out.println("공유 일정 파일이 없습니다. 새로 시작합니다.");
-            return sharedTodos; // 빈 리스트 반환
+        } else {
+            try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+                String line;
+                // 파일의 각 라인을 SharedToDo 객체로 변환
+                while ((line = reader.readLine()) != null) {
+                    SharedToDo todo = SharedToDo.fromCompleteNetworkString(line);
+                    if (todo != null) {
+                        // ID가 없던 레거시 일정은 같은 ID가 생길 수 있으므로 구분
+                        if (todosById.containsKey(todo.getId())) {
+                            todo.setId(todo.getId() + "_" + todosById.size());
+                        }
+                        todosById.put(todo.getId(), todo);
+                    }
+                }
+                System.out.println("공유 일정 " + todosById.size() + "개 로드 완료");
+            } catch (IOException e) {
+                System.err.println("공유 일정 로드 실패: " + e.getMessage());
+            }
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            // 파일의 각 라인을 SharedToDo 객체로 변환
-            while ((line = reader.readLine()) != null) {
-                SharedToDo todo = SharedToDo.fromCompleteNetworkString(line);
-                if (todo != null) {
-                    sharedTodos.add(todo);
+        replayJournal(todosById);
+        return new ArrayList<>(todosById.values());
+    }
+
+    /**
+     * 저널 구간들의 변경 기록을 구간 순서대로 재적용
+     * 각 기록은 해당 ID의 최종 상태를 덮어쓰므로 스냅샷에 이미 반영된 기록을 다시 적용해도 결과가 같음
+     * 
+     * @param todosById ID별 공유 일정 (재적용 결과가 반영됨)
+     */
+    private static void replayJournal(Map<String, SharedToDo> todosById) {
+        int replayed = 0;
+        for (long segment : listSegments()) {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(segmentPath(segment));
+            } catch (IOException e) {
+                System.err.println("저널 재적용 실패: " + e.getMessage());
+                continue;
+            }
+
+            int end = content.length;
+            while (end > 0 && content[end - 1] != '\n') {
+                end--;
+            }
+            if (end < content.length) {
+                System.out.println("저널 끝의 완성되지 않은 기록 무시 (" + (content.length - end) + "바이트)");
+            }
+
+            for (String line : new String(content, 0, end, CHARSET).split("\n")) {
+                String[] parts = line.split("\\|", 2);
+                if (parts.length < 2)
+                    continue;
+
+                switch (parts[0]) {
+                    case "ADD":
+                    case "UPDATE":
+                        SharedToDo todo = SharedToDo.fromCompleteNetworkString(parts[1]);
+                        if (todo != null) {
+                            todosById.put(todo.getId(), todo);
+                        }
+                        break;
+                    case "DELETE":
+                        todosById.remove(parts[1]);
+                        break;
                 }
+                replayed++;
+            }
+        }
+        recordsSinceCompaction = replayed;
+        if (replayed > 0) {
+            System.out.println("저널 기록 " + replayed + "개 재적용 완료");
+        }
+    }
+
+    /**
+     * 저널을 열고 그룹 커밋 스레드 시작
+     * 마지막 구간에 이어 쓰며, 그 끝의 완성되지 않은 기록은 잘라냄
+     * 
+     * @param source 압축 시 현재 공유 일정 전체를 제공하는 함수
+     */
+    public static void openJournal(Supplier<List<SharedToDo>> source) {
+        File dataDir = new File(SERVER_DATA_DIR);
+        if (!dataDir.exists()) {
+            dataDir.mkdir();
+        }
+
+        List<Long> segments = listSegments();
+        long last = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+        long segment = Math.max(1, last); // 이전 버전의 0번 구간에는 이어 쓰지 않음
+        try {
+            journal = FileChannel.open(segmentPath(segment), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            journalEnd = lastLineEnd(journal);
+            if (journalEnd < journal.size()) {
+                journal.truncate(journalEnd);
+                journal.force(true);
             }
-            System.out.println("공유 일정 " + sharedTodos.size() + "개 로드 완료");
         } catch (IOException e) {
-            System.err.println("공유 일정 로드 실패: " + e.getMessage());
+            System.err.println("저널 열기 실패: " + e.getMessage());
+            return;
+        }
+
+        journalSegment = segment;
+        snapshotSource = source;
+        journalOpen = true;
+        journalWriter = new Thread(ServerDataManager::writeLoop, "journal-writer");
+        journalWriter.setDaemon(true);
+        journalWriter.start();
+    }
+
+    /**
+     * 남은 기록을 모두 쓰고 스냅샷으로 압축한 뒤 저널을 닫음 (서버 종료 시)
+     */
+    public static void closeJournal() {
+        if (!journalOpen)
+            return;
+
+        journalOpen = false;
+        pendingRecords.add(CLOSE);
+        try {
+            journalWriter.join();
+            if (compactor != null) {
+                compactor.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("저널 닫기 실패: " + e.getMessage());
+        }
+        compact(journalSegment + 1); // 현재 구간까지 모두 스냅샷에 반영
+    }
+
+    /**
+     * 공유 일정 추가 기록
+     * 
+     * @param todo      추가된 공유 일정
+     * @param onDurable 기록이 디스크에 반영된 뒤 writer 스레드에서 기록 순서대로 실행할 작업
+     * @return onDurable까지 끝나면 완료되는 Future (기록하지 못하고 종료되면 예외로 완료)
+     */
+    public static CompletableFuture<Void> appendAdd(SharedToDo todo, Runnable onDurable) {
+        return append("ADD|" + todo.toNetworkString(), onDurable);
+    }
+
+    /**
+     * 공유 일정 수정 기록
+     * 
+     * @param todo      수정된 공유 일정
+     * @param onDurable 기록이 디스크에 반영된 뒤 writer 스레드에서 기록 순서대로 실행할 작업
+     * @return onDurable까지 끝나면 완료되는 Future (기록하지 못하고 종료되면 예외로 완료)
+     */
+    public static CompletableFuture<Void> appendUpdate(SharedToDo todo, Runnable onDurable) {
+        return append("UPDATE|" + todo.toNetworkString(), onDurable);
+    }
+
+    /**
+     * 공유 일정 삭제 기록
+     * 
+     * @param todoId    삭제된 일정 ID
+     * @param onDurable 기록이 디스크에 반영된 뒤 writer 스레드에서 기록 순서대로 실행할 작업
+     * @return onDurable까지 끝나면 완료되는 Future (기록하지 못하고 종료되면 예외로 완료)
+     */
+    public static CompletableFuture<Void> appendDelete(String todoId, Runnable onDurable) {
+        return append("DELETE|" + todoId, onDurable);
+    }
+
+    /**
+     * 기록 대기열에 한 줄 추가
+     * 변경 순서와 기록 순서가 같도록 호출자는 공유 일정 락을 잡은 상태에서 호출해야 함
+     * 완료 작업은 대기열에 넣기 전에 붙이므로 항상 writer 스레드가 fsync 직후 기록 순서대로 실행하며,
+     * 그 뒤에 시작하는 압축의 스냅샷에는 이전 구간의 변경이 모두 반영되어 있음
+     * 
+     * @param line      기록할 줄
+     * @param onDurable 기록 완료 후 실행할 작업
+     * @return onDurable 완료 Future
+     */
+    private static CompletableFuture<Void> append(String line, Runnable onDurable) {
+        if (!journalOpen) {
+            System.err.println("저널이 열려 있지 않음 - 기록 생략: " + line);
+            return CompletableFuture.completedFuture(null).thenRun(onDurable);
         }
+        JournalRecord record = new JournalRecord(line);
+        CompletableFuture<Void> done = record.durable.thenRun(onDurable);
+        pendingRecords.add(record);
+        return done;
+    }
 
-        return sharedTodos;
+    /**
+     * 그룹 커밋 루프 - 대기 중인 기록을 모아 한 번 쓰고 한 번 fsync
+     */
+    private static void writeLoop() {
+        List<JournalRecord> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(pendingRecords.take());
+                pendingRecords.drainTo(batch, MAX_BATCH - 1);
+
+                boolean closing = batch.remove(CLOSE);
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                    batch.clear();
+                }
+                if (closing) {
+                    // 종료 표식 뒤에 들어온 기록까지 마저 기록
+                    pendingRecords.drainTo(batch);
+                    if (!batch.isEmpty()) {
+                        commit(batch);
+                    }
+                    return;
+                }
+                if (recordsSinceCompaction >= COMPACT_EVERY) {
+                    startCompaction();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(batch, new IOException("저널 기록 중단"));
+        }
+    }
+
+    /**
+     * 기록 묶음을 저널에 쓰고 대기 중인 호출자에게 완료 알림
+     * 실패하면 잠시 기다렸다가 같은 묶음을 다시 기록하며, 서버 종료 중이면 포기하고 실패로 알림
+     * 
+     * @param batch 기록 묶음
+     */
+    private static void commit(List<JournalRecord> batch) throws InterruptedException {
+        long delay = RETRY_MIN_MS;
+        while (true) {
+            try {
+                writeBatch(batch);
+                for (JournalRecord record : batch) {
+                    record.durable.complete(null);
+                }
+                recordsSinceCompaction += batch.size();
+                return;
+            } catch (IOException e) {
+                if (!journalOpen) {
+                    System.err.println("저널 기록 실패 - 기록 " + batch.size() + "개 포기: " + e.getMessage());
+                    fail(batch, e);
+                    return;
+                }
+                System.err.println("저널 기록 실패 - " + delay + "ms 후 다시 시도: " + e.getMessage());
+                Thread.sleep(delay);
+                delay = Math.min(delay * 2, RETRY_MAX_MS);
+            }
+        }
+    }
+
+    /**
+     * 기록하지 못한 묶음의 호출자에게 실패 알림
+     * 
+     * @param batch 기록 묶음
+     * @param cause 실패 원인
+     */
+    private static void fail(List<JournalRecord> batch, IOException cause) {
+        for (JournalRecord record : batch) {
+            record.durable.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 기록 묶음을 현재 구간의 마지막 기록 뒤에 쓰고 fsync
+     * 이전 실패가 남긴 조각이 있으면 먼저 잘라내므로 저널 중간에 깨진 줄이 남지 않음
+     * 
+     * @param batch 기록 묶음
+     * @throws IOException 기록 실패 (journalEnd 뒤의 내용은 다음 기록 때 잘라냄)
+     */
+    private static void writeBatch(List<JournalRecord> batch) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (JournalRecord record : batch) {
+            content.append(record.line).append('\n');
+        }
+
+        if (journalTorn) {
+            journal.truncate(journalEnd);
+            journalTorn = false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(CHARSET));
+        long position = journalEnd;
+        try {
+            while (buffer.hasRemaining()) {
+                position += journal.write(buffer, position);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            journalTorn = true;
+            throw e;
+        }
+        journalEnd = position;
+    }
+
+    /**
+     * 새 구간으로 바꾸고 백그라운드 스레드에서 압축 시작 (writer 스레드)
+     * 이전 압축이 아직 진행 중이면 다음 묶음 뒤에 다시 시도
+     */
+    private static void startCompaction() {
+        if (compactor != null && compactor.isAlive())
+            return;
+
+        FileChannel next;
+        try {
+            next = FileChannel.open(segmentPath(journalSegment + 1), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("저널 구간 전환 실패: " + e.getMessage());
+            recordsSinceCompaction = 0; // 현재 구간에 계속 기록하고 나중에 다시 시도
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("저널 닫기 실패: " + e.getMessage());
+        }
+
+        journal = next;
+        journalSegment++;
+        journalEnd = 0;
+        journalTorn = false;
+        recordsSinceCompaction = 0;
+
+        long keepFrom = journalSegment;
+        compactor = new Thread(() -> compact(keepFrom), "journal-compactor");
+        compactor.setDaemon(true);
+        compactor.start();
+    }
+
+    /**
+     * 현재 상태를 스냅샷으로 저장하고 keepFrom 이전 구간을 삭제
+     * 이전 구간 기록의 완료 작업(저장소 반영)은 구간을 바꾸기 전에 writer 스레드에서 끝났으므로 스냅샷은 그 기록을 모두 포함함
+     * 스냅샷 저장 후 구간을 지우기 전에 중단되어도, 다시 적용되는 이전 기록은 이후 구간의 기록이 덮어쓰므로 안전함
+     * 
+     * @param keepFrom 남길 첫 구간 번호
+     */
+    private static void compact(long keepFrom) {
+        if (snapshotSource == null || !saveSharedTodos(snapshotSource.get()))
+            return; // 스냅샷을 저장하지 못하면 구간을 그대로 유지 (다음 압축 때 함께 지움)
+
+        for (long segment : listSegments()) {
+            if (segment >= keepFrom)
+                continue;
+            try {
+                Files.deleteIfExists(segmentPath(segment));
+            } catch (IOException e) {
+                System.err.println("저널 구간 삭제 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장된 저널 구간 번호 목록 반환
+     * 
+     * @return 오름차순 구간 번호 (이전 버전의 shared_todos.journal 은 0)
+     */
+    private static List<Long> listSegments() {
+        List<Long> segments = new ArrayList<>();
+        String prefix = new File(JOURNAL_FILE).getName();
+        String[] names = new File(SERVER_DATA_DIR).list();
+        if (names == null) {
+            return segments;
+        }
+        for (String name : names) {
+            if (name.equals(prefix)) {
+                segments.add(0L);
+            } else if (name.startsWith(prefix + ".") && name.length() > prefix.length() + 1) {
+                try {
+                    segments.add(Long.parseLong(name.substring(prefix.length() + 1)));
+                } catch (NumberFormatException e) {
+                    // 저널 구간이 아닌 파일
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * 저널 구간 파일 경로 반환
+     * 
+     * @param segment 구간 번호
+     * @return 파일 경로
+     */
+    private static Path segmentPath(long segment) {
+        return Paths.get(segment == 0 ? JOURNAL_FILE : JOURNAL_FILE + "." + segment);
+    }
+
+    /**
+     * 파일의 마지막 줄바꿈 바로 뒤 위치 반환 (그 뒤는 쓰다 만 기록)
+     * 
+     * @param channel 저널 파일
+     * @return 완성된 기록의 끝 위치
+     */
+    private static long lastLineEnd(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long end = channel.size();
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear();
+            buffer.limit((int) (end - start));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0)
+                    break;
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
     }
-}
\ No newline at end of file
+}
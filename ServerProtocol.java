@@ -0,0 +1,241 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버 측 텍스트 프로토콜 처리 클래스
+ * 닉네임 핸드셰이크와 SHARE_TODO/UPDATE_TODO/DELETE_TODO 명령 처리를 연결 방식과 무관하게 제공함
+ * 
+ * 동기화 흐름
+ * - 클라이언트: 닉네임 -> (CONNECTED 수신) -> SYNC_SINCE|서버실행ID|리비전 (처음이면 SYNC_SINCE|0|0)
+ * - 서버 (증분): SYNC_TODO|일정 / SYNC_DELETE|ID ... SYNC_DONE|서버실행ID|리비전
+ * - 서버 (전체): CLEAR_SHARED_CACHE|full, EXISTING_TODO|일정 ... SYNC_DONE|서버실행ID|리비전
+ * 브로드캐스트(NEW_TODO/UPDATE_TODO/DELETE_TODO)는 마지막 필드에 리비전을 붙여 보냄
+ * 서버가 재시작되면 실행 ID가 바뀌므로 이전 리비전으로 요청한 클라이언트는 전체 동기화를 받음
+ * 공유 일정의 알림 시각이 되면 서버가 REMIND|ID 를 연결된 모든 클라이언트에게 보냄 (SharedReminderScheduler)
+ * 
+ * 클라이언트가 PROTOCOL|binary1 을 보내면 이후 메시지는 BinaryProtocol 프레임으로 주고받음
+ * (calendar.protocol=text 로 실행하면 전환 요청을 거절함)
+ */
+
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Map;
+
+public class ServerProtocol {
+    static final Charset CHARSET = Charset.defaultCharset(); // 클라이언트(CalendarClient)와 같은 문자셋
+    static final boolean BINARY_ENABLED = !"text".equalsIgnoreCase(System.getProperty("calendar.protocol")); // 바이너리 전환 허용
+    static final String SERVER_EPOCH = Long.toString(System.currentTimeMillis()); // 서버 실행 ID (리비전 유효 범위)
+
+    /**
+     * 닉네임 핸드셰이크 처리 - 클라이언트 등록 (공유 일정은 클라이언트의 SYNC_SINCE 요청에 응답하여 전송)
+     * 
+     * @param session  클라이언트 세션
+     * @param nickname 클라이언트가 보낸 첫 줄 (닉네임)
+     * @return 등록 성공 여부
+     */
+    public static boolean handleHandshake(ClientSession session, String nickname) {
+        if (nickname == null || nickname.trim().isEmpty()) {
+            return false;
+        }
+
+        // 서버에 클라이언트 등록
+        CalendarServer.addClient(nickname, session);
+        session.sendMessage("CONNECTED|" + nickname);
+        return true;
+    }
+
+    /**
+     * 메시지를 전송용 바이트로 인코딩 (줄바꿈 포함)
+     * 반환된 배열은 여러 클라이언트가 공유하므로 수정하면 안 됨
+     * 
+     * @param message 메시지 (줄바꿈 제외)
+     * @return 인코딩된 한 줄
+     */
+    static byte[] encodeLine(String message) {
+        return (message + "\n").getBytes(CHARSET);
+    }
+
+    /**
+     * 동기화 응답 메시지 반복자 반환
+     * 클라이언트의 리비전 이후 변경 기록이 남아 있으면 그 변경만, 아니면 전체 일정을 보냄
+     * 
+     * @param epoch 클라이언트가 마지막으로 동기화한 서버 실행 ID
+     * @param since 클라이언트가 마지막으로 반영한 리비전
+     * @return 동기화 메시지 반복자
+     */
+    static Iterator<WireMessage> syncMessages(String epoch, long since) {
+        SharedTodoStore store = CalendarServer.getSharedTodoStore();
+        if (!SERVER_EPOCH.equals(epoch) || !store.canSyncFrom(since)) {
+            return fullSyncMessages("full");
+        }
+
+        // 전송 완료된 리비전을 먼저 읽음 - 이후의 변경은 브로드캐스트로 뒤따라 도착함
+        long until = store.getPublishedRevision();
+        Iterator<Map.Entry<Long, String>> changes = store.changesBetween(since, until).entrySet().iterator();
+        return new Iterator<WireMessage>() {
+            private boolean done = false; // SYNC_DONE 전송 여부
+
+            @Override
+            public boolean hasNext() {
+                return !done;
+            }
+
+            @Override
+            public WireMessage next() {
+                if (changes.hasNext()) {
+                    String id = changes.next().getValue();
+                    SharedToDo todo = store.get(id);
+                    return todo != null ? WireMessage.todo(BinaryProtocol.SYNC_TODO, todo, 0)
+                            : WireMessage.text("SYNC_DELETE|" + id);
+                }
+                done = true;
+                return WireMessage.text("SYNC_DONE|" + SERVER_EPOCH + "|" + until);
+            }
+        };
+    }
+
+    /**
+     * 전체 동기화 메시지 반복자 반환 (캐시 초기화 -> EXISTING_TODO 전체 -> SYNC_DONE)
+     * 메시지 문자열은 전송 시점에 생성되므로 한 번에 모두 메모리에 올리지 않음
+     * 
+     * 일정은 복사본이 아니라 저장소를 약한 일관성으로 순회하며 보내므로 특정 시점의 스냅샷은 아니지만, 클라이언트는 결국 최신 상태가 됨
+     * - 저장소는 리비전을 부여하기 전에 바뀌므로 until(전송 완료 리비전) 이하의 변경은 순회 시작 전에 모두 반영되어 있음
+     * - 순회 도중의 변경은 until보다 큰 리비전을 받고, 이 클라이언트는 핸드셰이크 때 등록되었으므로 그 브로드캐스트가
+     *   이 반복자보다 뒤에 대기열에 들어가 동기화가 끝난 뒤 도착함 (순회가 옛 값을 보냈거나 놓쳤어도 덮어씀)
+     * - 순회가 이미 새 값을 보낸 변경의 브로드캐스트는 같은 값을 다시 적용할 뿐임
+     * 
+     * @param reason 캐시 초기화 사유 (full: 요청 리비전을 이어갈 수 없음, resync: 송신 대기열 넘침)
+     * @return 전체 동기화 메시지 반복자
+     */
+    static Iterator<WireMessage> fullSyncMessages(String reason) {
+        SharedTodoStore store = CalendarServer.getSharedTodoStore();
+        long until = store.getPublishedRevision();
+        Iterator<SharedToDo> todos = store.values().iterator();
+        return new Iterator<WireMessage>() {
+            private boolean cleared = false; // CLEAR_SHARED_CACHE 전송 여부
+            private boolean done = false; // SYNC_DONE 전송 여부
+
+            @Override
+            public boolean hasNext() {
+                return !done;
+            }
+
+            @Override
+            public WireMessage next() {
+                if (!cleared) {
+                    cleared = true;
+                    return WireMessage.text("CLEAR_SHARED_CACHE|" + reason);
+                }
+                if (todos.hasNext()) {
+                    return WireMessage.todo(BinaryProtocol.EXISTING_TODO, todos.next(), 0);
+                }
+                done = true;
+                return WireMessage.text("SYNC_DONE|" + SERVER_EPOCH + "|" + until);
+            }
+        };
+    }
+
+    /**
+     * 클라이언트로부터 받은 메시지 처리
+     * 
+     * @param session 메시지를 보낸 클라이언트 세션
+     * @param message 클라이언트 메시지
+     */
+    public static void handleMessage(ClientSession session, String message) {
+        String[] parts = message.split("\\|", 2);
+        if (parts.length < 2)
+            return;
+
+        String nickname = session.getNickname();
+        String command = parts[0];
+        String data = parts[1];
+
+        switch (command) {
+            case "SHARE_TODO":
+                // 공유 일정 추가 처리 (ID가 있으면 그대로, 기본 ToDo 데이터면 새 ID 부여)
+                SharedToDo todo = SharedToDo.fromShareString(data, nickname);
+                System.out.println("공유 일정 수신: " + (todo != null ? todo.getId() : "null"));
+
+                if (todo != null) {
+                    CalendarServer.addSharedTodo(todo);
+                }
+                break;
+            case "UPDATE_TODO":
+                // 공유 일정 업데이트 처리
+                SharedToDo updatedTodo = SharedToDo.fromCompleteNetworkString(data);
+                if (updatedTodo == null) {
+                    System.err.println("공유 일정 업데이트 파싱 실패: " + data);
+                } else {
+                    handleUpdate(session, updatedTodo);
+                }
+                break;
+            case "DELETE_TODO":
+                // 공유 일정 삭제 처리
+                String todoId = data;
+                CalendarServer.deleteSharedTodo(todoId, nickname);
+                break;
+            case "SYNC_SINCE":
+                // 증분 동기화 요청 (서버실행ID|리비전)
+                String[] syncParts = data.split("\\|");
+                long since = -1;
+                try {
+                    since = syncParts.length >= 2 ? Long.parseLong(syncParts[1]) : -1;
+                } catch (NumberFormatException e) {
+                    System.err.println("잘못된 동기화 요청: " + data);
+                }
+                session.sendSync(syncParts[0], since);
+                break;
+            case "PROTOCOL":
+                // 바이너리 프로토콜 전환 요청
+                if (BINARY_ENABLED && message.equals(BinaryProtocol.NEGOTIATION)) {
+                    session.switchToBinary();
+                    System.out.println("바이너리 프로토콜 전환: " + nickname);
+                } else {
+                    session.sendMessage(BinaryProtocol.DECLINE);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 바이너리 프로토콜로 받은 프레임 처리
+     * 
+     * @param session 프레임을 보낸 클라이언트 세션
+     * @param frame   해석된 프레임
+     */
+    public static void handleFrame(ClientSession session, BinaryProtocol.Frame frame) {
+        switch (frame.type) {
+            case BinaryProtocol.TEXT:
+                handleMessage(session, frame.text);
+                break;
+            case BinaryProtocol.SHARE_TODO:
+                // ID가 없던 일정은 해석할 때 이 클라이언트를 생성자로 새 ID가 부여됨
+                System.out.println("공유 일정 수신: " + frame.todo.getId());
+                CalendarServer.addSharedTodo(frame.todo);
+                break;
+            case BinaryProtocol.UPDATE_TODO:
+                handleUpdate(session, frame.todo);
+                break;
+            default:
+                System.err.println("처리할 수 없는 프레임: " + frame.type + " from " + session.getNickname());
+                break;
+        }
+    }
+
+    /**
+     * 공유 일정 업데이트 요청 처리 - 생성자 본인만 수정 가능
+     * 
+     * @param session     요청한 클라이언트 세션
+     * @param updatedTodo 수정된 일정
+     */
+    private static void handleUpdate(ClientSession session, SharedToDo updatedTodo) {
+        String nickname = session.getNickname();
+        if (updatedTodo.getCreator().equals(nickname)) {
+            System.out.println("공유 일정 업데이트 요청: " + updatedTodo.getId() + " by " + nickname);
+            CalendarServer.updateSharedTodo(updatedTodo);
+        } else {
+            System.err.println("권한 없음 - 요청자: " + nickname + ", 생성자: " + updatedTodo.getCreator());
+        }
+    }
+}
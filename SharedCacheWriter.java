@@ -0,0 +1,286 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 공유 일정 캐시 백그라운드 저장 클래스 - EDT는 저장 요청만 남기고 파일 쓰기는 전용 스레드에서 처리
+ * 요청이 이어지는 동안은 기다렸다가(디바운스) 마지막 상태 하나만 저장하며, 요청이 계속되어도 최대 지연 시간마다 한 번은 저장함
+ * 캐시는 FileManager가 임시 파일에 쓴 뒤 이름을 바꿔 원자적으로 교체함
+ * 
+ * 동기화 지점은 항상 그 지점을 반영한 캐시를 저장한 뒤에 기록함
+ * (동기화 지점 삭제는 캐시보다 먼저 기록하여, 캐시를 비운 뒤 중단되어도 다음 연결 시 전체 동기화를 받음)
+ * 캐시 저장에 실패하면 파일의 캐시가 변경을 빠뜨린 것이므로 동기화 지점을 지우고, 캐시 저장에 다시 성공할 때까지 기록하지 않음
+ * 
+ * 저장 요청 시 EDT에서는 날짜별 목록의 얕은 복사본만 만들고, 일정 직렬화는 저장 스레드에서 함
+ * 일정 객체를 직접 수정하는 경우(ToDoForm) 수정 후 다시 저장 요청이 들어오므로 최종 저장본은 항상 최신 상태임
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SharedCacheWriter {
+    // 마지막 요청 후 이 시간 동안 새 요청이 없으면 저장
+    private static final long DEBOUNCE_MILLIS = Long.getLong("calendar.client.cacheDebounceMs", 200);
+    // 첫 요청 후 이 시간이 지나면 요청이 계속되어도 저장
+    private static final long MAX_DELAY_MILLIS = Long.getLong("calendar.client.cacheMaxDelayMs", 2000);
+
+    private final FileManager fileManager; // 파일 저장 담당
+    private final Object lock = new Object(); // 아래 대기 상태 보호용 잠금
+    private final Thread writer; // 저장 스레드
+
+    // 저장 대기 상태 (lock 보호)
+    private int[] pendingKeys; // 저장할 캐시의 날짜 키 (저장할 캐시가 없으면 null)
+    private List<List<SharedToDo>> pendingDays; // 날짜 키별 일정 목록 복사본
+    private boolean pendingSyncClear = false; // 캐시보다 먼저 동기화 지점을 지워야 하는지
+    private String pendingSyncPoint; // 캐시 저장 후 기록할 동기화 지점 (없으면 null)
+    private int pendingRequests = 0; // 저장 스레드가 아직 가져가지 않은 요청 수
+    private long firstRequestNanos; // 대기 중인 첫 요청 시각
+    private long lastRequestNanos; // 대기 중인 마지막 요청 시각
+    private boolean writing = false; // 저장 스레드가 파일을 쓰는 중인지
+    private boolean flushRequested = false; // 디바운스 없이 바로 저장해야 하는지
+    private boolean closed = false; // 종료 여부
+    private boolean cacheBehind = false; // 마지막 캐시 저장이 실패했는지 (저장 스레드 전용)
+
+    // 통계 (lock 보호)
+    private long requestCount = 0; // 받은 저장 요청 수
+    private long flushCount = 0; // 실제 저장 횟수
+    private long lastFlushNanos = 0; // 마지막 저장에 걸린 시간
+    private long maxFlushNanos = 0; // 가장 오래 걸린 저장 시간
+    private long totalFlushNanos = 0; // 저장에 걸린 시간 합계
+
+    /**
+     * SharedCacheWriter 생성자 (저장 스레드 시작)
+     * 
+     * @param fileManager 파일 저장 담당
+     */
+    SharedCacheWriter(FileManager fileManager) {
+        this.fileManager = fileManager;
+        writer = new Thread(this::writeLoop, "shared-cache-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 공유 일정 캐시 저장 요청 (EDT에서 호출, 목록 복사만 하고 바로 반환)
+     * 
+     * @param sharedTasks 저장할 공유 일정 저장소
+     */
+    void saveCache(CalendarStore<SharedToDo> sharedTasks) {
+        int[] keys = sharedTasks.keys();
+        List<List<SharedToDo>> days = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            days.add(new ArrayList<>(sharedTasks.get(key)));
+        }
+
+        synchronized (lock) {
+            pendingKeys = keys;
+            pendingDays = days;
+            request();
+        }
+    }
+
+    /**
+     * 동기화 지점 기록 요청 - 지금까지 요청한 캐시가 저장된 뒤에 기록됨
+     * 
+     * @param syncPoint "서버실행ID|리비전" 형태의 동기화 지점 (null이면 삭제)
+     */
+    void saveSyncPoint(String syncPoint) {
+        synchronized (lock) {
+            if (syncPoint == null) {
+                pendingSyncClear = true;
+            }
+            pendingSyncPoint = syncPoint;
+            request();
+        }
+    }
+
+    /**
+     * 대기 중인 요청을 모두 저장할 때까지 대기 (창을 닫을 때 등)
+     */
+    void flush() {
+        synchronized (lock) {
+            flushRequested = true;
+            lock.notifyAll();
+            while ((pendingRequests > 0 || writing) && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 남은 요청을 저장하고 저장 스레드 종료
+     */
+    void close() {
+        flush();
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * 아직 저장하지 않은 요청 수 반환
+     * 
+     * @return 요청 수
+     */
+    int getPendingWrites() {
+        synchronized (lock) {
+            return pendingRequests;
+        }
+    }
+
+    /**
+     * 받은 저장 요청 수 반환
+     * 
+     * @return 요청 수
+     */
+    long getRequestCount() {
+        synchronized (lock) {
+            return requestCount;
+        }
+    }
+
+    /**
+     * 실제 저장 횟수 반환 (요청 수보다 적은 만큼 디바운스로 합쳐짐)
+     * 
+     * @return 저장 횟수
+     */
+    long getFlushCount() {
+        synchronized (lock) {
+            return flushCount;
+        }
+    }
+
+    /**
+     * 마지막 저장에 걸린 시간 반환
+     * 
+     * @return 시간 (나노초)
+     */
+    long getLastFlushNanos() {
+        synchronized (lock) {
+            return lastFlushNanos;
+        }
+    }
+
+    /**
+     * 가장 오래 걸린 저장 시간 반환
+     * 
+     * @return 시간 (나노초)
+     */
+    long getMaxFlushNanos() {
+        synchronized (lock) {
+            return maxFlushNanos;
+        }
+    }
+
+    /**
+     * 평균 저장 시간 반환
+     * 
+     * @return 시간 (나노초), 저장한 적이 없으면 0
+     */
+    long getAverageFlushNanos() {
+        synchronized (lock) {
+            return flushCount == 0 ? 0 : totalFlushNanos / flushCount;
+        }
+    }
+
+    /**
+     * 요청 기록 (lock을 잡은 상태에서 호출)
+     */
+    private void request() {
+        long now = System.nanoTime();
+        if (pendingRequests == 0) {
+            firstRequestNanos = now;
+        }
+        lastRequestNanos = now;
+        pendingRequests++;
+        requestCount++;
+        lock.notifyAll();
+    }
+
+    /**
+     * 저장 루프 - 요청이 잠잠해지거나 최대 지연 시간이 지나면 마지막 상태를 저장
+     */
+    private void writeLoop() {
+        while (true) {
+            int[] keys;
+            List<List<SharedToDo>> days;
+            boolean syncClear;
+            String syncPoint;
+
+            synchronized (lock) {
+                try {
+                    while (true) {
+                        if (pendingRequests == 0) {
+                            if (closed) {
+                                return;
+                            }
+                            lock.wait();
+                            continue;
+                        }
+                        if (flushRequested || closed) {
+                            break;
+                        }
+                        long now = System.nanoTime();
+                        long quietUntil = lastRequestNanos + DEBOUNCE_MILLIS * 1_000_000L;
+                        long deadline = Math.min(quietUntil, firstRequestNanos + MAX_DELAY_MILLIS * 1_000_000L);
+                        if (now >= deadline) {
+                            break;
+                        }
+                        lock.wait(Math.max(1, (deadline - now) / 1_000_000L));
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                keys = pendingKeys;
+                days = pendingDays;
+                syncClear = pendingSyncClear;
+                syncPoint = pendingSyncPoint;
+                pendingRequests = 0;
+                pendingKeys = null;
+                pendingDays = null;
+                pendingSyncClear = false;
+                pendingSyncPoint = null;
+                writing = true;
+            }
+
+            long started = System.nanoTime();
+            try {
+                if (syncClear) {
+                    fileManager.saveSyncState(null);
+                }
+                if (keys != null) {
+                    cacheBehind = !fileManager.saveSharedCache(keys, days);
+                    if (cacheBehind) {
+                        // 파일의 캐시에 없는 변경 이후의 지점을 남기지 않도록 삭제 (다음 연결 시 전체 동기화)
+                        fileManager.saveSyncState(null);
+                    }
+                }
+                if (syncPoint != null && !cacheBehind) {
+                    fileManager.saveSyncState(syncPoint);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("공유 일정 캐시 저장 실패: " + e.getMessage());
+            }
+            long elapsed = System.nanoTime() - started;
+
+            synchronized (lock) {
+                writing = false;
+                if (pendingRequests == 0) {
+                    flushRequested = false;
+                }
+                flushCount++;
+                lastFlushNanos = elapsed;
+                maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+                totalFlushNanos += elapsed;
+                lock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버의 공유 일정 알림 스케줄러 클래스
+ * 공유 일정마다 알림 시각을 한 번만 계산해 우선순위 큐에 넣고, 전용 스레드가 가장 이른 알림 시각까지
+ * 잠들었다가 깨어나 알림 시각이 된 일정 ID를 전달함 (주기적으로 전체 일정을 훑지 않음)
+ * 
+ * 일정이 추가/수정되면 다시 예약하고 삭제되면 취소하며, 취소된 예약은 큐에서 꺼낼 때 버림
+ * 반복 일정은 다음 발생 하나만 예약하고, 알림을 보낸 뒤 그다음 발생을 예약함
+ * 알림 시각은 서버의 시간대 기준으로 계산함
+ */
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+class SharedReminderScheduler {
+    private static final long GRACE_MILLIS = 60 * 1000L; // 알림 시각이 지난 뒤에도 알림을 보내는 허용 시간
+    private static final long MAX_SLEEP_MILLIS = 60 * 1000L; // 최대 대기 시간 (시스템 시계 변경 대비)
+
+    private final Consumer<String> dispatcher; // 알림 시각이 된 일정 ID를 받아 전송하는 함수
+    private final ReentrantLock lock = new ReentrantLock(); // 큐 보호 락
+    private final Condition changed = lock.newCondition(); // 더 이른 알림이 예약되면 신호
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(); // 예약된 알림 (알림 시각 순)
+    private final Map<String, Entry> scheduled = new HashMap<>(); // 일정 ID -> 현재 유효한 예약
+
+    /**
+     * 예약된 알림 하나
+     */
+    private static class Entry implements Comparable<Entry> {
+        final SharedToDo todo; // 일정 (반복 일정의 다음 발생 계산용)
+        final String id; // 일정 ID
+        final long dueMillis; // 알림 시각 (epoch 밀리초)
+
+        Entry(SharedToDo todo, long dueMillis) {
+            this.todo = todo;
+            this.id = todo.getId();
+            this.dueMillis = dueMillis;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(dueMillis, other.dueMillis);
+        }
+    }
+
+    /**
+     * SharedReminderScheduler 생성자
+     * 
+     * @param dispatcher 알림 시각이 된 일정 ID를 받아 전송하는 함수 (스케줄러 스레드에서 호출됨)
+     */
+    SharedReminderScheduler(Consumer<String> dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 스케줄러 스레드 시작
+     */
+    void start() {
+        Thread thread = new Thread(this::runLoop, "shared-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 공유 일정의 알림 예약 (기존 예약은 교체되며, 이미 지난 알림은 예약하지 않음)
+     * 
+     * @param todo 추가되거나 수정된 공유 일정
+     */
+    void schedule(SharedToDo todo) {
+        long dueMillis = nextDueMillis(todo, System.currentTimeMillis() - GRACE_MILLIS);
+
+        lock.lock();
+        try {
+            if (dueMillis < System.currentTimeMillis() - GRACE_MILLIS) {
+                scheduled.remove(todo.getId());
+                return;
+            }
+            add(new Entry(todo, dueMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약 추가 (락 안에서 호출)
+     * 
+     * @param entry 예약
+     */
+    private void add(Entry entry) {
+        scheduled.put(entry.id, entry);
+        queue.add(entry);
+        compactIfNeeded();
+        if (queue.peek() == entry) {
+            changed.signal();
+        }
+    }
+
+    /**
+     * earliestMillis 이후(포함)의 첫 알림 시각 계산 (반복 일정이면 다음 발생 기준)
+     * 
+     * @param todo           공유 일정
+     * @param earliestMillis 하한 (epoch 밀리초)
+     * @return 알림 시각 (epoch 밀리초), 없으면 Long.MIN_VALUE
+     */
+    private static long nextDueMillis(SharedToDo todo, long earliestMillis) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime earliest = LocalDateTime.ofInstant(Instant.ofEpochMilli(earliestMillis), zone);
+        LocalDateTime notifyTime = Recurrence.nextNotifyTime(todo, earliest);
+        return notifyTime == null ? Long.MIN_VALUE : notifyTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 공유 일정의 알림 예약 취소
+     * 
+     * @param id 삭제된 공유 일정 ID
+     */
+    void cancel(String id) {
+        lock.lock();
+        try {
+            scheduled.remove(id);
+            compactIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 예약된 알림 수 반환
+     * 
+     * @return 예약된 알림 수
+     */
+    int size() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 취소되거나 교체된 예약이 유효한 예약보다 많이 쌓이면 큐에서 정리 (락 안에서 호출)
+     */
+    private void compactIfNeeded() {
+        if (queue.size() > 2 * scheduled.size() + 1024) {
+            queue.removeIf(entry -> !isLive(entry));
+        }
+    }
+
+    /**
+     * 예약이 아직 유효한지 확인 (락 안에서 호출)
+     * 
+     * @param entry 예약
+     * @return 해당 ID의 현재 예약이면 true
+     */
+    private boolean isLive(Entry entry) {
+        return scheduled.get(entry.id) == entry;
+    }
+
+    /**
+     * 스케줄러 스레드 본체 - 가장 이른 알림 시각까지 대기한 뒤 알림 시각이 된 일정을 전달
+     */
+    private void runLoop() {
+        try {
+            while (true) {
+                List<String> due = takeDue();
+                for (String id : due) {
+                    try {
+                        dispatcher.accept(id);
+                    } catch (RuntimeException e) {
+                        System.err.println("공유 일정 알림 전송 오류: " + id + " - " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 알림 시각이 된 예약이 생길 때까지 대기한 뒤 모두 꺼냄
+     * 
+     * @return 알림 시각이 된 일정 ID 목록 (알림 시각 순)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    private List<String> takeDue() throws InterruptedException {
+        lock.lock();
+        try {
+            List<String> due = new ArrayList<>();
+            while (true) {
+                Entry head = queue.peek();
+                if (head != null && !isLive(head)) {
+                    queue.poll();
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                if (head != null && head.dueMillis <= now) {
+                    queue.poll();
+                    scheduled.remove(head.id);
+                    // 서버가 멈춰 있었던 경우처럼 한참 늦은 알림은 보내지 않음
+                    if (now - head.dueMillis <= GRACE_MILLIS) {
+                        due.add(head.id);
+                    }
+                    // 반복 일정은 이번 알림 이후의 다음 발생을 예약
+                    if (Recurrence.isRepeating(head.todo)) {
+                        long next = nextDueMillis(head.todo, Math.max(head.dueMillis + 60 * 1000L, now - GRACE_MILLIS));
+                        if (next != Long.MIN_VALUE) {
+                            add(new Entry(head.todo, next));
+                        }
+                    }
+                    continue;
+                }
+                if (!due.isEmpty()) {
+                    return due;
+                }
+
+                long wait = head == null ? MAX_SLEEP_MILLIS : Math.min(head.dueMillis - now, MAX_SLEEP_MILLIS);
+                changed.await(wait, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
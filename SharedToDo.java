@@ -11,6 +11,9 @@ public class SharedToDo extends ToDo {
     private String creator; // 일정 생성자 닉네임
     private String id; // 고유 식별자
 
+    // 스레드별 일정 줄 파서 (필드 위치 배열 재사용)
+    private static final ThreadLocal<TodoLineParser> PARSER = ThreadLocal.withInitial(TodoLineParser::new);
+
     /**
      * SharedToDo 생성자 (새 ID 자동 생성)
      * 
@@ -141,32 +144,8 @@ public class SharedToDo extends ToDo {
      */
     public static SharedToDo fromNetworkString(String data, String creator) {
         try {
-            String[] parts = data.split("\\|");
-            if (parts.length < 16)
-                return null;
-
-            SharedToDo todo = new SharedToDo(
-                    parts[0], // 일정명
-                    parts[1], // 장소
-                    Boolean.parseBoolean(parts[2]), // 하루종일 여부
-                    Integer.parseInt(parts[3]), // 시작년도
-                    Integer.parseInt(parts[4]), // 시작월
-                    Integer.parseInt(parts[5]), // 시작일
-                    Integer.parseInt(parts[6]), // 시작시간
-                    Integer.parseInt(parts[7]), // 시작분
-                    Integer.parseInt(parts[8]), // 종료년도
-                    Integer.parseInt(parts[9]), // 종료월
-                    Integer.parseInt(parts[10]), // 종료일
-                    Integer.parseInt(parts[11]), // 종료시간
-                    Integer.parseInt(parts[12]), // 종료분
-                    parts[13], // 알림
-                    parts[14], // 반복
-                    parts[15], // 메모
-                    creator);
-
-            System.out.println("SharedToDo 생성됨 - ID: " + todo.getId() + ", 제목: " + todo.getTaskName());
-            return todo;
-        } catch (Exception e) {
+            return PARSER.get().parseBasic(data, creator);
+        } catch (TodoLineParser.FormatException e) {
             System.err.println("SharedToDo 파싱 오류: " + e.getMessage());
             return null;
         }
@@ -175,36 +154,35 @@ public class SharedToDo extends ToDo {
     /**
      * 완전한 네트워크 문자열로부터 SharedToDo 생성 (생성자와 ID 포함)
      * 
-     * @param data 파이프(|)로 구분된 완전한 SharedToDo 데이터 문자열
+     * @param data 파이프(|)로 구분된 완전한 SharedToDo 데이터 문자열 (18번째 이후 필드는 무시)
      * @return 생성된 SharedToDo 객체, 실패 시 null
      */
     public static SharedToDo fromCompleteNetworkString(String data) {
         try {
-            String[] parts = data.split("\\|");
-            System.out.println("SharedToDo 파싱 시도 - 파트 개수: " + parts.length + ", 데이터: " + data);
+            return PARSER.get().parseComplete(data);
+        } catch (TodoLineParser.FormatException e) {
+            System.err.println("Complete SharedToDo 파싱 오류: " + e.getMessage());
+            return null;
+        }
+    }
 
-            if (parts.length < 17) {
-                System.err.println("파트 개수 부족: " + parts.length + " < 17");
-                return null;
+    /**
+     * 공유 요청 데이터로부터 SharedToDo 생성
+     * 생성자와 ID까지 있으면 그대로 사용하고, 기본 ToDo 데이터면 요청자를 생성자로 새 ID를 부여함
+     * 
+     * @param data    파이프(|)로 구분된 일정 데이터 문자열
+     * @param creator 기본 ToDo 데이터일 때 사용할 생성자 닉네임
+     * @return 생성된 SharedToDo 객체, 실패 시 null
+     */
+    public static SharedToDo fromShareString(String data, String creator) {
+        TodoLineParser parser = PARSER.get();
+        try {
+            if (parser.scan(data) >= TodoLineParser.FIELD_COUNT) {
+                return parser.parseScannedComplete();
             }
-
-            String creator = parts[16];
-            // ID가 없는 경우 레거시 ID 생성
-            String id = parts.length >= 18 ? parts[17] : "legacy_" + System.currentTimeMillis();
-
-            SharedToDo todo = new SharedToDo(
-                    parts[0], parts[1], Boolean.parseBoolean(parts[2]),
-                    Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]),
-                    Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8]),
-                    Integer.parseInt(parts[9]), Integer.parseInt(parts[10]), Integer.parseInt(parts[11]),
-                    Integer.parseInt(parts[12]), parts[13], parts[14], parts[15], creator, id);
-
-            System.out.println("SharedToDo 파싱 완료 - ID: " + todo.getId() + ", 제목: " + todo.getTaskName() + ", 생성자: "
-                    + todo.getCreator());
-            return todo;
-        } catch (Exception e) {
-            System.err.println("Complete SharedToDo 파싱 오류: " + e.getMessage());
-            e.printStackTrace();
+            return parser.parseScannedBasic(creator);
+        } catch (TodoLineParser.FormatException e) {
+            System.err.println("SharedToDo 파싱 오류: " + e.getMessage());
             return null;
         }
     }
@@ -0,0 +1,307 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버의 공유 일정 저장소 클래스
+ * ID로 색인하여 수정/삭제를 O(1)로 처리함
+ * 변경은 ID별 분할 락(stripe)으로 직렬화하므로 서로 다른 일정을 다루는 핸들러끼리는 경합하지 않음
+ * 
+ * 변경은 먼저 예약(stage)만 하고, 저널 기록이 디스크에 반영된 뒤 publish에서 조회 상태에 반영함
+ * 따라서 동기화/스냅샷/알림이 읽는 get, values에는 디스크에 기록된 변경만 보이며,
+ * 기록을 기다리는 변경은 같은 ID의 다음 변경을 검사할 때(current)만 보임
+ * 
+ * 증분 동기화를 위해 변경마다 단조 증가하는 리비전을 부여하고, 일정 ID별 마지막 변경 리비전을
+ * 리비전 순으로 보관함 (삭제는 묘비로 남김). 묘비가 calendar.sync.maxTombstones(기본 10000)개를
+ * 넘으면 오래된 것부터 버리고, 그 리비전 이전에서 요청한 클라이언트는 전체 동기화를 받음
+ */
+
+import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongConsumer;
+import java.util.concurrent.locks.ReentrantLock;
+
+class SharedTodoStore {
+    private static final int STRIPES = 64; // 분할 락 개수 (2의 거듭제곱)
+    private static final int MAX_TOMBSTONES = Integer.getInteger("calendar.sync.maxTombstones", 10000); // 최대 묘비 수
+
+    private final Map<String, SharedToDo> todosById = new ConcurrentHashMap<>(); // ID -> 공유 일정 (기록된 변경만 반영)
+    private final Map<String, Change> stagedById = new ConcurrentHashMap<>(); // ID -> 기록을 기다리는 마지막 변경
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES]; // ID별 분할 락
+
+    // 변경 기록 (리비전 부여와 전송 대기열 추가는 publishLock 안에서 하여 대기열 순서 = 리비전 순서)
+    private final ReentrantLock publishLock = new ReentrantLock(); // 리비전 부여 락
+    private final Queue<PendingBroadcast> pendingBroadcasts = new ConcurrentLinkedQueue<>(); // 전송 대기 변경 (리비전 순)
+    private final ReentrantLock fanOutLock = new ReentrantLock(); // 전송 대기열을 비우는 스레드 하나만 잡음
+    private final NavigableMap<Long, String> changeLog = new ConcurrentSkipListMap<>(); // 리비전 -> 변경된 ID
+    private final Map<String, Long> revisionById = new ConcurrentHashMap<>(); // ID -> 마지막 변경 리비전
+    private final Deque<Map.Entry<Long, String>> tombstones = new ArrayDeque<>(); // 묘비 (오래된 순, publishLock 보호)
+    private long revision = 0; // 마지막으로 부여한 리비전 (publishLock 보호)
+    private volatile long publishedRevision = 0; // 전송까지 끝난 마지막 리비전
+    private volatile long compactedRevision = 0; // 이 리비전 이하의 묘비는 버려짐
+
+    /**
+     * 저널 기록을 기다리는 변경 - 기록이 끝나면 publish로, 기록하지 못하면 discard로 넘김
+     */
+    static final class Change {
+        final String id; // 일정 ID
+        final SharedToDo todo; // 반영할 일정 (삭제이면 null)
+
+        Change(String id, SharedToDo todo) {
+            this.id = id;
+            this.todo = todo;
+        }
+    }
+
+    /**
+     * 리비전이 부여되고 아직 전송하지 않은 변경
+     */
+    private static final class PendingBroadcast {
+        final long revision; // 부여된 리비전
+        final LongConsumer broadcast; // 전송 함수
+
+        PendingBroadcast(long revision, LongConsumer broadcast) {
+            this.revision = revision;
+            this.broadcast = broadcast;
+        }
+    }
+
+    /**
+     * SharedTodoStore 생성자
+     */
+    SharedTodoStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 일정 ID에 해당하는 락 반환
+     * 변경 예약 메서드(current, putIfAbsent, replace, remove)는 이 락을 잡은 상태에서 호출해야 하며,
+     * 같은 락 안에서 저널 기록까지 요청해야 ID별 변경·기록 순서가 일치함 (반영과 전송은 기록 완료 순서대로 publish)
+     * 
+     * @param id 일정 ID
+     * @return 해당 ID의 락
+     */
+    ReentrantLock lockFor(String id) {
+        int hash = id.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * 저널 기록이 끝난 변경을 조회 상태에 반영하고, 새 리비전을 부여해 전송 대기열에 넣은 뒤 대기열을 비움
+     * 변경의 저널 기록이 끝난 순서대로 호출해야 함 (writer 스레드)
+     * 리비전보다 조회 상태를 먼저 바꾸므로, 전송 완료 리비전 이하의 변경은 항상 조회 상태에 들어 있음
+     * 락은 리비전 부여와 대기열 추가 동안만 잡으며, 전송은 리비전 순서대로 한 번에 한 스레드가 함
+     * (다른 스레드가 전송 중이면 그 스레드가 이 변경까지 전송하므로 기다리지 않고 반환)
+     * 
+     * @param change    기록이 끝난 변경
+     * @param broadcast 부여된 리비전을 받아 브로드캐스트하는 함수 (블로킹 없이 빨리 끝나야 함)
+     * @return 부여된 리비전
+     */
+    long publish(Change change, LongConsumer broadcast) {
+        String id = change.id;
+        boolean deleted = change.todo == null;
+        if (deleted) {
+            todosById.remove(id);
+        } else {
+            todosById.put(id, change.todo);
+        }
+        stagedById.remove(id, change); // 그 사이 예약된 다음 변경은 남겨 둠
+
+        long rev;
+        publishLock.lock();
+        try {
+            rev = ++revision;
+            Long previous = revisionById.put(id, rev);
+            if (previous != null) {
+                changeLog.remove(previous);
+            }
+            changeLog.put(rev, id);
+
+            if (deleted) {
+                tombstones.addLast(Map.entry(rev, id));
+                pruneTombstones();
+            }
+
+            pendingBroadcasts.add(new PendingBroadcast(rev, broadcast));
+        } finally {
+            publishLock.unlock();
+        }
+        drainBroadcasts();
+        return rev;
+    }
+
+    /**
+     * 전송 대기열을 리비전 순서대로 비움
+     * 다른 스레드가 비우는 중이면 그대로 반환하며, 그 스레드가 락을 놓은 뒤 남은 변경을 다시 확인하므로 빠뜨리지 않음
+     */
+    private void drainBroadcasts() {
+        while (!pendingBroadcasts.isEmpty() && fanOutLock.tryLock()) {
+            try {
+                PendingBroadcast next;
+                while ((next = pendingBroadcasts.poll()) != null) {
+                    next.broadcast.accept(next.revision);
+                    publishedRevision = next.revision;
+                }
+            } finally {
+                fanOutLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 묘비가 최대 개수를 넘으면 오래된 것부터 버림 (publishLock 안에서 호출)
+     */
+    private void pruneTombstones() {
+        while (tombstones.size() > MAX_TOMBSTONES) {
+            Map.Entry<Long, String> oldest = tombstones.removeFirst();
+            // 그 사이 다시 추가된 일정이면 변경 기록은 그대로 둠
+            if (revisionById.remove(oldest.getValue(), oldest.getKey())) {
+                changeLog.remove(oldest.getKey());
+            }
+            compactedRevision = oldest.getKey();
+        }
+    }
+
+    /**
+     * 전송까지 끝난 마지막 리비전 반환
+     * 이 값 이하의 변경은 모두 변경 기록에 반영되어 있고, 이후의 변경은 지금 연결된 클라이언트에게 전송될 예정임
+     * 
+     * @return 마지막 리비전
+     */
+    long getPublishedRevision() {
+        return publishedRevision;
+    }
+
+    /**
+     * 해당 리비전 이후의 변경만으로 동기화할 수 있는지 확인
+     * 
+     * @param since 클라이언트가 마지막으로 반영한 리비전
+     * @return 묘비가 버려지지 않았고 미래 리비전이 아니면 true
+     */
+    boolean canSyncFrom(long since) {
+        return since >= compactedRevision && since <= publishedRevision;
+    }
+
+    /**
+     * 두 리비전 사이에 변경된 일정 ID 반환 (ID마다 마지막 변경 하나만 포함)
+     * 
+     * @param since 시작 리비전 (제외)
+     * @param until 끝 리비전 (포함)
+     * @return 리비전 순으로 정렬된 변경 기록 보기
+     */
+    NavigableMap<Long, String> changesBetween(long since, long until) {
+        return changeLog.subMap(since, false, until, true);
+    }
+
+    /**
+     * 파일에서 읽은 일정 적재 (서버 시작 시, 저널을 거치지 않고 바로 조회 상태에 반영)
+     * 
+     * @param todo 저장되어 있던 공유 일정
+     */
+    void restore(SharedToDo todo) {
+        todosById.put(todo.getId(), todo);
+    }
+
+    /**
+     * 기록을 기다리는 변경까지 반영한 일정 조회 (ID 락 안에서 변경 전 확인용)
+     * 
+     * @param id 일정 ID
+     * @return 일정, 없거나 삭제 예약되었으면 null
+     */
+    SharedToDo current(String id) {
+        Change staged = stagedById.get(id);
+        return staged != null ? staged.todo : todosById.get(id);
+    }
+
+    /**
+     * 같은 ID가 없을 때만 일정 추가 예약
+     * 
+     * @param todo 추가할 공유 일정
+     * @return 예약된 변경, 같은 ID가 이미 있으면 null
+     */
+    Change putIfAbsent(SharedToDo todo) {
+        return current(todo.getId()) == null ? stage(todo.getId(), todo) : null;
+    }
+
+    /**
+     * 같은 ID의 기존 일정 교체 예약
+     * 
+     * @param todo 새 일정 데이터
+     * @return 예약된 변경, 기존 일정이 없으면 null
+     */
+    Change replace(SharedToDo todo) {
+        return current(todo.getId()) != null ? stage(todo.getId(), todo) : null;
+    }
+
+    /**
+     * 일정 삭제 예약
+     * 
+     * @param id 삭제할 일정 ID
+     * @return 예약된 변경, 일정이 없으면 null
+     */
+    Change remove(String id) {
+        return current(id) != null ? stage(id, null) : null;
+    }
+
+    /**
+     * 변경 예약 - 같은 ID의 이전 예약은 이 변경이 대신함
+     * 
+     * @param id   일정 ID
+     * @param todo 반영할 일정 (삭제이면 null)
+     * @return 예약된 변경
+     */
+    private Change stage(String id, SharedToDo todo) {
+        Change change = new Change(id, todo);
+        stagedById.put(id, change);
+        return change;
+    }
+
+    /**
+     * 기록하지 못한 변경의 예약 취소 (조회 상태는 바뀐 적이 없으므로 되돌릴 것이 없음)
+     * 
+     * @param change 기록하지 못한 변경
+     */
+    void discard(Change change) {
+        stagedById.remove(change.id, change);
+    }
+
+    /**
+     * ID로 일정 조회 (기록된 변경만 반영)
+     * 
+     * @param id 일정 ID
+     * @return 일정, 없으면 null
+     */
+    SharedToDo get(String id) {
+        return todosById.get(id);
+    }
+
+    /**
+     * 저장된 일정 수 반환
+     * 
+     * @return 일정 수
+     */
+    int size() {
+        return todosById.size();
+    }
+
+    /**
+     * 전체 일정 보기 (기록된 변경만 반영, 락 없이 순회 가능)
+     * 순회는 약한 일관성을 가짐 - 순회를 시작하기 전에 반영된 변경은 모두 보이고, 순회 도중의 변경은 보일 수도 안 보일 수도 있음
+     * 도중의 변경은 순회 시작 뒤에 리비전을 받으므로 새 클라이언트 동기화에서는 이후 브로드캐스트가 보충함 (ServerProtocol.fullSyncMessages)
+     * 
+     * @return 전체 일정 (읽기 전용)
+     */
+    Collection<SharedToDo> values() {
+        return Collections.unmodifiableCollection(todosById.values());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트 시작 시간 측정 클래스 - 프로그램 시작부터 각 단계(첫 화면, 이번 달 일정, 서버 연결, 공유 일정 동기화)까지 걸린 시간을 기록
+ * 단계마다 처음 도달한 시각만 기록하고 콘솔에 출력하며, 시작이 끝나면 요약을 한 번 출력함
+ * 
+ * 설정 (시스템 속성)
+ * - calendar.startup.csv : 요약을 덧붙일 CSV 파일 (릴리스 간 비교용, run-startup.sh / run-startup.bat 이 사용)
+ */
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+class StartupTimer {
+    static final String FIRST_PAINT = "첫 화면"; // 창이 처음 그려짐
+    static final String MONTH_LOADED = "이번 달 일정"; // 처음 보는 달의 개인 일정을 그림
+    static final String CONNECTED = "서버 연결"; // 서버 연결 완료
+    static final String SYNCED = "공유 일정 동기화"; // 서버와 공유 일정 동기화 완료
+    private static final String[] MILESTONES = { FIRST_PAINT, MONTH_LOADED, CONNECTED, SYNCED }; // CSV 열 순서
+    private static final String CSV_FILE = System.getProperty("calendar.startup.csv"); // 요약 CSV 파일 (없으면 기록 안 함)
+
+    private final long startNanos = System.nanoTime(); // 측정 시작 시각
+    private final Map<String, Long> reached = new HashMap<>(); // 단계 -> 도달 시각(ns)
+    private boolean reported = false; // 요약 출력 여부
+
+    /**
+     * 단계 도달 기록 (처음 도달했을 때만 기록)
+     * 
+     * @param milestone 단계 이름
+     * @return 처음 도달했으면 true
+     */
+    synchronized boolean mark(String milestone) {
+        if (reached.containsKey(milestone)) {
+            return false;
+        }
+        reached.put(milestone, System.nanoTime());
+        System.out.printf("시작 시간 - %s: %.1f ms%n", milestone, millisTo(milestone));
+        return true;
+    }
+
+    /**
+     * 단계에 도달했는지 확인
+     * 
+     * @param milestone 단계 이름
+     * @return 도달했으면 true
+     */
+    synchronized boolean hasReached(String milestone) {
+        return reached.containsKey(milestone);
+    }
+
+    /**
+     * 측정 시작부터 단계까지 걸린 시간 반환
+     * 
+     * @param milestone 단계 이름
+     * @return 밀리초, 도달하지 않았으면 -1
+     */
+    synchronized double millisTo(String milestone) {
+        Long at = reached.get(milestone);
+        return at == null ? -1 : (at - startNanos) / 1e6;
+    }
+
+    /**
+     * 시작 요약을 한 번 출력하고 CSV 파일에 덧붙임
+     * 
+     * @param outcome 시작 결과 (예: online, offline)
+     */
+    synchronized void report(String outcome) {
+        if (reported) {
+            return;
+        }
+        reported = true;
+        // 측정 시작 시의 JVM 가동 시간 (관리 API는 로딩 비용이 있어 시작이 끝난 뒤에 조회)
+        long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime() - (System.nanoTime() - startNanos) / 1_000_000;
+
+        StringBuilder summary = new StringBuilder("시작 완료 (" + outcome + ", JVM 시작 후 " + jvmUptimeMillis + " ms에 측정 시작)");
+        for (String milestone : MILESTONES) {
+            if (reached.containsKey(milestone)) {
+                summary.append(String.format(" | %s %.1f ms", milestone, millisTo(milestone)));
+            }
+        }
+        System.out.println(summary);
+
+        if (CSV_FILE == null) {
+            return;
+        }
+        File file = new File(CSV_FILE);
+        boolean header = !file.exists();
+        try (PrintWriter csv = new PrintWriter(new FileWriter(file, true))) {
+            if (header) {
+                csv.println("date,java,outcome,jvm_uptime_ms,first_paint_ms,month_loaded_ms,connected_ms,synced_ms");
+            }
+            csv.printf("%s,%s,%s,%d", LocalDate.now(), System.getProperty("java.version"), outcome, jvmUptimeMillis);
+            for (String milestone : MILESTONES) {
+                csv.print(reached.containsKey(milestone) ? String.format(Locale.ROOT, ",%.1f", millisTo(milestone)) : ",");
+            }
+            csv.println();
+        } catch (IOException e) {
+            System.err.println("시작 시간 기록 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 개인 일정 저장 방식 변환 도구 - 사용자의 모든 월 파일을 다른 저장 방식으로 옮기고 설정을 바꿈
+ * 변환한 파일을 다시 읽어 원본과 같은지 확인한 뒤에만 저장 방식을 바꾸며, 원본 파일은 백업으로 그대로 둠
+ * 
+ * 사용법: java StorageMigration <닉네임> <text|record|kv> (보통 run-migrate.sh / run-migrate.bat 으로 실행)
+ */
+
+import java.util.List;
+
+public class StorageMigration {
+
+    /**
+     * 변환 실행
+     * 
+     * @param args 명령행 인자 - 닉네임, 새 저장 방식
+     */
+    public static void main(String[] args) {
+        if (args.length != 2 || !FileManager.isStorage(args[1])) {
+            System.err.println("사용법: java StorageMigration <닉네임> <" + FileManager.TEXT_STORAGE + "|"
+                    + FileManager.RECORD_STORAGE + "|" + FileManager.KV_STORAGE + ">");
+            System.exit(2);
+        }
+
+        FileManager fileManager = new FileManager(args[0]);
+        String source = fileManager.getStorage();
+        String target = args[1];
+        if (source.equals(target)) {
+            System.out.println(fileManager.getUserDataDir() + ": 이미 " + target + " 저장 방식을 사용 중");
+            return;
+        }
+
+        int months = 0;
+        int todos = 0;
+        long started = System.nanoTime();
+        for (int[] stored : fileManager.storedMonths(source)) {
+            int year = stored[0];
+            int month = stored[1];
+            CalendarStore<ToDo> tasks = fileManager.loadLocalTasks(year, month, source);
+            fileManager.saveLocalTasks(year, month, tasks, target);
+
+            // 변환한 파일을 다시 읽어 원본과 비교
+            CalendarStore<ToDo> converted = fileManager.loadLocalTasks(year, month, target);
+            if (!sameTasks(tasks, converted, year, month)) {
+                System.err.printf("%d-%d 변환 결과가 원본과 다름 - 저장 방식을 바꾸지 않음%n", year, month + 1);
+                System.exit(1);
+            }
+            months++;
+            for (List<ToDo> todoList : tasks.month(year, month).values()) {
+                todos += todoList.size();
+            }
+        }
+
+        fileManager.setStorage(target);
+        System.out.printf("%s: %s -> %s 변환 완료 (%d개월, 일정 %d개, %.1f ms, 원본 파일은 그대로 둠)%n",
+                fileManager.getUserDataDir(), source, target, months, todos, (System.nanoTime() - started) / 1e6);
+    }
+
+    /**
+     * 두 저장소의 해당 월 일정이 날짜별로 같은지 확인 (저장하지 않는 빈 날짜는 무시)
+     * 
+     * @param expected 원본
+     * @param actual   변환 결과
+     * @param year     연도
+     * @param month    월 (0부터 시작)
+     * @return 같으면 true
+     */
+    private static boolean sameTasks(CalendarStore<ToDo> expected, CalendarStore<ToDo> actual, int year, int month) {
+        for (int dateKey : expected.month(year, month).keySet()) {
+            List<ToDo> expectedList = expected.get(dateKey);
+            List<ToDo> actualList = actual.get(dateKey);
+            int actualSize = actualList == null ? 0 : actualList.size();
+            if (expectedList.size() != actualSize) {
+                return false;
+            }
+            for (int i = 0; i < actualSize; i++) {
+                if (!fieldsOf(expectedList.get(i)).equals(fieldsOf(actualList.get(i)))) {
+                    return false;
+                }
+            }
+        }
+        for (int dateKey : actual.month(year, month).keySet()) {
+            List<ToDo> expectedList = expected.get(dateKey);
+            if (!actual.get(dateKey).isEmpty() && expectedList == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 일정의 저장 필드를 비교용 문자열로 변환
+     * 
+     * @param todo 일정
+     * @return 필드 문자열
+     */
+    private static String fieldsOf(ToDo todo) {
+        return String.join("|", todo.getTaskName(), todo.getLocation(), String.valueOf(todo.isAllDay()),
+                String.valueOf(todo.getStartYear()), String.valueOf(todo.getStartMonth()),
+                String.valueOf(todo.getStartDay()), String.valueOf(todo.getStartHour()),
+                String.valueOf(todo.getStartMinute()), String.valueOf(todo.getEndYear()),
+                String.valueOf(todo.getEndMonth()), String.valueOf(todo.getEndDay()),
+                String.valueOf(todo.getEndHour()), String.valueOf(todo.getEndMinute()),
+                todo.getAlarm(), todo.getRepeat(), todo.getMemo());
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 개인 일정 저장 방식 인터페이스 - FileManager가 사용자별로 선택한 저장 방식을 동일하게 다룰 수 있게 함
+ * 월별 텍스트 파일(TextTaskStore), 월별 고정 길이 레코드 파일(RecordTaskStore),
+ * 날짜 순 키-값 로그(KeyValueTaskStore) 구현이 있음
+ */
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+interface TaskStorage {
+    /**
+     * 한 달 분량의 개인 일정 저장
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 일정 저장소 (해당 월의 일정만 저장)
+     * @throws IOException 저장 실패
+     */
+    void save(int year, int month, CalendarStore<ToDo> tasks) throws IOException;
+
+    /**
+     * 한 달 분량의 개인 일정 로드
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소 (저장된 일정이 없으면 비어 있음)
+     * @throws IOException 로드 실패
+     */
+    CalendarStore<ToDo> load(int year, int month) throws IOException;
+
+    /**
+     * 여러 달에 걸친 날짜 구간의 개인 일정 로드 (기본 구현은 구간에 걸친 월을 하나씩 로드)
+     * 
+     * @param fromKey 시작 날짜 키 (포함)
+     * @param toKey   끝 날짜 키 (포함)
+     * @return 일정 저장소
+     * @throws IOException 로드 실패
+     */
+    default CalendarStore<ToDo> range(int fromKey, int toKey) throws IOException {
+        CalendarStore<ToDo> result = new CalendarStore<>();
+        for (int[] stored : months()) {
+            int monthKey = DayKey.monthKey(stored[0], stored[1]);
+            if (monthKey < DayKey.monthOf(fromKey) || monthKey > DayKey.monthOf(toKey))
+                continue;
+            CalendarStore<ToDo> month = load(stored[0], stored[1]);
+            for (Map.Entry<Integer, List<ToDo>> day : month.range(fromKey, toKey).entrySet()) {
+                result.put(day.getKey(), day.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 일정이 저장된 월 목록 반환
+     * 
+     * @return {연도, 월(0부터 시작)} 목록
+     */
+    List<int[]> months();
+}
@@ -0,0 +1,145 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 개인 일정 텍스트 파일 저장소 클래스 - 한 달 분량을 텍스트 파일(data_<닉네임>/YYYY-M.txt) 하나로 저장
+ * "Day 날짜:" 헤더 아래에 일정마다 16개 필드를 파이프(|)로 구분한 줄을 씀 (기본 저장 방식)
+ */
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class TextTaskStore implements TaskStorage {
+    private static final Pattern MONTH_FILE = Pattern.compile("(\\d+)-(\\d+)\\.txt"); // 월 파일 이름
+
+    private final String dataDir; // 월 파일 폴더
+
+    /**
+     * TextTaskStore 생성자
+     * 
+     * @param dataDir 월 파일 폴더 (사용자 데이터 디렉터리)
+     */
+    TextTaskStore(String dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 저장
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @param tasks 일정 저장소 (해당 월의 일정만 저장)
+     * @throws IOException 저장 실패
+     */
+    @Override
+    public void save(int year, int month, CalendarStore<ToDo> tasks) throws IOException {
+        String fileName = String.format("%s/%d-%d.txt", dataDir, year, month + 1);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
+            int targetMonth = DayKey.monthKey(year, month);
+
+            // 해당 월의 일정만 필터링하여 저장
+            for (int dateKey : tasks.keys()) {
+                if (DayKey.monthOf(dateKey) != targetMonth)
+                    continue;
+
+                List<ToDo> todoList = tasks.get(dateKey);
+                if (todoList.isEmpty())
+                    continue;
+
+                writer.printf("Day %s:\n", DayKey.format(dateKey));
+                // 각 일정의 모든 속성을 파이프(|)로 구분하여 저장
+                for (ToDo todo : todoList) {
+                    writer.printf("%s|%s|%b|%d|%d|%d|%d|%d|%d|%d|%d|%d|%d|%s|%s|%s\n",
+                            todo.getTaskName(), todo.getLocation(), todo.isAllDay(),
+                            todo.getStartYear(), todo.getStartMonth(), todo.getStartDay(),
+                            todo.getStartHour(), todo.getStartMinute(),
+                            todo.getEndYear(), todo.getEndMonth(), todo.getEndDay(),
+                            todo.getEndHour(), todo.getEndMinute(),
+                            todo.getAlarm(), todo.getRepeat(), todo.getMemo());
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 달 분량의 개인 일정 로드 (잘못된 숫자가 있으면 그 앞까지 읽은 일정을 반환)
+     * 
+     * @param year  연도
+     * @param month 월 (0부터 시작)
+     * @return 일정 저장소 (파일이 없으면 비어 있음)
+     * @throws IOException 파일을 읽을 수 없음
+     */
+    @Override
+    public CalendarStore<ToDo> load(int year, int month) throws IOException {
+        String fileName = String.format("%s/%d-%d.txt", dataDir, year, month + 1);
+        File file = new File(fileName);
+        CalendarStore<ToDo> tasks = new CalendarStore<>();
+
+        if (!file.exists()) {
+            return tasks;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            int currentDateKey = -1; // 날짜 헤더 전이면 -1
+
+            while ((line = reader.readLine()) != null) {
+                // 날짜 헤더 라인 처리
+                if (line.startsWith("Day ")) {
+                    currentDateKey = DayKey.parse(line.substring(4, line.length() - 1));
+                    tasks.putIfAbsent(currentDateKey, new ArrayList<>());
+                    continue;
+                }
+
+                if (currentDateKey < 0)
+                    continue;
+
+                // 일정 데이터 파싱 (16개 필드)
+                String[] parts = line.split("\\|");
+                if (parts.length != 16)
+                    continue;
+
+                ToDo todo = new ToDo(
+                        parts[0], parts[1], Boolean.parseBoolean(parts[2]),
+                        Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]),
+                        Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8]),
+                        Integer.parseInt(parts[9]), Integer.parseInt(parts[10]), Integer.parseInt(parts[11]),
+                        Integer.parseInt(parts[12]), parts[13], parts[14], parts[15]);
+
+                tasks.get(currentDateKey).add(todo);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("로컬 일정 로드 실패: " + e.getMessage());
+        }
+
+        return tasks;
+    }
+
+    /**
+     * 월 파일이 있는 월 목록 반환
+     * 
+     * @return {연도, 월(0부터 시작)} 목록
+     */
+    @Override
+    public List<int[]> months() {
+        List<int[]> months = new ArrayList<>();
+        File[] files = new File(dataDir).listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Matcher matcher = MONTH_FILE.matcher(file.getName());
+            if (matcher.matches()) {
+                months.add(new int[] { Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)) - 1 });
+            }
+        }
+        return months;
+    }
+}
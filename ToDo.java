@@ -7,7 +7,14 @@
  *        일정의 모든 속성(제목, 시간, 장소, 알림 등)을 저장하고 관리함
  */
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
 public class ToDo {
+	// ToDoForm에서 선택할 수 있는 알림/반복 설정 값
+	static final String[] ALARM_OPTIONS = { "없음", "10분 전", "30분 전", "1시간 전", "하루 전" };
+	static final String[] REPEAT_OPTIONS = { "없음", "매일", "매주", "매달", "매년" };
+
 	// 일정 기본 정보
 	private String taskName; // 일정 제목
 	private String location; // 장소
@@ -354,4 +361,33 @@ public class ToDo {
 	public void setMemo(String memo) {
 		this.memo = memo;
 	}
+
+	/**
+	 * 알림 설정에 따른 알림 시각 계산 (알림 없음이면 시작 시각)
+	 * 
+	 * @return 알림 시각, 날짜가 올바르지 않으면 null
+	 */
+	public LocalDateTime getNotifyTime() {
+		LocalDateTime taskTime;
+		try {
+			// 월은 0부터 시작하므로 +1
+			taskTime = LocalDateTime.of(startYear, startMonth + 1, startDay, startHour, startMinute);
+		} catch (DateTimeException e) {
+			return null;
+		}
+
+		switch (alarm) {
+			case "10분 전":
+				return taskTime.minusMinutes(10);
+			case "30분 전":
+				return taskTime.minusMinutes(30);
+			case "1시간 전":
+				return taskTime.minusHours(1);
+			case "하루 전":
+				return taskTime.minusDays(1);
+			case "없음":
+			default:
+				return taskTime; // 정시 알림
+		}
+	}
 }
\ No newline at end of file
@@ -351,7 +351,7 @@ public class ToDoForm extends JDialog {
 
 		// 저장 버튼 이벤트
 		saveBtn.addActionListener(e -> {
-			String date = OurCalendar.getDateKey(year, month, day);
+			int date = OurCalendar.getDateKey(year, month, day);
 			ToDo newData = getToDo();
 
 			// 시간 유효성 검사
@@ -377,6 +377,11 @@ public class ToDoForm extends JDialog {
 				return;
 			}
 
+			// 겹치는 일정 확인 (편집 중인 원래 일정은 제외)
+			if (!confirmConflicts(newData)) {
+				return;
+			}
+
 			// 편집 모드 처리
 			if (editMode && todo != null) {
 				if (sharedTodo != null) {
@@ -390,6 +395,7 @@ public class ToDoForm extends JDialog {
 						baseCal.deleteSharedTask(sharedTodo.getId());
 						baseCal.deleteSharedTodo(sharedTodo.getId());
 						baseCal.tasks.computeIfAbsent(date, k -> new ArrayList<>()).add(newData);
+						baseCal.getReminderService().schedule(newData);
 
 						JOptionPane.showMessageDialog(this,
 								"공유 일정이 개인 일정으로 변환되었습니다.\n다른 사용자들에게는 삭제됩니다.",
@@ -399,6 +405,7 @@ public class ToDoForm extends JDialog {
 				} else {
 					// 개인 일정 편집
 					updateExistingTodo(newData);
+					baseCal.getReminderService().schedule(todo);
 
 					if (shareCheckBox.isSelected() && baseCal.getClient() != null
 							&& baseCal.getClient().isConnected()) {
@@ -408,6 +415,7 @@ public class ToDoForm extends JDialog {
 						List<ToDo> localTodos = baseCal.tasks.get(date);
 						if (localTodos != null && localTodos.contains(todo)) {
 							localTodos.remove(todo);
+							baseCal.getReminderService().cancel(todo);
 							System.out.println("로컬 일정 삭제 완료");
 						}
 
@@ -435,6 +443,7 @@ public class ToDoForm extends JDialog {
 					// 새 개인 일정 생성
 					System.out.println("새 로컬 일정 생성: " + newData.getTaskName());
 					baseCal.tasks.computeIfAbsent(date, k -> new ArrayList<>()).add(newData);
+					baseCal.getReminderService().schedule(newData);
 
 					if (shareCheckBox.isSelected()) {
 						JOptionPane.showMessageDialog(this,
@@ -536,9 +545,7 @@ public class ToDoForm extends JDialog {
 		optionsPanel.setBackground(Color.WHITE);
 
 		// 알림 설정
-		alarmCombo = new JComboBox<>(new String[] {
-				"없음", "10분 전", "30분 전", "1시간 전", "하루 전"
-		});
+		alarmCombo = new JComboBox<>(ToDo.ALARM_OPTIONS);
 		alarmCombo.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
 
 		JPanel alarmPanel = new JPanel(new BorderLayout());
@@ -551,9 +558,7 @@ public class ToDoForm extends JDialog {
 		optionsPanel.add(Box.createVerticalStrut(10));
 
 		// 반복 설정
-		repeatCombo = new JComboBox<>(new String[] {
-				"없음", "매일", "매주", "매달", "매년"
-		});
+		repeatCombo = new JComboBox<>(ToDo.REPEAT_OPTIONS);
 		repeatCombo.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
 
 		JPanel repeatPanel = new JPanel(new BorderLayout());
@@ -589,6 +594,36 @@ public class ToDoForm extends JDialog {
 		todo.setAlarm(newData.getAlarm());
 		todo.setRepeat(newData.getRepeat());
 		todo.setMemo(newData.getMemo());
+		baseCal.tasks.reindex(todo);
+	}
+
+	/**
+	 * 저장할 일정과 시간이 겹치는 개인/공유 일정이 있으면 그래도 저장할지 확인
+	 * 
+	 * @param newData 저장할 일정
+	 * @return 겹치는 일정이 없거나 사용자가 저장을 선택하면 true
+	 */
+	private boolean confirmConflicts(ToDo newData) {
+		List<ToDo> conflicts = new ArrayList<>(baseCal.tasks.conflicts(newData, todo));
+		conflicts.addAll(baseCal.sharedTasks.conflicts(newData, sharedTodo));
+		if (conflicts.isEmpty()) {
+			return true;
+		}
+
+		StringBuilder message = new StringBuilder("시간이 겹치는 일정이 있습니다:\n");
+		int shown = Math.min(conflicts.size(), 5);
+		for (int i = 0; i < shown; i++) {
+			ToDo conflict = conflicts.get(i);
+			message.append("- ").append(conflict.getTaskName()).append(" (")
+					.append(DayKey.format(DayKey.of(conflict))).append(")\n");
+		}
+		if (conflicts.size() > shown) {
+			message.append("외 ").append(conflicts.size() - shown).append("개\n");
+		}
+		message.append("\n그래도 저장하시겠습니까?");
+
+		return JOptionPane.showConfirmDialog(this, message.toString(), "일정 겹침",
+				JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION;
 	}
 
 	/**
@@ -621,6 +656,7 @@ public class ToDoForm extends JDialog {
 		sharedTodo.setAlarm(newData.getAlarm());
 		sharedTodo.setRepeat(newData.getRepeat());
 		sharedTodo.setMemo(newData.getMemo());
+		baseCal.sharedTasks.reindex(sharedTodo);
 
 		System.out.println("공유 일정 업데이트 완료 - 서버 전송: " + sharedTodo.toNetworkString());
 
@@ -764,7 +800,7 @@ public class ToDoForm extends JDialog {
 	 * @param dateKey   날짜 키
 	 * @param localList 개인 일정 목록
 	 */
-	public static void showDialogWithList(JFrame parent, String dateKey, List<ToDo> localList) {
+	public static void showDialogWithList(JFrame parent, int dateKey, List<ToDo> localList) {
 		OurCalendar calendar = (OurCalendar) parent;
 		List<SharedToDo> sharedList = calendar.sharedTasks.get(dateKey);
 		showDialogWithBothLists(parent, dateKey, localList, sharedList);
@@ -778,10 +814,10 @@ public class ToDoForm extends JDialog {
 	 * @param localList  개인 일정 목록
 	 * @param sharedList 공유 일정 목록
 	 */
-	public static void showDialogWithBothLists(JFrame parent, String dateKey, List<ToDo> localList,
+	public static void showDialogWithBothLists(JFrame parent, int dateKey, List<ToDo> localList,
 			List<SharedToDo> sharedList) {
 		JDialog dialog = new JDialog(parent);
-		dialog.setTitle("📅 " + dateKey + " 일정");
+		dialog.setTitle("📅 " + DayKey.format(dateKey) + " 일정");
 		dialog.setSize(650, 500);
 		dialog.setLocationRelativeTo(parent);
 		dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
@@ -794,7 +830,7 @@ public class ToDoForm extends JDialog {
 		mainPanel.setBackground(Color.WHITE);
 
 		// 헤더
-		JLabel dayLabel = new JLabel(dateKey + " 일정 목록");
+		JLabel dayLabel = new JLabel(DayKey.format(dateKey) + " 일정 목록");
 		dayLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 22));
 		dayLabel.setForeground(new Color(33, 37, 41));
 		dayLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
@@ -887,7 +923,7 @@ public class ToDoForm extends JDialog {
 	 * @return 생성된 패널
 	 */
 	private static JPanel createLocalTodoPanel(JDialog dialog, JFrame parent, ToDo todo, List<ToDo> list, int index,
-			String dateKey) {
+			int dateKey) {
 		JPanel rowPanel = new JPanel(new BorderLayout());
 		rowPanel.setBackground(new Color(248, 249, 250));
 		rowPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -957,6 +993,7 @@ public class ToDoForm extends JDialog {
 			if (confirm == JOptionPane.YES_OPTION) {
 				list.remove(index);
 				OurCalendar calObj = (OurCalendar) parent;
+				calObj.getReminderService().cancel(todo);
 				calObj.saveFile();
 				dialog.dispose();
 				calObj.updateCal(false);
@@ -992,7 +1029,7 @@ public class ToDoForm extends JDialog {
 	 * @return 생성된 패널
 	 */
 	private static JPanel createSharedTodoPanel(JDialog dialog, JFrame parent, SharedToDo sharedTodo,
-			String dateKey) {
+			int dateKey) {
 		JPanel rowPanel = new JPanel(new BorderLayout());
 		rowPanel.setBackground(new Color(255, 248, 220));
 		rowPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -0,0 +1,247 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 파이프(|)로 구분된 일정 줄을 한 번 훑어서 해석하는 파서 클래스
+ * 정규식 split 대신 필드 경계 위치만 재사용 배열에 기록하고, 숫자는 부분 문자열 없이 그 자리에서 변환함
+ * 알림/반복 설정은 알려진 값이면 상수를 그대로 사용하므로 새 문자열을 만들지 않음
+ * 
+ * 결과는 기존 String.split("\\|") 기반 해석과 같음 (끝의 빈 필드는 없는 것으로 봄)
+ * 한 파서 인스턴스는 한 스레드에서만 사용해야 함
+ */
+
+class TodoLineParser {
+    static final int FIELD_COUNT = 18; // 완전한 공유 일정 줄의 필드 수 (생성자, ID 포함)
+    static final int BASIC_FIELD_COUNT = 16; // 기본 일정 줄의 필드 수
+    private static final int CREATOR_FIELD = 16; // 생성자 필드 위치
+    private static final int ID_FIELD = 17; // ID 필드 위치
+
+    private final int[] starts = new int[FIELD_COUNT]; // 필드 시작 위치 (재사용)
+    private final int[] ends = new int[FIELD_COUNT]; // 필드 끝 위치 (재사용)
+    private String line; // 해석 중인 줄
+    private int fieldCount; // 끝의 빈 필드를 제외한 필드 수
+
+    /**
+     * 해석 실패 정보 - 몇 번째 필드의 어느 위치에서 무엇이 잘못되었는지 전달
+     */
+    static class FormatException extends Exception {
+        private static final long serialVersionUID = 1L; // 직렬화 버전
+        final int field; // 문제 필드 위치 (필드 수 부족이면 -1)
+        final int position; // 줄 안의 문자 위치
+
+        FormatException(String reason, int field, int position) {
+            super(reason + (field >= 0 ? " (필드 " + field + ", 위치 " + position + ")" : ""), null, false, false);
+            this.field = field;
+            this.position = position;
+        }
+    }
+
+    /**
+     * 줄의 필드 경계를 기록 (한 번 훑기)
+     * 
+     * @param line 해석할 줄
+     * @return 끝의 빈 필드를 제외한 필드 수
+     */
+    int scan(String line) {
+        this.line = line;
+        int count = 0;
+        int nonEmptyCount = 0; // 마지막 비어 있지 않은 필드까지의 필드 수
+        int start = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i < length && line.charAt(i) != '|')
+                continue;
+            if (count < FIELD_COUNT) {
+                starts[count] = start;
+                ends[count] = i;
+            }
+            count++;
+            if (i > start) {
+                nonEmptyCount = count;
+            }
+            start = i + 1;
+        }
+        fieldCount = nonEmptyCount;
+        return fieldCount;
+    }
+
+    /**
+     * 마지막으로 훑은 줄의 필드 수 반환
+     * 
+     * @return 끝의 빈 필드를 제외한 필드 수
+     */
+    int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 완전한 공유 일정 줄 해석 (생성자, ID 포함 - ID가 없으면 레거시 ID 생성)
+     * 
+     * @param line 해석할 줄 (18번째 이후 필드는 무시)
+     * @return 해석된 공유 일정
+     * @throws FormatException 필드 수 부족 또는 숫자 형식 오류
+     */
+    SharedToDo parseComplete(String line) throws FormatException {
+        scan(line);
+        return parseScannedComplete();
+    }
+
+    /**
+     * 마지막으로 훑은 줄을 완전한 공유 일정으로 해석
+     * 
+     * @return 해석된 공유 일정
+     * @throws FormatException 필드 수 부족 또는 숫자 형식 오류
+     */
+    SharedToDo parseScannedComplete() throws FormatException {
+        if (fieldCount < FIELD_COUNT - 1) {
+            throw new FormatException("필드 수 부족: " + fieldCount + " < " + (FIELD_COUNT - 1), -1, line.length());
+        }
+        String creator = text(CREATOR_FIELD);
+        String id = fieldCount >= FIELD_COUNT ? text(ID_FIELD) : "legacy_" + System.currentTimeMillis();
+        return build(creator, id);
+    }
+
+    /**
+     * 마지막으로 훑은 줄을 기본 일정으로 해석하고 새 ID를 부여 (생성자/ID 필드는 무시)
+     * 
+     * @param creator 생성자 닉네임
+     * @return 새 ID가 부여된 공유 일정
+     * @throws FormatException 필드 수 부족 또는 숫자 형식 오류
+     */
+    SharedToDo parseScannedBasic(String creator) throws FormatException {
+        if (fieldCount < BASIC_FIELD_COUNT) {
+            throw new FormatException("필드 수 부족: " + fieldCount + " < " + BASIC_FIELD_COUNT, -1, line.length());
+        }
+        return build(creator, null);
+    }
+
+    /**
+     * 기본 일정 줄 해석 (새 ID 생성)
+     * 
+     * @param line    해석할 줄
+     * @param creator 생성자 닉네임
+     * @return 새 ID가 부여된 공유 일정
+     * @throws FormatException 필드 수 부족 또는 숫자 형식 오류
+     */
+    SharedToDo parseBasic(String line, String creator) throws FormatException {
+        scan(line);
+        return parseScannedBasic(creator);
+    }
+
+    /**
+     * 훑어 둔 필드로 공유 일정 생성
+     * 
+     * @param creator 생성자 닉네임
+     * @param id      일정 ID (null이면 새로 생성)
+     * @return 공유 일정
+     * @throws FormatException 숫자 형식 오류
+     */
+    private SharedToDo build(String creator, String id) throws FormatException {
+        String taskName = text(0);
+        String location = text(1);
+        boolean allDay = bool(2);
+        int startYear = number(3);
+        int startMonth = number(4);
+        int startDay = number(5);
+        int startHour = number(6);
+        int startMinute = number(7);
+        int endYear = number(8);
+        int endMonth = number(9);
+        int endDay = number(10);
+        int endHour = number(11);
+        int endMinute = number(12);
+        String alarm = option(13, ToDo.ALARM_OPTIONS);
+        String repeat = option(14, ToDo.REPEAT_OPTIONS);
+        String memo = text(15);
+
+        if (id == null) {
+            return new SharedToDo(taskName, location, allDay, startYear, startMonth, startDay, startHour, startMinute,
+                    endYear, endMonth, endDay, endHour, endMinute, alarm, repeat, memo, creator);
+        }
+        return new SharedToDo(taskName, location, allDay, startYear, startMonth, startDay, startHour, startMinute,
+                endYear, endMonth, endDay, endHour, endMinute, alarm, repeat, memo, creator, id);
+    }
+
+    /**
+     * 문자열 필드 반환
+     * 
+     * @param field 필드 위치
+     * @return 필드 문자열
+     */
+    private String text(int field) {
+        return field < fieldCount ? line.substring(starts[field], ends[field]) : "";
+    }
+
+    /**
+     * 알려진 선택지 중 하나면 그 상수를, 아니면 새 문자열을 반환
+     * 
+     * @param field   필드 위치
+     * @param options 선택지 목록
+     * @return 필드 값
+     */
+    private String option(int field, String[] options) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        for (String option : options) {
+            if (option.length() == length && line.startsWith(option, start)) {
+                return option;
+            }
+        }
+        return text(field);
+    }
+
+    /**
+     * 불린 필드 변환 (Boolean.parseBoolean과 같이 대소문자 무시 "true"만 참)
+     * 
+     * @param field 필드 위치
+     * @return 필드 값
+     */
+    private boolean bool(int field) {
+        int start = starts[field];
+        return ends[field] - start == 4 && line.regionMatches(true, start, "true", 0, 4);
+    }
+
+    /**
+     * 정수 필드를 부분 문자열 없이 변환 (Integer.parseInt와 같은 규칙)
+     * 
+     * @param field 필드 위치
+     * @return 필드 값
+     * @throws FormatException 숫자가 아니거나 범위를 넘는 경우
+     */
+    private int number(int field) throws FormatException {
+        int i = starts[field];
+        int end = ends[field];
+        if (i == end) {
+            throw new FormatException("빈 숫자 필드", field, i);
+        }
+
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+        char first = line.charAt(i);
+        if (first == '-' || first == '+') {
+            if (first == '-') {
+                negative = true;
+                limit = Integer.MIN_VALUE;
+            }
+            if (++i == end) {
+                throw new FormatException("부호만 있는 숫자", field, i);
+            }
+        }
+
+        // 음수로 누적하여 Integer.MIN_VALUE까지 표현
+        int multiplyMin = limit / 10;
+        int result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(line.charAt(i), 10);
+            if (digit < 0) {
+                throw new FormatException("숫자가 아닌 문자 '" + line.charAt(i) + "'", field, i);
+            }
+            if (result < multiplyMin || result * 10 < limit + digit) {
+                throw new FormatException("정수 범위 초과", field, i);
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+}
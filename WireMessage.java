@@ -0,0 +1,84 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트에게 보낼 메시지 하나 - 텍스트/바이너리 인코딩을 각각 처음 필요할 때 한 번만 만들어 공유함
+ * 같은 객체를 모든 클라이언트 대기열에 넣으면 수신자 수와 무관하게 방식별 인코딩은 한 번씩만 일어남
+ */
+
+class WireMessage {
+    private final String text; // 텍스트 메시지 (일정 메시지면 null)
+    private final int todoType; // 일정 프레임 종류 (BinaryProtocol.NEW_TODO 등)
+    private final SharedToDo todo; // 일정 메시지의 일정
+    private final long revision; // 일정 메시지의 리비전 (없으면 0)
+
+    private volatile byte[] textLine; // 인코딩된 텍스트 한 줄 (공유, 수정 금지)
+    private volatile byte[] binaryFrame; // 인코딩된 바이너리 프레임 (공유, 수정 금지)
+
+    private WireMessage(String text, int todoType, SharedToDo todo, long revision) {
+        this.text = text;
+        this.todoType = todoType;
+        this.todo = todo;
+        this.revision = revision;
+    }
+
+    /**
+     * 텍스트 메시지 생성 (바이너리 연결에는 TEXT 프레임으로 전송)
+     * 
+     * @param message 메시지 (줄바꿈 제외)
+     * @return 메시지
+     */
+    static WireMessage text(String message) {
+        return new WireMessage(message, BinaryProtocol.TEXT, null, 0);
+    }
+
+    /**
+     * 일정 메시지 생성 - 텍스트로는 "명령|일정[|리비전]" 형태로 전송
+     * 
+     * @param type     일정 프레임 종류 (BinaryProtocol.NEW_TODO 등)
+     * @param todo     일정
+     * @param revision 리비전 (없으면 0)
+     * @return 메시지
+     */
+    static WireMessage todo(int type, SharedToDo todo, long revision) {
+        return new WireMessage(null, type, todo, revision);
+    }
+
+    /**
+     * 연결 방식에 맞는 인코딩 반환 (여러 스레드에서 동시에 호출해도 결과는 같음)
+     * 
+     * @param binary 바이너리 프로토콜 연결 여부
+     * @return 인코딩된 바이트 (수정 금지)
+     */
+    byte[] encoded(boolean binary) {
+        if (binary) {
+            byte[] frame = binaryFrame;
+            if (frame == null) {
+                frame = todo == null ? BinaryProtocol.encodeText(text) : BinaryProtocol.encodeTodo(todoType, todo, revision);
+                binaryFrame = frame;
+            }
+            return frame;
+        }
+
+        byte[] line = textLine;
+        if (line == null) {
+            line = ServerProtocol.encodeLine(toText());
+            textLine = line;
+        }
+        return line;
+    }
+
+    /**
+     * 텍스트 프로토콜 형태 반환
+     * 
+     * @return 텍스트 메시지
+     */
+    String toText() {
+        if (todo == null) {
+            return text;
+        }
+        String message = BinaryProtocol.textCommand(todoType) + "|" + todo.toNetworkString();
+        return revision > 0 ? message + "|" + revision : message;
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 송신 대기열만 있는 가짜 클라이언트 - 소켓 대신 벤치마크 스레드가 대기열을 비움
+ */
+
+class DrainingSession implements ClientSession {
+    private final String nickname; // 닉네임
+    private final OutboundQueue queue = new OutboundQueue(() -> {
+    }); // 송신 대기열
+
+    DrainingSession(String nickname) {
+        this.nickname = nickname;
+    }
+
+    /**
+     * 대기열의 메시지를 모두 꺼냄
+     * 
+     * @return 꺼낸 바이트 수
+     */
+    long drain() {
+        long bytes = 0;
+        byte[] encoded;
+        while ((encoded = queue.poll()) != null) {
+            bytes += encoded.length;
+        }
+        return bytes;
+    }
+
+    @Override
+    public String getNickname() {
+        return nickname;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        queue.offer(WireMessage.text(message));
+    }
+
+    @Override
+    public void send(WireMessage message) {
+        queue.offer(message);
+    }
+
+    @Override
+    public void switchToBinary() {
+        queue.offerBinarySwitch();
+    }
+
+    @Override
+    public void sendSync(String epoch, long since) {
+        queue.offerSync(epoch, since);
+    }
+
+    @Override
+    public OutboundQueue getOutboundQueue() {
+        return queue;
+    }
+}
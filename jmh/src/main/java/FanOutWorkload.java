@@ -0,0 +1,85 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 브로드캐스트 팬아웃 작업 (FanOutBenchmark)
+ * - printWriterPerRecipient: 수신자마다 PrintWriter로 인코딩 (기존)
+ * - encodeOnceShared: 한 번 인코딩한 바이트를 모든 수신자가 공유 (현재)
+ * - server: CalendarServer.broadcastNewTodo 부터 각 클라이언트 송신 대기열에서 꺼낼 때까지 (절반은 바이너리 클라이언트)
+ */
+
+import calendar.bench.Workloads;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FanOutWorkload implements Workloads.FanOut {
+    private String method; // 측정 방식
+    private String message; // 브로드캐스트할 텍스트 메시지
+    private SharedToDo todo; // 서버 경로로 브로드캐스트할 일정
+    private PrintWriter[] writers; // 수신자별 PrintWriter
+    private OutputStream[] streams; // 수신자별 출력 스트림
+    private final List<DrainingSession> sessions = new ArrayList<>(); // 서버에 등록한 가짜 클라이언트
+    private long revision = 0; // 브로드캐스트 리비전
+
+    @Override
+    public void setUp(String method, int recipients) {
+        this.method = method;
+        message = "NEW_TODO|" + Benchmark.sampleTodo(0).toNetworkString();
+        todo = Benchmark.sampleTodo(3);
+        writers = new PrintWriter[recipients];
+        streams = new OutputStream[recipients];
+        for (int i = 0; i < recipients; i++) {
+            writers[i] = new PrintWriter(OutputStream.nullOutputStream(), true);
+            streams[i] = OutputStream.nullOutputStream();
+        }
+
+        if ("server".equals(method)) {
+            for (int i = 0; i < recipients; i++) {
+                DrainingSession session = new DrainingSession("bench" + i);
+                if (i % 2 == 1) {
+                    session.switchToBinary();
+                    session.drain();
+                }
+                sessions.add(session);
+                CalendarServer.addClient(session.getNickname(), session);
+            }
+        }
+    }
+
+    @Override
+    public long broadcast() throws Exception {
+        switch (method) {
+            case "printWriterPerRecipient":
+                for (PrintWriter writer : writers) {
+                    writer.println(message);
+                }
+                return writers.length;
+            case "encodeOnceShared":
+                byte[] encoded = ServerProtocol.encodeLine(message);
+                for (OutputStream stream : streams) {
+                    stream.write(encoded);
+                }
+                return encoded.length;
+            case "server":
+                CalendarServer.broadcastNewTodo(todo, ++revision);
+                long bytes = 0;
+                for (DrainingSession session : sessions) {
+                    bytes += session.drain();
+                }
+                return bytes;
+            default:
+                throw new IllegalArgumentException("알 수 없는 팬아웃 방식: " + method);
+        }
+    }
+
+    @Override
+    public void tearDown() {
+        for (DrainingSession session : sessions) {
+            CalendarServer.removeClient(session.getNickname());
+        }
+        sessions.clear();
+    }
+}
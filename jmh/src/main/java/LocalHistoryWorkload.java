@@ -0,0 +1,56 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트 개인 일정 10년치 작업 (LocalHistoryBenchmark)
+ * 120개월 x 300개를 저장해 두고 일정 하나 수정 후 저장, 석 달에 걸친 구간 로드 (텍스트 파일 vs 키-값 로그)
+ * 작업 폴더는 data_bench/
+ */
+
+import calendar.bench.Workloads;
+import java.io.File;
+
+public class LocalHistoryWorkload implements Workloads.LocalHistory {
+    private static final int PER_MONTH = 300; // 한 달 일정 수
+
+    private File dir; // 작업 폴더
+    private FileManager fileManager; // 측정 대상
+    private CalendarStore<ToDo> edited; // 수정할 달 (2021년 6월)의 일정
+    private ToDo target; // 수정할 일정
+    private long edits = 0; // 수정 횟수
+
+    @Override
+    public void setUp(String storage) {
+        dir = WorkDir.claim("data_bench");
+        fileManager = new FileManager("bench");
+        fileManager.setStorage(storage);
+        for (int i = 0; i < 120; i++) {
+            int year = 2016 + i / 12;
+            int month = i % 12;
+            CalendarStore<ToDo> tasks = Benchmark.sampleTasks(PER_MONTH, year, month);
+            fileManager.saveLocalTasks(year, month, tasks);
+            if (year == 2021 && month == 5) {
+                edited = tasks;
+            }
+        }
+        target = edited.get(DayKey.of(2021, 5, 15)).get(0);
+    }
+
+    @Override
+    public int edit() {
+        target.setMemo("수정 " + edits++);
+        fileManager.saveLocalTasks(2021, 5, edited);
+        return 1;
+    }
+
+    @Override
+    public int range() {
+        return fileManager.loadLocalRange(DayKey.of(2020, 10, 15), DayKey.of(2021, 1, 15)).size();
+    }
+
+    @Override
+    public void tearDown() {
+        WorkDir.delete(dir);
+    }
+}
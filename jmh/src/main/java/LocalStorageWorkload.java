@@ -0,0 +1,43 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트 개인 일정 파일 작업 (LocalStorageBenchmark)
+ * 한 달 분량 일정을 FileManager로 저장/로드 (텍스트 파일 vs 고정 길이 레코드 파일), 작업 폴더는 data_bench/
+ */
+
+import calendar.bench.Workloads;
+import java.io.File;
+
+public class LocalStorageWorkload implements Workloads.LocalStorage {
+    private File dir; // 작업 폴더
+    private FileManager fileManager; // 측정 대상
+    private String storage; // 저장 방식
+    private CalendarStore<ToDo> tasks; // 저장할 한 달 일정
+
+    @Override
+    public void setUp(String storage, int count) {
+        dir = WorkDir.claim("data_bench");
+        fileManager = new FileManager("bench");
+        this.storage = storage;
+        tasks = Benchmark.sampleTasks(count, 2025, 4);
+        fileManager.saveLocalTasks(2025, 4, tasks, storage);
+    }
+
+    @Override
+    public int save() {
+        fileManager.saveLocalTasks(2025, 4, tasks, storage);
+        return tasks.size();
+    }
+
+    @Override
+    public int load() {
+        return fileManager.loadLocalTasks(2025, 4, storage).size();
+    }
+
+    @Override
+    public void tearDown() {
+        WorkDir.delete(dir);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 달 넘기기 작업 (MonthNavigationBenchmark) - 한 달 1000개, 1월부터 12월까지 넘겼다가 되돌아오기를 반복
+ * 매번 저장 후 파일에서 다시 읽기(기존) vs 월 캐시 + 앞뒤 달 미리 읽기(현재), 작업 폴더는 data_bench/
+ */
+
+import calendar.bench.Workloads;
+import java.io.File;
+
+public class MonthNavigationWorkload implements Workloads.MonthNavigation {
+    private File dir; // 작업 폴더
+    private FileManager fileManager; // 파일 저장소
+    private MonthCache cache; // 월 캐시 (기존 방식이면 null)
+    private CalendarStore<ToDo> shown; // 기존 방식에서 화면에 보이는 달
+    private int step = 0; // 넘긴 횟수
+
+    @Override
+    public void setUp(boolean cached) {
+        dir = WorkDir.claim("data_bench");
+        fileManager = new FileManager("bench");
+        for (int month = 0; month < 12; month++) {
+            fileManager.saveLocalTasks(2025, month, Benchmark.sampleTasks(1000, 2025, month));
+        }
+        if (cached) {
+            cache = new MonthCache(fileManager);
+        } else {
+            shown = fileManager.loadLocalTasks(2025, 0);
+        }
+    }
+
+    @Override
+    public int next() {
+        int month = position(step);
+        int next = position(++step);
+        if (cache != null) {
+            CalendarStore<ToDo> tasks = cache.get(2025, next);
+            cache.prefetchAround(2025, next);
+            return tasks.size();
+        }
+        fileManager.saveLocalTasks(2025, month, shown);
+        shown = fileManager.loadLocalTasks(2025, next);
+        return shown.size();
+    }
+
+    /**
+     * n번째로 보이는 달 (0 ~ 11 ~ 0 을 오감)
+     * 
+     * @param step 넘긴 횟수
+     * @return 월 (0부터 시작)
+     */
+    private static int position(int step) {
+        int phase = step % 22;
+        return phase <= 11 ? phase : 22 - phase;
+    }
+
+    @Override
+    public void tearDown() {
+        if (cache != null) {
+            cache.close();
+        }
+        WorkDir.delete(dir);
+    }
+}
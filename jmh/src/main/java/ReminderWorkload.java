@@ -0,0 +1,62 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 알림 예약 작업 (ReminderBenchmark)
+ * 기준 시각을 일정보다 앞에 두어 모든 일정이 예약되고 알림은 뜨지 않음
+ */
+
+import calendar.bench.Workloads;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReminderWorkload implements Workloads.Reminders {
+    private static final LocalDateTime NOW = LocalDateTime.of(2000, 1, 1, 0, 0); // 기준 시각
+
+    private final ReminderService reminderService = new ReminderService(); // 개인 일정 알림 (타이머는 시작하지 않음)
+    private CalendarStore<ToDo> tasks; // 개인 일정 (열두 달)
+    private List<SharedToDo> sharedTodos; // 공유 일정 (2099년)
+
+    @Override
+    public void setUp(int count) {
+        tasks = new CalendarStore<>();
+        for (int month = 0; month < 12; month++) {
+            CalendarStore<ToDo> monthTasks = Benchmark.sampleTasks(count / 12, 2025, month);
+            for (int key : monthTasks.keys()) {
+                tasks.put(key, monthTasks.get(key));
+            }
+        }
+        reminderService.replaceAll(tasks, NOW);
+
+        sharedTodos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SharedToDo todo = Benchmark.sampleTodo(i);
+            todo.setStartYear(2099);
+            sharedTodos.add(todo);
+        }
+    }
+
+    @Override
+    public int rebuild() {
+        reminderService.replaceAll(tasks, NOW);
+        return reminderService.getScheduledCount();
+    }
+
+    @Override
+    public int tick() {
+        reminderService.fireDue(NOW);
+        return reminderService.getScheduledCount();
+    }
+
+    @Override
+    public int scheduleShared() {
+        SharedReminderScheduler scheduler = new SharedReminderScheduler(id -> {
+        });
+        for (SharedToDo todo : sharedTodos) {
+            scheduler.schedule(todo);
+        }
+        return scheduler.size();
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버 공유 일정 스냅샷 작업 (ServerStorageBenchmark) - ServerDataManager 저장/로드, 작업 폴더는 server_data/
+ */
+
+import calendar.bench.Workloads;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ServerStorageWorkload implements Workloads.ServerStorage {
+    private File dir; // 작업 폴더
+    private List<SharedToDo> todos; // 저장할 공유 일정
+
+    @Override
+    public void setUp(int count) {
+        dir = WorkDir.claim("server_data");
+        todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todos.add(Benchmark.sampleTodo(i));
+        }
+        if (!ServerDataManager.saveSharedTodos(todos)) {
+            throw new IllegalStateException("공유 일정 스냅샷 저장 실패");
+        }
+    }
+
+    @Override
+    public boolean save() {
+        return ServerDataManager.saveSharedTodos(todos);
+    }
+
+    @Override
+    public int load() {
+        return ServerDataManager.loadSharedTodos().size();
+    }
+
+    @Override
+    public void tearDown() {
+        todos = null;
+        WorkDir.delete(dir);
+    }
+}
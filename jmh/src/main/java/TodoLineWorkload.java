@@ -0,0 +1,29 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 공유 일정 한 줄의 직렬화/해석 작업 (TodoLineBenchmark) - 기존 split 파서 vs 커서 파서
+ */
+
+import calendar.bench.Workloads;
+
+public class TodoLineWorkload implements Workloads.TodoLine {
+    private final SharedToDo todo = Benchmark.sampleTodo(7); // 직렬화할 일정
+    private final String line = todo.toNetworkString(); // 해석할 줄
+
+    @Override
+    public int format() {
+        return todo.toNetworkString().length();
+    }
+
+    @Override
+    public int parseCursor() {
+        return SharedToDo.fromCompleteNetworkString(line).getStartDay();
+    }
+
+    @Override
+    public int parseLegacy() {
+        return LegacyTodoParser.fromCompleteNetworkString(line).getStartDay();
+    }
+}
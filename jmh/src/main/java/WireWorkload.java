@@ -0,0 +1,47 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 브로드캐스트 한 건의 인코딩/디코딩 작업 (WireBenchmark) - 텍스트 프로토콜 vs 바이너리 프로토콜
+ */
+
+import calendar.bench.Workloads;
+
+public class WireWorkload implements Workloads.Wire {
+    private static final long REVISION = 123456; // 브로드캐스트 리비전
+
+    private boolean binary; // 바이너리 프레임 여부
+    private SharedToDo todo; // 보낼 일정
+    private byte[] encoded; // 디코딩할 메시지
+
+    @Override
+    public void setUp(boolean binary) {
+        this.binary = binary;
+        todo = Benchmark.sampleTodo(7);
+        encoded = encode();
+    }
+
+    @Override
+    public byte[] encode() {
+        return WireMessage.todo(BinaryProtocol.NEW_TODO, todo, REVISION).encoded(binary);
+    }
+
+    @Override
+    public long decode() throws Exception {
+        if (binary) {
+            BinaryProtocol.Frame frame = BinaryProtocol.decodeFrame(encoded, encoded.length, null);
+            return frame.todo.getStartDay() + frame.revision;
+        }
+        // CalendarClient의 텍스트 수신 경로와 같은 처리
+        String message = new String(encoded, 0, encoded.length - 1, ServerProtocol.CHARSET);
+        String data = message.split("\\|", 2)[1];
+        SharedToDo decoded = SharedToDo.fromCompleteNetworkString(data);
+        return decoded.getStartDay() + Long.parseLong(data.substring(data.lastIndexOf('|') + 1));
+    }
+
+    @Override
+    public int bytesPerEvent() {
+        return encoded.length;
+    }
+}
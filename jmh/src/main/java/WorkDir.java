@@ -0,0 +1,46 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 저장소 벤치마크의 작업 폴더 관리
+ * 앱은 현재 폴더 아래에 data_닉네임/, server_data/ 를 쓰므로 벤치마크는 gradle :jmh:jmh 의 작업 폴더(jmh/build/jmh-work)에서 실행됨
+ * 실제 데이터를 덮어쓰지 않도록 폴더가 이미 있으면 측정을 거절하고, 측정이 끝나면 지움
+ */
+
+import java.io.File;
+
+final class WorkDir {
+    private WorkDir() {
+    }
+
+    /**
+     * 작업 폴더 확보
+     * 
+     * @param name 폴더 이름 (예: data_bench)
+     * @return 폴더 (아직 만들지 않음 - 앱 코드가 만듦)
+     * @throws IllegalStateException 폴더가 이미 있는 경우
+     */
+    static File claim(String name) {
+        File dir = new File(name);
+        if (dir.exists()) {
+            throw new IllegalStateException(dir.getAbsolutePath() + " 폴더가 이미 있음 - 빈 작업 폴더에서 실행하세요");
+        }
+        return dir;
+    }
+
+    /**
+     * 벤치마크가 만든 폴더 삭제
+     * 
+     * @param file 삭제할 파일 또는 폴더
+     */
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 브로드캐스트 팬아웃 벤치마크 - 한 건을 수신자 전체에게 보내는 시간 (FanOutWorkload)
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FanOutBenchmark {
+    @Param({ "printWriterPerRecipient", "encodeOnceShared", "server" })
+    public String method; // 팬아웃 방식
+
+    @Param({ "10", "100", "500" })
+    public int recipients; // 수신자 수
+
+    private Workloads.FanOut workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("FanOutWorkload", Workloads.FanOut.class);
+        workload.setUp(method, recipients);
+    }
+
+    @Benchmark
+    public long broadcast() throws Exception {
+        return workload.broadcast();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workload.tearDown();
+        Workloads.restoreConsole();
+    }
+}
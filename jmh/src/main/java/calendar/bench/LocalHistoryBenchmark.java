@@ -0,0 +1,59 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트 개인 일정 10년치 벤치마크 - 일정 하나 수정 후 저장, 석 달 구간 로드 (LocalHistoryWorkload)
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalHistoryBenchmark {
+    @Param({ "text", "kv" })
+    public String storage; // FileManager 저장 방식
+
+    private Workloads.LocalHistory workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("LocalHistoryWorkload", Workloads.LocalHistory.class);
+        workload.setUp(storage);
+    }
+
+    @Benchmark
+    public int edit() {
+        return workload.edit();
+    }
+
+    @Benchmark
+    public int range() {
+        return workload.range();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workload.tearDown();
+        Workloads.restoreConsole();
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 클라이언트 개인 일정 파일 벤치마크 - 한 달 분량 저장/로드 (LocalStorageWorkload)
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalStorageBenchmark {
+    @Param({ "text", "record" })
+    public String storage; // FileManager 저장 방식
+
+    @Param({ "100", "1000", "10000" })
+    public int count; // 한 달 일정 수
+
+    private Workloads.LocalStorage workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("LocalStorageWorkload", Workloads.LocalStorage.class);
+        workload.setUp(storage, count);
+    }
+
+    @Benchmark
+    public int save() {
+        return workload.save();
+    }
+
+    @Benchmark
+    public int load() {
+        return workload.load();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workload.tearDown();
+        Workloads.restoreConsole();
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 달 넘기기 벤치마크 - 매번 저장 후 다시 읽기(기존) vs 월 캐시 + 미리 읽기(현재) (MonthNavigationWorkload)
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthNavigationBenchmark {
+    @Param({ "reload", "cached" })
+    public String method; // 달 넘기기 방식
+
+    private Workloads.MonthNavigation workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("MonthNavigationWorkload", Workloads.MonthNavigation.class);
+        workload.setUp("cached".equals(method));
+    }
+
+    @Benchmark
+    public int next() {
+        return workload.next();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workload.tearDown();
+        Workloads.restoreConsole();
+    }
+}
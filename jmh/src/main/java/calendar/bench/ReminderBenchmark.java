@@ -0,0 +1,65 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 알림 예약 벤치마크 (ReminderWorkload)
+ * - rebuild: 개인 일정 전체 재예약 (월 이동 시), tick: 알림이 없는 시점에 깨어났을 때
+ * - scheduleShared: 서버 시작 시 공유 일정 전체 예약
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderBenchmark {
+    @Param({ "1000", "100000" })
+    public int count; // 일정 수
+
+    private Workloads.Reminders workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("ReminderWorkload", Workloads.Reminders.class);
+        workload.setUp(count);
+    }
+
+    @Benchmark
+    public int rebuild() {
+        return workload.rebuild();
+    }
+
+    @Benchmark
+    public int tick() {
+        return workload.tick();
+    }
+
+    @Benchmark
+    public int scheduleShared() {
+        return workload.scheduleShared();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Workloads.restoreConsole();
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 서버 공유 일정 스냅샷 벤치마크 - ServerDataManager 저장/로드 (ServerStorageWorkload)
+ * 100만 개는 연산 한 번이 초 단위이므로 반복 수를 줄이고 힙을 늘려 실행함
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ServerStorageBenchmark {
+    @Param({ "1000", "100000", "1000000" })
+    public int count; // 공유 일정 수
+
+    private Workloads.ServerStorage workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("ServerStorageWorkload", Workloads.ServerStorage.class);
+        workload.setUp(count);
+    }
+
+    @Benchmark
+    public boolean save() {
+        return workload.save();
+    }
+
+    @Benchmark
+    public int load() {
+        return workload.load();
+    }
+
+    @TearDown
+    public void tearDown() {
+        workload.tearDown();
+        Workloads.restoreConsole();
+    }
+}
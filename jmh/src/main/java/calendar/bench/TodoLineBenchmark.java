@@ -0,0 +1,59 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 공유 일정 줄 벤치마크 - 직렬화, 커서 파서 해석, 기존 split 파서 해석 (TodoLineWorkload)
+ * 두 파서의 결과가 같은지는 퍼즈 테스트(test/TodoLineParserFuzzTest, gradle test)가 검사함
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoLineBenchmark {
+    private Workloads.TodoLine workload; // 측정 대상
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("TodoLineWorkload", Workloads.TodoLine.class);
+    }
+
+    @Benchmark
+    public int format() {
+        return workload.format();
+    }
+
+    @Benchmark
+    public int parseCursor() {
+        return workload.parseCursor();
+    }
+
+    @Benchmark
+    public int parseLegacy() {
+        return workload.parseLegacy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Workloads.restoreConsole();
+    }
+}
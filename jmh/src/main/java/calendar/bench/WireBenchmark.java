@@ -0,0 +1,90 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 전송 형식 벤치마크 - 브로드캐스트 한 건의 인코딩/디코딩 시간과 전송 크기 (WireWorkload)
+ * 크기는 보조 결과 bytesPerEvent 로 시간과 함께 결과 파일에 남음
+ */
+
+package calendar.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireBenchmark {
+    @Param({ "text", "binary" })
+    public String format; // 전송 형식
+
+    private Workloads.Wire workload; // 측정 대상
+
+    /**
+     * 한 건의 전송 크기 보고용 보조 결과
+     * JMH는 EVENTS 값을 반복마다 0으로 되돌린 뒤 측정 반복, 스레드, 포크에 걸쳐 합산하므로
+     * 연산마다 그 수로 나눈 몫을 기록하여 합계가 한 건의 크기가 되게 함
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public double bytesPerEvent; // 보고할 값 (한 건의 크기를 합산 횟수로 나눈 몫)
+
+        private double share; // 반복 하나가 보고할 몫
+
+        @Setup(Level.Trial)
+        public void setUp(WireBenchmark benchmark, BenchmarkParams params) {
+            int reports = params.getMeasurement().getCount() * params.getThreads() * Math.max(1, params.getForks());
+            share = benchmark.workload.bytesPerEvent() / (double) reports;
+        }
+
+        /**
+         * 이번 반복의 몫 기록 (필드 쓰기 한 번이라 측정에 영향 없음)
+         */
+        void record() {
+            bytesPerEvent = share;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Workloads.muteConsole();
+        workload = Workloads.create("WireWorkload", Workloads.Wire.class);
+        workload.setUp("binary".equals(format));
+    }
+
+    @Benchmark
+    public byte[] encode(Size size) {
+        size.record();
+        return workload.encode();
+    }
+
+    @Benchmark
+    public long decode(Size size) throws Exception {
+        size.record();
+        return workload.decode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Workloads.restoreConsole();
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * JMH 벤치마크와 측정 대상 작업을 잇는 인터페이스 모음
+ * JMH는 기본 패키지의 벤치마크를 받지 않고, 앱 클래스는 기본 패키지라 이름 있는 패키지에서 참조할 수 없음
+ * 그래서 측정할 작업은 이 모듈의 기본 패키지 클래스(...Workload)가 아래 인터페이스로 구현하고,
+ * 벤치마크는 클래스 이름으로 만들어 호출함 (인터페이스 호출 비용은 측정 대상에 비해 무시할 만함)
+ */
+
+package calendar.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+public final class Workloads {
+    private static PrintStream console; // 음소거 전의 System.out (음소거 중이 아니면 null)
+
+    private Workloads() {
+    }
+
+    /**
+     * 브로드캐스트 팬아웃 - 한 건의 일정을 여러 수신자에게 보냄
+     */
+    public interface FanOut {
+        /**
+         * 수신자 준비
+         * 
+         * @param method     printWriterPerRecipient(기존), encodeOnceShared(현재), server(CalendarServer 전체 경로)
+         * @param recipients 수신자 수
+         */
+        void setUp(String method, int recipients);
+
+        /**
+         * 한 건 브로드캐스트
+         * 
+         * @return 제거 방지용 값
+         */
+        long broadcast() throws Exception;
+
+        /**
+         * 등록한 수신자 정리
+         */
+        void tearDown();
+    }
+
+    /**
+     * 브로드캐스트 한 건(NEW_TODO)의 인코딩/디코딩 - 텍스트 프로토콜 vs 바이너리 프로토콜
+     */
+    public interface Wire {
+        /**
+         * 일정과 디코딩할 메시지 준비
+         * 
+         * @param binary true면 바이너리 프레임, false면 텍스트 줄
+         */
+        void setUp(boolean binary);
+
+        /**
+         * 한 건 인코딩
+         * 
+         * @return 전송할 바이트
+         */
+        byte[] encode();
+
+        /**
+         * 한 건 디코딩 (클라이언트 수신 경로와 같은 처리)
+         * 
+         * @return 제거 방지용 값
+         */
+        long decode() throws Exception;
+
+        /**
+         * 한 건의 전송 크기
+         * 
+         * @return 바이트 수
+         */
+        int bytesPerEvent();
+    }
+
+    /**
+     * 공유 일정 한 줄의 직렬화/해석 - 기존 split 파서 vs 커서 파서
+     */
+    public interface TodoLine {
+        /**
+         * 일정 줄 생성 (SharedToDo.toNetworkString)
+         * 
+         * @return 줄 길이
+         */
+        int format();
+
+        /**
+         * 커서 파서로 해석 (SharedToDo.fromCompleteNetworkString)
+         * 
+         * @return 제거 방지용 값
+         */
+        int parseCursor();
+
+        /**
+         * 기존 split 파서로 해석 (LegacyTodoParser)
+         * 
+         * @return 제거 방지용 값
+         */
+        int parseLegacy();
+    }
+
+    /**
+     * 클라이언트 개인 일정 - 한 달 분량의 FileManager 저장/로드
+     */
+    public interface LocalStorage {
+        /**
+         * 작업 폴더와 일정 준비 (로드용 파일도 미리 저장)
+         * 
+         * @param storage 저장 방식 (FileManager의 text, record)
+         * @param count   한 달 일정 수
+         */
+        void setUp(String storage, int count);
+
+        /**
+         * 한 달 저장
+         * 
+         * @return 저장한 일정 수
+         */
+        int save();
+
+        /**
+         * 한 달 로드
+         * 
+         * @return 읽은 일정 수
+         */
+        int load();
+
+        /**
+         * 작업 폴더 삭제
+         */
+        void tearDown();
+    }
+
+    /**
+     * 클라이언트 개인 일정 10년치 - 일정 하나 수정 후 저장, 석 달 구간 로드
+     */
+    public interface LocalHistory {
+        /**
+         * 작업 폴더에 120개월 x 300개 저장
+         * 
+         * @param storage 저장 방식 (FileManager의 text, kv)
+         */
+        void setUp(String storage);
+
+        /**
+         * 일정 하나의 메모를 바꾸고 그 달 저장
+         * 
+         * @return 제거 방지용 값
+         */
+        int edit();
+
+        /**
+         * 2020-11-15 ~ 2021-02-15 구간 로드
+         * 
+         * @return 읽은 날짜 수
+         */
+        int range();
+
+        /**
+         * 작업 폴더 삭제
+         */
+        void tearDown();
+    }
+
+    /**
+     * 달 넘기기 (한 달 1000개, 1월 ~ 12월을 오감)
+     */
+    public interface MonthNavigation {
+        /**
+         * 작업 폴더에 열두 달 저장
+         * 
+         * @param cached false면 매번 저장 후 다시 읽기(기존), true면 월 캐시 + 앞뒤 달 미리 읽기(현재)
+         */
+        void setUp(boolean cached);
+
+        /**
+         * 다음 달로 넘김
+         * 
+         * @return 보이는 달의 날짜 수
+         */
+        int next();
+
+        /**
+         * 캐시 종료와 작업 폴더 삭제
+         */
+        void tearDown();
+    }
+
+    /**
+     * 서버 공유 일정 스냅샷 - ServerDataManager 저장/로드
+     */
+    public interface ServerStorage {
+        /**
+         * 작업 폴더에 일정 준비 (로드용 스냅샷도 미리 저장)
+         * 
+         * @param count 공유 일정 수
+         */
+        void setUp(int count);
+
+        /**
+         * 스냅샷 저장
+         * 
+         * @return 저장 성공 여부
+         */
+        boolean save();
+
+        /**
+         * 스냅샷 로드
+         * 
+         * @return 읽은 일정 수
+         */
+        int load();
+
+        /**
+         * 작업 폴더 삭제
+         */
+        void tearDown();
+    }
+
+    /**
+     * 알림 예약 - 개인 일정(ReminderService)과 서버 공유 일정(SharedReminderScheduler)
+     */
+    public interface Reminders {
+        /**
+         * 열두 달에 고르게 퍼진 일정 준비 (기준 시각보다 뒤라 모두 예약되고 알림은 뜨지 않음)
+         * 
+         * @param count 일정 수
+         */
+        void setUp(int count);
+
+        /**
+         * 전체 재예약 (월 이동 시)
+         * 
+         * @return 예약된 알림 수
+         */
+        int rebuild();
+
+        /**
+         * 알림이 없는 시점에 깨어남
+         * 
+         * @return 예약된 알림 수
+         */
+        int tick();
+
+        /**
+         * 서버 시작 시 공유 일정 전체 예약 (스케줄러 스레드는 시작하지 않음)
+         * 
+         * @return 예약된 알림 수
+         */
+        int scheduleShared();
+    }
+
+    /**
+     * 기본 패키지의 작업 클래스 생성
+     * 
+     * @param className 클래스 이름
+     * @param type      구현한 인터페이스
+     * @return 작업 객체
+     */
+    static <T> T create(String className, Class<T> type) {
+        try {
+            return type.cast(Class.forName(className).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("작업 클래스를 만들 수 없음: " + className, e);
+        }
+    }
+
+    /**
+     * 측정 대상 코드의 콘솔 로그를 버림 (출력 비용은 포함, JMH 결과는 별도 스트림으로 전달됨)
+     */
+    static synchronized void muteConsole() {
+        if (console == null) {
+            console = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    /**
+     * 콘솔 로그 복원
+     */
+    static synchronized void restoreConsole() {
+        if (console != null) {
+            System.setOut(console);
+            console = null;
+        }
+    }
+}
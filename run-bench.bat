@@ -0,0 +1,13 @@
+REM run-bench.bat
+@echo off
+echo Compiling Java files...
+javac -encoding UTF-8 *.java
+if %errorlevel% neq 0 (
+    echo Compilation failed!
+    pause
+    exit /b 1
+)
+REM Storage, server snapshot, reminder, fan-out, wire format and parser benchmarks live in the JMH module (gradle :jmh:jmh)
+echo Starting Benchmark...
+java -Dcalendar.bench.csv=bench_results.csv Benchmark %*
+pause
@@ -0,0 +1,11 @@
+#!/bin/bash
+echo "📅 벤치마크 컴파일 중..."
+javac -encoding UTF-8 *.java
+if [ $? -ne 0 ]; then
+    echo "컴파일 실패!"
+    exit 1
+fi
+# 저장소/서버 스냅샷/알림/팬아웃/전송 형식/일정 줄 파서 벤치마크는 JMH 모듈에 있음 (gradle :jmh:jmh)
+# 결과는 bench_results.csv 에 누적되어 릴리스 간 비교에 사용
+echo "벤치마크 시작..."
+java -Dcalendar.bench.csv=bench_results.csv Benchmark "$@"
@@ -0,0 +1,12 @@
+REM run-migrate.bat
+@echo off
+REM Usage: run-migrate.bat <nickname> <text|record|kv>
+echo Compiling Java files...
+javac -encoding UTF-8 *.java
+if %errorlevel% neq 0 (
+    echo Compilation failed!
+    pause
+    exit /b 1
+)
+java StorageMigration %*
+pause
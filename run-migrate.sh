@@ -0,0 +1,9 @@
+#!/bin/bash
+# 사용법: ./run-migrate.sh <닉네임> <text|record|kv>
+echo "📅 저장 방식 변환 도구 컴파일 중..."
+javac -encoding UTF-8 *.java
+if [ $? -ne 0 ]; then
+    echo "컴파일 실패!"
+    exit 1
+fi
+java StorageMigration "$@"
@@ -8,5 +8,5 @@ if %errorlevel% neq 0 (
     exit /b 1
 )
 echo Starting Calendar Server...
-java CalendarServer
+java CalendarServer %*
 pause
\ No newline at end of file
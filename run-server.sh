@@ -6,4 +6,4 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 echo "서버 시작..."
-java CalendarServer
\ No newline at end of file
+java CalendarServer "$@"
\ No newline at end of file
@@ -0,0 +1,16 @@
+REM run-startup.bat
+@echo off
+REM Usage: run-startup.bat [runs] (start the server first to measure an online startup)
+echo Compiling Java files...
+javac -encoding UTF-8 *.java
+if %errorlevel% neq 0 (
+    echo Compilation failed!
+    pause
+    exit /b 1
+)
+set RUNS=%1
+if "%RUNS%"=="" set RUNS=5
+echo Measuring startup time...
+for /L %%i in (1,1,%RUNS%) do java -Dcalendar.nickname=startup_bench -Dcalendar.startup.exit=true -Dcalendar.startup.csv=startup_results.csv ProgramApp
+type startup_results.csv
+pause
@@ -0,0 +1,16 @@
+#!/bin/bash
+# 사용법: ./run-startup.sh [반복 횟수] (서버를 먼저 띄우면 온라인, 아니면 오프라인 시작을 측정)
+echo "📅 시작 시간 측정 컴파일 중..."
+javac -encoding UTF-8 *.java
+if [ $? -ne 0 ]; then
+    echo "컴파일 실패!"
+    exit 1
+fi
+# 닉네임을 묻지 않고 시작하여 동기화(또는 연결 실패)까지 측정한 뒤 창을 닫음
+# 결과는 startup_results.csv 에 누적되어 릴리스 간 비교에 사용
+RUNS=${1:-5}
+for i in $(seq 1 "$RUNS"); do
+    echo "시작 측정 $i/$RUNS..."
+    java -Dcalendar.nickname=startup_bench -Dcalendar.startup.exit=true \
+        -Dcalendar.startup.csv=startup_results.csv ProgramApp | grep "시작"
+done
@@ -0,0 +1,121 @@
+/**
+ * @author 자바 프로그래밍 5조
+ * @version 1.0
+ * @since 2025-05-07
+ * 
+ * 커서 파서(SharedToDo.fromCompleteNetworkString)와 기존 split 파서(LegacyTodoParser)의 결과가 같은지
+ * 경계 조건을 노리는 무작위 일정 줄로 검사 (불일치가 하나라도 있으면 실패)
+ * 
+ * 난수 시드는 calendar.fuzz.seed 로 바꿀 수 있음 (실패 메시지에 사용한 시드를 남김)
+ */
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TodoLineParserFuzzTest {
+    private static final int CASES = 200_000; // 검사할 줄 수
+    private static final long SEED = Long.getLong("calendar.fuzz.seed", 20250507L); // 난수 시드
+
+    private PrintStream out; // 원래 System.out
+    private PrintStream err; // 원래 System.err
+
+    @BeforeEach
+    void muteParserLogs() {
+        // 두 파서 모두 줄마다 파싱 로그를 찍으므로 검사 중에는 버림
+        out = System.out;
+        err = System.err;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @AfterEach
+    void restoreLogs() {
+        System.setOut(out);
+        System.setErr(err);
+    }
+
+    @Test
+    void cursorParserMatchesLegacySplitParser() {
+        Random random = new Random(SEED);
+        int mismatches = 0;
+        StringBuilder report = new StringBuilder();
+        for (int i = 0; i < CASES; i++) {
+            String line = randomTodoLine(random);
+            SharedToDo expected = LegacyTodoParser.fromCompleteNetworkString(line);
+            SharedToDo actual = SharedToDo.fromCompleteNetworkString(line);
+            if (!sameTodo(expected, actual) && ++mismatches <= 5) {
+                report.append("\n불일치: ").append(line)
+                        .append("\n  기존: ").append(expected == null ? null : expected.toNetworkString())
+                        .append("\n  커서: ").append(actual == null ? null : actual.toNetworkString());
+            }
+        }
+        assertEquals(0, mismatches, "시드 " + SEED + ", " + CASES + "줄 중 불일치" + report);
+    }
+
+    /**
+     * 두 해석 결과가 같은지 비교 (레거시 ID는 생성 시각이 다를 수 있으므로 접두사만 비교)
+     * 
+     * @param expected 기존 파서 결과
+     * @param actual   커서 파서 결과
+     * @return 같으면 true
+     */
+    private static boolean sameTodo(SharedToDo expected, SharedToDo actual) {
+        if (expected == null || actual == null) {
+            return expected == actual;
+        }
+        if (expected.getId().startsWith("legacy_") && actual.getId().startsWith("legacy_")) {
+            actual.setId(expected.getId());
+        }
+        return expected.toNetworkString().equals(actual.toNetworkString());
+    }
+
+    /**
+     * 파서 경계 조건을 노리는 무작위 일정 줄 생성
+     * 
+     * @param random 난수 생성기
+     * @return 일정 줄
+     */
+    private static String randomTodoLine(Random random) {
+        String[] pieces = { "", "회의", "true", "TRUE", "false", "0", "7", "-3", "+12", "007", "2147483647",
+                "2147483648", "-2147483648", "-2147483649", "+", "-", "1a", " 5", "\u0663", "10분 전", "매주",
+                "없음", "user_1", "a b", "\r" };
+        StringBuilder line = new StringBuilder();
+        int fields = random.nextInt(22);
+        for (int f = 0; f < fields; f++) {
+            if (f > 0) {
+                line.append('|');
+            }
+            int parts = random.nextInt(3);
+            for (int p = 0; p < parts; p++) {
+                line.append(pieces[random.nextInt(pieces.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                line.append(random.nextInt(100));
+            }
+        }
+        // 정상 형식 줄도 섞어서 성공 경로를 충분히 검사
+        if (random.nextInt(3) == 0) {
+            return validTodo(random.nextInt(1000)).toNetworkString() + (random.nextBoolean() ? "|" + line : "");
+        }
+        return line.toString();
+    }
+
+    /**
+     * 정상 형식의 공유 일정 생성
+     * 
+     * @param i 일련번호
+     * @return 공유 일정
+     */
+    private static SharedToDo validTodo(int i) {
+        return new SharedToDo("회의 " + i, "회의실 " + (i % 10), i % 7 == 0,
+                2025, i % 12, 1 + i % 28, 9 + i % 8, (i * 5) % 60,
+                2025, i % 12, 1 + i % 28, 10 + i % 8, (i * 5) % 60,
+                "10분 전", "없음", "메모 " + i, "user" + (i % 50), "user" + (i % 50) + "_" + i);
+    }
+}